@@ -9,9 +9,11 @@ import client.net.sf.saxon.ce.expr.sort.CodepointCollator;
 import client.net.sf.saxon.ce.lib.ErrorListener;
 import client.net.sf.saxon.ce.lib.NamespaceConstant;
 import client.net.sf.saxon.ce.lib.StandardErrorListener;
+import client.net.sf.saxon.ce.lib.TaskRunner;
 import client.net.sf.saxon.ce.lib.StringCollator;
 import client.net.sf.saxon.ce.om.DocumentInfo;
 import client.net.sf.saxon.ce.om.DocumentPool;
+import client.net.sf.saxon.ce.regex.RegexCache;
 import client.net.sf.saxon.ce.trans.XPathException;
 import client.net.sf.saxon.ce.tree.util.URI;
 import client.net.sf.saxon.ce.value.DateTimeValue;
@@ -64,6 +66,8 @@ public class Configuration {
 
     private ErrorListener errorListener = new StandardErrorListener();
 
+    private TaskRunner taskRunner = null;
+
     private DocumentPool globalDocumentPool = new DocumentPool();
     private int implicitTimezone = DateTimeValue.fromJavaDate(new Date()).getTimezoneInMinutes();
 
@@ -72,6 +76,8 @@ public class Configuration {
 
     private int nextDocumentNumber = 0;
 
+    private RegexCache regexCache = new RegexCache();
+
     /**
      * Create a non-schema-aware configuration object with default settings for all options.
      *
@@ -154,6 +160,38 @@ public class Configuration {
         this.errorListener = listener;
     }
 
+    /**
+     * Get the TaskRunner used to run independent tasks in parallel
+     * @return the TaskRunner, or null if all work is to be done sequentially (which is always
+     * the case in the browser)
+     */
+
+    public TaskRunner getTaskRunner() {
+        return taskRunner;
+    }
+
+    /**
+     * Set a TaskRunner to be used to run independent tasks in parallel. This is useful only when
+     * running on a Java VM.
+     * @param runner the TaskRunner, or null if all work is to be done sequentially
+     */
+
+    public void setTaskRunner(TaskRunner runner) {
+        this.taskRunner = runner;
+    }
+
+    /**
+     * Get the cache of regular expressions that are compiled at run-time
+     * <p/>
+     * This method is intended for internal use only.
+     *
+     * @return the regular expression cache for this configuration
+     */
+
+    public RegexCache getRegexCache() {
+        return regexCache;
+    }
+
     /**
      * Get the document pool. This is used only for source documents, not for stylesheet modules.
      * <p/>
@@ -2,6 +2,7 @@ package client.net.sf.saxon.ce;
 
 import client.net.sf.saxon.ce.dom.HTMLWriter;
 import client.net.sf.saxon.ce.event.*;
+import client.net.sf.saxon.ce.expr.Expression;
 import client.net.sf.saxon.ce.expr.XPathContext;
 import client.net.sf.saxon.ce.expr.instruct.*;
 import client.net.sf.saxon.ce.functions.Component;
@@ -17,6 +18,7 @@ import client.net.sf.saxon.ce.trans.XPathException;
 import client.net.sf.saxon.ce.trans.update.PendingUpdateList;
 import client.net.sf.saxon.ce.tree.iter.SingletonIterator;
 import client.net.sf.saxon.ce.tree.linked.LinkedTreeBuilder;
+import client.net.sf.saxon.ce.tree.util.NumberMemo;
 import client.net.sf.saxon.ce.value.DateTimeValue;
 import com.google.gwt.core.client.JavaScriptObject;
 import com.google.gwt.dom.client.Node;
@@ -76,6 +78,7 @@ public class Controller {
     private StructuredQName initialMode = null;
     private NodeInfo lastRememberedNode = null;
     private int lastRememberedNumber = -1;
+    private HashMap<Expression, NumberMemo> numberMemos = null;
     private boolean inUse = false;
     private boolean stripSourceTrees = true;
     private PendingUpdateList pendingUpdateList;
@@ -240,6 +243,7 @@ public class Controller {
         //thereHasBeenAnExplicitResultDocument = false;
         lastRememberedNode = null;
         lastRememberedNumber = -1;
+        numberMemos = null;
         openHTMLWriter = null;
     }
 
@@ -1286,6 +1290,28 @@ public class Controller {
         return -1;
     }
 
+    /**
+     * Get the numbers most recently allocated by an xsl:number instruction during this
+     * transformation, creating an empty memo if there are none.
+     * <p>
+     * This method is strictly for internal use only.
+     *
+     * @param inst the xsl:number instruction
+     * @return the memo of numbers allocated by this instruction
+     */
+
+    public NumberMemo getNumberMemo(Expression inst) {
+        if (numberMemos == null) {
+            numberMemos = new HashMap<Expression, NumberMemo>();
+        }
+        NumberMemo memo = numberMemos.get(inst);
+        if (memo == null) {
+            memo = new NumberMemo();
+            numberMemos.put(inst, memo);
+        }
+        return memo;
+    }
+
     
     /////////////////////////////////////////////////////////////////////////
     // Methods for tracing
@@ -44,6 +44,28 @@ public class HTMLAttributeNode extends AbstractNode implements NodeInfo {
                 name.equals(((HTMLAttributeNode)other).name);
     }
 
+    /**
+     * The equals() method compares nodes for identity. It is defined to give the same result
+     * as isSameNodeInfo(). This matters because a new HTMLAttributeNode is created each time
+     * an attribute is accessed.
+     * @param other the node to be compared with this node
+     * @return true if this NodeInfo object and the supplied NodeInfo object represent
+     *      the same node in the tree.
+     */
+
+    public boolean equals(Object other) {
+        return other instanceof NodeInfo && isSameNodeInfo((NodeInfo)other);
+    }
+
+    /**
+     * The hashCode() method obeys the contract for hashCode(): that is, if two objects are equal
+     * (represent the same node) then they must have the same hashCode()
+     */
+
+    public int hashCode() {
+        return element.hashCode() ^ name.hashCode();
+    }
+
     public String getSystemId() {
         return element.getSystemId();
     }
@@ -162,6 +184,10 @@ public class HTMLAttributeNode extends AbstractNode implements NodeInfo {
         return element.getDocumentNumber();
     }
 
+    public int getPreorderNumber() {
+        return -1;
+    }
+
     public void copy(Receiver out, int copyOptions) throws XPathException {
         out.attribute(qname, value);
     }
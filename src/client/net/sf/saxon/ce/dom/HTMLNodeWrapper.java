@@ -1122,6 +1122,16 @@ public class HTMLNodeWrapper extends AbstractNode implements NodeInfo {
         return getDocumentRoot().getDocumentNumber();
     }
 
+    /**
+     * Get the number of this node in a pre-order traversal of its document. Not available for
+     * the HTML DOM, which can change while the wrapper exists.
+     * @return -1
+     */
+
+    public int getPreorderNumber() {
+        return -1;
+    }
+
     /**
     * Copy this node to a given outputter (deep copy)
     */
@@ -19,6 +19,7 @@ import java.math.BigDecimal;
 public class ArithmeticExpression extends BinaryExpression {
 
     protected boolean simplified = false;
+    private int primitivePrecision = ExpressionTool.NOT_PRIMITIVE;
 
     /**
      * Create an arithmetic expression
@@ -142,6 +143,20 @@ public class ArithmeticExpression extends BinaryExpression {
         return this;
     }
 
+    /**
+     * Perform optimisation of an expression and its subexpressions. As well as the optimizations
+     * performed on all binary expressions, this determines whether the expression can be evaluated
+     * using primitive double arithmetic.
+     */
+
+    public Expression optimize(ExpressionVisitor visitor, ItemType contextItemType) throws XPathException {
+        Expression e = super.optimize(visitor, contextItemType);
+        if (e == this) {
+            primitivePrecision = ExpressionTool.getPrimitivePrecision(this);
+        }
+        return e;
+    }
+
     /**
      * Static method to apply arithmetic to two values
      *
@@ -210,7 +225,7 @@ public class ArithmeticExpression extends BinaryExpression {
                         return new DoubleValue(d0 / d1).convert(AtomicType.INTEGER).asAtomic();
 
                 }
-                return new DoubleValue(result);
+                return DoubleValue.makeDoubleValue(result);
             } else if (value0 instanceof FloatValue || value1 instanceof FloatValue) {
                 float f0 = n0.getFloatValue();
                 float f1 = n1.getFloatValue();
@@ -372,6 +387,17 @@ public class ArithmeticExpression extends BinaryExpression {
 
     public Item evaluateItem(XPathContext context) throws XPathException {
 
+        if (primitivePrecision != ExpressionTool.NOT_PRIMITIVE &&
+                getCardinality() == StaticProperty.EXACTLY_ONE) {
+            // evaluate the whole subtree without allocating intermediate results
+            double d = evaluateAsDouble(context);
+            if (primitivePrecision == ExpressionTool.PRIMITIVE_DOUBLE) {
+                return DoubleValue.makeDoubleValue(d);
+            }
+            int i = (int)d;
+            return (i == d ? IntegerValue.makeIntegerValue(i) : new IntegerValue(new BigDecimal(d)));
+        }
+
         AtomicValue v0 = (AtomicValue) operand0.evaluateItem(context);
         if (v0 == null) {
             return null;
@@ -390,9 +416,42 @@ public class ArithmeticExpression extends BinaryExpression {
         }
     }
 
+    /**
+     * Evaluate the expression as a primitive double. If the optimizer has established that the operands
+     * can themselves be evaluated as doubles without loss of precision, this is done without allocating
+     * any intermediate values.
+     */
+
+    public double evaluateAsDouble(XPathContext context) throws XPathException {
+        if (primitivePrecision == ExpressionTool.NOT_PRIMITIVE) {
+            return super.evaluateAsDouble(context);
+        }
+        double d0 = operand0.evaluateAsDouble(context);
+        double d1 = operand1.evaluateAsDouble(context);
+        switch (operator) {
+            case Token.PLUS:
+                return d0 + d1;
+            case Token.MINUS:
+                return d0 - d1;
+            case Token.MULT:
+                return d0 * d1;
+            case Token.DIV:
+                return d0 / d1;
+            case Token.MOD:
+                if (d1 == 0.0 && primitivePrecision != ExpressionTool.PRIMITIVE_DOUBLE) {
+                    XPathException err = new XPathException("Integer modulo zero", "FOAR0001");
+                    err.maybeSetLocation(getSourceLocator());
+                    throw err;
+                }
+                return d0 % d1;
+            default:
+                return super.evaluateAsDouble(context);
+        }
+    }
+
 
 }
 
 // This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0. 
 // If a copy of the MPL was not distributed with this file, You can obtain one at http://mozilla.org/MPL/2.0/.
-// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
\ No newline at end of file
+// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
\ No newline at end of file
@@ -2,6 +2,7 @@ package client.net.sf.saxon.ce.expr;
 import client.net.sf.saxon.ce.om.Item;
 import client.net.sf.saxon.ce.om.SequenceIterator;
 import client.net.sf.saxon.ce.trans.XPathException;
+import client.net.sf.saxon.ce.tree.iter.FocusIterator;
 
 /**
 * ContextMappingIterator merges a sequence of sequences into a single flat
@@ -14,12 +15,13 @@ import client.net.sf.saxon.ce.trans.XPathException;
 * sets each item being processed as the context item
 */
 
-public final class ContextMappingIterator implements SequenceIterator {
+public final class ContextMappingIterator implements SequenceIterator, LastPositionFinder {
 
-    private SequenceIterator base;
+    private FocusIterator base;
     private ContextMappingFunction action;
     private XPathContext context;
     private SequenceIterator stepIterator = null;
+    private boolean oneToOne = false;
 
     /**
     * Construct a ContextMappingIterator that will apply a specified ContextMappingFunction to
@@ -35,6 +37,21 @@ public final class ContextMappingIterator implements SequenceIterator {
         this.context = context;
     }
 
+    /**
+    * Construct a ContextMappingIterator that will apply a specified ContextMappingFunction to
+    * each Item returned by the base iterator.
+     * @param action the mapping function to be applied
+     * @param context the processing context. The mapping function is applied to each item returned
+     * by context.getCurrentIterator() in turn.
+     * @param oneToOne true if the mapping function is known to return exactly one item for each input
+     * item, in which case the length of the result is the length of the input
+     */
+
+    public ContextMappingIterator(ContextMappingFunction action, XPathContext context, boolean oneToOne) {
+        this(action, context);
+        this.oneToOne = oneToOne;
+    }
+
     public Item next() throws XPathException {
         Item nextItem;
         while (true) {
@@ -69,11 +86,20 @@ public final class ContextMappingIterator implements SequenceIterator {
         SequenceIterator newBase = base.getAnother();
         XPathContext c2 = context.newMinorContext();
         c2.setCurrentIterator(newBase);
-        return new ContextMappingIterator(action, c2);
+        return new ContextMappingIterator(action, c2, oneToOne);
+    }
+
+    public int getLastPosition() throws XPathException {
+        SequenceIterator underlying = base.getUnderlyingIterator();
+        if (oneToOne && underlying instanceof LastPositionFinder) {
+            return ((LastPositionFinder)underlying).getLastPosition();
+        } else {
+            return -1;
+        }
     }
 
 }
 
 // This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0. 
 // If a copy of the MPL was not distributed with this file, You can obtain one at http://mozilla.org/MPL/2.0/.
-// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
\ No newline at end of file
+// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
\ No newline at end of file
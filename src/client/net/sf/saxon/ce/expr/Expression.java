@@ -13,6 +13,7 @@ import client.net.sf.saxon.ce.tree.util.FastStringBuffer;
 import client.net.sf.saxon.ce.tree.util.SourceLocator;
 import client.net.sf.saxon.ce.type.ItemType;
 import client.net.sf.saxon.ce.value.Cardinality;
+import client.net.sf.saxon.ce.value.NumericValue;
 import client.net.sf.saxon.ce.value.SequenceType;
 import client.net.sf.saxon.ce.value.StringValue;
 import com.google.gwt.logging.client.LogConfiguration;
@@ -383,6 +384,24 @@ public abstract class Expression {
         return ExpressionTool.effectiveBooleanValue(iterate(context));
     }
 
+    /**
+     * Evaluate an expression as a primitive double. This function must only be called where
+     * {@link ExpressionTool#getPrimitivePrecision} has established that the value of the expression
+     * is always exactly representable as a double, and where an empty sequence can safely be treated
+     * as NaN. Expressions such as count() and position() override this method so that no
+     * NumericValue object needs to be allocated.
+     *
+     * @param context The context in which the expression is to be evaluated
+     * @exception client.net.sf.saxon.ce.trans.XPathException if any dynamic error occurs evaluating the
+     *     expression
+     * @return the numeric value of the expression, or NaN if the expression returns an empty sequence
+     */
+
+    public double evaluateAsDouble(XPathContext context) throws XPathException {
+        Item item = evaluateItem(context);
+        return (item == null ? Double.NaN : ((NumericValue)item).getDoubleValue());
+    }
+
     /**
      * Evaluate an expression as a String. This function must only be called in contexts
      * where it is known that the expression will return a single string (or where an empty sequence
@@ -752,4 +771,4 @@ public abstract class Expression {
 
 // This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0. 
 // If a copy of the MPL was not distributed with this file, You can obtain one at http://mozilla.org/MPL/2.0/.
-// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
\ No newline at end of file
+// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
\ No newline at end of file
@@ -4,16 +4,23 @@ import client.net.sf.saxon.ce.Configuration;
 import client.net.sf.saxon.ce.Controller;
 import client.net.sf.saxon.ce.event.PipelineConfiguration;
 import client.net.sf.saxon.ce.event.SequenceOutputter;
-import client.net.sf.saxon.ce.functions.Current;
+import client.net.sf.saxon.ce.expr.instruct.Block;
+import client.net.sf.saxon.ce.expr.instruct.Choose;
+import client.net.sf.saxon.ce.expr.instruct.Instruction;
+import client.net.sf.saxon.ce.expr.instruct.UserFunction;
+import client.net.sf.saxon.ce.functions.*;
 import client.net.sf.saxon.ce.lib.NamespaceConstant;
 import client.net.sf.saxon.ce.om.*;
 import client.net.sf.saxon.ce.trans.XPathException;
 import client.net.sf.saxon.ce.tree.util.SourceLocator;
+import client.net.sf.saxon.ce.type.AtomicType;
 import client.net.sf.saxon.ce.value.*;
 import client.net.sf.saxon.ce.value.StringValue;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 /**
  * This class, ExpressionTool, contains a number of useful static methods
@@ -32,6 +39,17 @@ public class ExpressionTool {
     public static final int PROCESS = 9;
     public static final int EVALUATE_SUPPLIED_PARAMETER = 14;
 
+    /**
+     * Result of {@link #getPrimitivePrecision} for an expression that is not suitable for primitive evaluation
+     */
+    public static final int NOT_PRIMITIVE = -1;
+    /**
+     * Result of {@link #getPrimitivePrecision} for an expression whose value is an xs:double
+     */
+    public static final int PRIMITIVE_DOUBLE = 64;
+
+    private static final int MAX_EXACT_BITS = 53;
+
     private ExpressionTool() {}
 
     /**
@@ -91,6 +109,24 @@ public class ExpressionTool {
      */
 
     public static Expression unsorted(Configuration config, Expression exp, boolean retainAllNodes)
+    throws XPathException {
+        return unsorted(config, exp, retainAllNodes, true);
+    }
+
+    /**
+     * Remove unwanted sorting from an expression, at compile time
+     * @param config the expression optimizer
+     * @param exp the expression to be optimized
+     * @param retainAllNodes true if there is a need to retain exactly those nodes returned by exp
+     * even if there are duplicates; false if the caller doesn't mind whether duplicate nodes
+     * are retained or eliminated
+     * @param mayReorder true if the caller makes no use of the order of the result; false if it
+     * only wants redundant sorting to be removed, and relies on an expression that is naturally
+     * in document order staying in document order
+     * @return the expression after rewriting
+     */
+
+    public static Expression unsorted(Configuration config, Expression exp, boolean retainAllNodes, boolean mayReorder)
     throws XPathException {
         if (exp instanceof Literal) {
             return exp;   // fast exit
@@ -98,6 +134,7 @@ public class ExpressionTool {
         PromotionOffer offer = new PromotionOffer();
         offer.action = PromotionOffer.UNORDERED;
         offer.retainAllNodes = retainAllNodes;
+        offer.mayReorder = mayReorder;
         return exp.promote(offer, null);
     }
 
@@ -345,6 +382,131 @@ public class ExpressionTool {
         return ((exp.getDependencies() & StaticProperty.DEPENDS_ON_FOCUS) != 0);
     }    
 
+    /**
+     * Determine whether an expression can be evaluated once, at compile time, with the result
+     * being the same for every transformation that uses the compiled stylesheet. This requires that
+     * the expression has no dependency on the focus, the XSLT context, global variables or parameters,
+     * or the run-time environment; that it constructs no nodes and has no side-effects; and that any
+     * stylesheet functions it calls are non-recursive and themselves satisfy the same conditions.
+     * @param exp the expression to be tested
+     * @return true if the expression can safely be replaced by its value
+     */
+
+    public static boolean isPreEvaluable(Expression exp) {
+        return isPreEvaluable(exp, new HashSet<UserFunction>());
+    }
+
+    private static boolean isPreEvaluable(Expression exp, Set<UserFunction> active) {
+        int allowed = StaticProperty.DEPENDS_ON_LOCAL_VARIABLES | StaticProperty.DEPENDS_ON_USER_FUNCTIONS;
+        if ((exp.getDependencies() & ~allowed) != 0) {
+            return false;
+        }
+        if (exp instanceof Instruction && !(exp instanceof Choose || exp instanceof Block)) {
+            return false;
+        }
+        if (exp instanceof VariableReference && !(exp instanceof LocalVariableReference)) {
+            Binding b = ((VariableReference)exp).getBinding();
+            if (b == null || b.isGlobal()) {
+                return false;
+            }
+        }
+        if (exp instanceof UserFunctionCall) {
+            UserFunction fn = ((UserFunctionCall)exp).getFunction();
+            if (fn == null || !fn.isOptimized() || fn.containsTailCalls() || active.contains(fn)) {
+                return false;
+            }
+            active.add(fn);
+            boolean ok = isPreEvaluable(fn.getBody(), active);
+            active.remove(fn);
+            if (!ok) {
+                return false;
+            }
+        } else if (exp instanceof FunctionCall) {
+            // extension functions, and system functions that suppress compile-time evaluation
+            if (!(exp instanceof SystemFunction) ||
+                    exp instanceof Doc || exp instanceof DocumentFn || exp instanceof DocAvailable ||
+                    exp instanceof UnparsedText || exp instanceof KeyFn || exp instanceof FormatNumber ||
+                    exp instanceof Trace) {
+                return false;
+            }
+        }
+        for (Iterator<Expression> children = exp.iterateSubExpressions(); children.hasNext();) {
+            if (!isPreEvaluable(children.next(), active)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Determine whether an expression can be evaluated using {@link Expression#evaluateAsDouble},
+     * producing a primitive double with no loss of precision. This is the case for expressions of static
+     * type xs:double; for calls on count(), position(), last() and string-length(), and small integer literals;
+     * and for arithmetic on such operands, provided that an integer result cannot exceed 53 bits.
+     * The expression must not return more than one item; an empty sequence is delivered as NaN.
+     * @param exp the expression to be analyzed
+     * @return {@link #NOT_PRIMITIVE} if the expression cannot be evaluated as a double;
+     * {@link #PRIMITIVE_DOUBLE} if its value is an xs:double; otherwise, the number of bits needed to hold
+     * the magnitude of its xs:integer value
+     */
+
+    public static int getPrimitivePrecision(Expression exp) {
+        if (Cardinality.allowsMany(exp.getCardinality())) {
+            return NOT_PRIMITIVE;
+        }
+        if (exp instanceof Literal) {
+            Sequence val = ((Literal)exp).getValue();
+            if (val instanceof DoubleValue) {
+                return PRIMITIVE_DOUBLE;
+            } else if (val instanceof IntegerValue) {
+                try {
+                    int i = ((IntegerValue)val).intValue();
+                    return (i == Integer.MIN_VALUE ? 32 : 32 - Integer.numberOfLeadingZeros(Math.abs(i)));
+                } catch (XPathException err) {
+                    return NOT_PRIMITIVE;
+                }
+            } else {
+                return NOT_PRIMITIVE;
+            }
+        }
+        if (exp instanceof Count || exp instanceof Position || exp instanceof Last || exp instanceof StringLength) {
+            return 31;
+        }
+        if (exp instanceof ArithmeticExpression) {
+            ArithmeticExpression arith = (ArithmeticExpression)exp;
+            int p0 = getPrimitivePrecision(arith.getOperands()[0]);
+            int p1 = getPrimitivePrecision(arith.getOperands()[1]);
+            int op = arith.getOperator();
+            if (p0 == NOT_PRIMITIVE || p1 == NOT_PRIMITIVE || op == Token.IDIV) {
+                return NOT_PRIMITIVE;
+            }
+            if (p0 == PRIMITIVE_DOUBLE || p1 == PRIMITIVE_DOUBLE) {
+                return PRIMITIVE_DOUBLE;
+            }
+            int bits;
+            switch (op) {
+                case Token.PLUS:
+                case Token.MINUS:
+                    bits = Math.max(p0, p1) + 1;
+                    break;
+                case Token.MULT:
+                    bits = p0 + p1;
+                    break;
+                case Token.MOD:
+                    bits = Math.max(p0, p1);
+                    break;
+                default:
+                    // integer division produces a decimal
+                    return NOT_PRIMITIVE;
+            }
+            return (bits <= MAX_EXACT_BITS ? bits : NOT_PRIMITIVE);
+        }
+        if (exp.getItemType() == AtomicType.DOUBLE) {
+            return PRIMITIVE_DOUBLE;
+        }
+        return NOT_PRIMITIVE;
+    }
+
     /**
      * Determine whether an expression depends on any one of a set of variables
      * @param e the expression being tested
@@ -1,5 +1,6 @@
 package client.net.sf.saxon.ce.expr;
 
+import client.net.sf.saxon.ce.expr.sort.SortedIterator;
 import client.net.sf.saxon.ce.om.Item;
 import client.net.sf.saxon.ce.om.SequenceIterator;
 import client.net.sf.saxon.ce.trans.XPathException;
@@ -28,6 +29,10 @@ public final class FirstItemExpression extends SingleItemFilter {
 
     public Item evaluateItem(XPathContext context) throws XPathException {
         SequenceIterator iter = operand.iterate(context);
+        if (iter instanceof SortedIterator) {
+            // only the smallest item is needed, so there is no need to sort the whole sequence
+            ((SortedIterator)iter).setLimit(1);
+        }
         return iter.next();
     }
 
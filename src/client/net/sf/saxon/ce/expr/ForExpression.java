@@ -256,7 +256,7 @@ public class ForExpression extends Assignation {
             if (pslot >= 0) {
                 int value = position++;
 
-                context.setLocalVariable(pslot, new IntegerValue(value));
+                context.setLocalVariable(pslot, IntegerValue.makeIntegerValue(value));
             }
             action.process(context);
         }
@@ -326,7 +326,7 @@ public class ForExpression extends Assignation {
             if (pslot >= 0) {
                 int value = position++;
 
-                context.setLocalVariable(pslot, new IntegerValue(value));
+                context.setLocalVariable(pslot, IntegerValue.makeIntegerValue(value));
             }
             return action.iterate(context);
         }
@@ -336,7 +336,7 @@ public class ForExpression extends Assignation {
             if (pslot >= 0) {
                 int value = position++;
 
-                context.setLocalVariable(pslot, new IntegerValue(value));
+                context.setLocalVariable(pslot, IntegerValue.makeIntegerValue(value));
             }
             return action.evaluateItem(context);
         }
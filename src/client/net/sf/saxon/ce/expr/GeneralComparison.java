@@ -28,6 +28,7 @@ public class GeneralComparison extends BinaryExpression {
 
     private AtomicComparer comparer;
     private boolean backwardsCompatible;
+    private boolean primitiveComparison;
 
 
     /**
@@ -97,6 +98,10 @@ public class GeneralComparison extends BinaryExpression {
         operand0 = ExpressionTool.unsorted(config, operand0, false);
         operand1 = ExpressionTool.unsorted(config, operand1, false);
 
+        // Comparisons of two singleton numbers can be done without materializing either operand
+
+        primitiveComparison = ValueComparison.isPrimitiveComparison(operand0, getSingletonOperator(operator), operand1);
+
         return this;
     }
 
@@ -118,6 +123,11 @@ public class GeneralComparison extends BinaryExpression {
 
     public boolean effectiveBooleanValue(XPathContext context) throws XPathException {
 
+        if (primitiveComparison) {
+            return ValueComparison.compare(
+                    operand0.evaluateAsDouble(context), getSingletonOperator(operator), operand1.evaluateAsDouble(context));
+        }
+
         Sequence v0 = SequenceExtent.makeSequenceExtent(operand0.iterate(context));
         Sequence v1 = SequenceExtent.makeSequenceExtent(operand1.iterate(context));
 
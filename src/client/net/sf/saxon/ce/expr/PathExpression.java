@@ -290,8 +290,8 @@ public final class PathExpression extends SlashExpression implements ContextMapp
             // will be done at the top level
 
             Configuration config = visitor.getConfiguration();
-            setStartExpression(ExpressionTool.unsorted(config, start, false));
-            setStepExpression(ExpressionTool.unsorted(config, step, false));
+            setStartExpression(ExpressionTool.unsorted(config, start, false, false));
+            setStepExpression(ExpressionTool.unsorted(config, step, false, false));
 
             // Try to simplify expressions such as a//b
             PathExpression p = simplifyDescendantPath(visitor.getStaticContext());
@@ -97,6 +97,16 @@ public class PromotionOffer  {
 
     public boolean retainAllNodes = true;
 
+    /**
+     * In the case of UNORDERED, "mayReorder" is a boolean that is set to true if the caller makes no use
+     * of the order of the result, so that an expression whose natural order is document order may deliver
+     * its nodes in some other order. If this boolean is false, the caller only wants redundant sorting to
+     * be removed: this is the case for the operands of a path expression, where the decision whether the
+     * result needs sorting may already have been made from the static properties of the operands.
+     */
+
+    public boolean mayReorder = true;
+
     /**
     * In the case of RANGE_INDEPENDENT, "binding" identifies the range variables whose dependencies
     * we are looking for. For INLINE_VARIABLE_REFERENCES it is a single Binding that we are aiming to inline
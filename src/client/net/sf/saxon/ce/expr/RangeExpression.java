@@ -1,10 +1,8 @@
 package client.net.sf.saxon.ce.expr;
 
-import client.net.sf.saxon.ce.om.Item;
 import client.net.sf.saxon.ce.om.SequenceIterator;
 import client.net.sf.saxon.ce.trans.XPathException;
 import client.net.sf.saxon.ce.tree.iter.EmptyIterator;
-import client.net.sf.saxon.ce.tree.iter.SteppingIterator;
 import client.net.sf.saxon.ce.type.AtomicType;
 import client.net.sf.saxon.ce.type.ItemType;
 import client.net.sf.saxon.ce.value.*;
@@ -96,34 +94,10 @@ public class RangeExpression extends BinaryExpression {
             return EmptyIterator.getInstance();
         }
 
-        return new SteppingIterator(v1, new RangeSteppingFunction(v2.intValue()), true);
+        return new RangeIterator(v1.intValue(), v2.intValue());
 
     }
 
-    /**
-     * Function used by SteppingIterator to compute the next value in the sequence
-     */
-
-    private static class RangeSteppingFunction implements SteppingIterator.SteppingFunction {
-        private int limit;
-
-        public RangeSteppingFunction(int limit) {
-            this.limit = limit;
-        }
-        public Item step(Item current) {
-            try {
-                int curr = ((IntegerValue)current).intValue();
-                return (curr >= limit ? null : new IntegerValue(curr+1));
-            } catch (XPathException e) {
-                throw new AssertionError(e);
-            }
-        }
-
-        public boolean conforms(Item current) {
-            return true;
-        }
-    }
-
 }
 
 // This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0. 
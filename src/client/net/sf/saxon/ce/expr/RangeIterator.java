@@ -0,0 +1,58 @@
+package client.net.sf.saxon.ce.expr;
+
+import client.net.sf.saxon.ce.om.Item;
+import client.net.sf.saxon.ce.tree.iter.UnfailingIterator;
+import client.net.sf.saxon.ce.value.IntegerValue;
+
+/**
+ * An iterator over a sequence of consecutive integers, as returned by the expression "x to y".
+ * The range is held as a pair of primitive ints; an IntegerValue is created only when an item
+ * is actually read, and the length of the sequence is known without reading it.
+ */
+
+public class RangeIterator implements UnfailingIterator, LastPositionFinder {
+
+    private int start;
+    private int end;
+    private int current;
+    private boolean finished;
+
+    /**
+     * Create an iterator over a range of integers
+     * @param start the first integer in the range
+     * @param end the last integer in the range, which must not be less than start
+     */
+
+    public RangeIterator(int start, int end) {
+        this.start = start;
+        this.end = end;
+        this.current = start;
+    }
+
+    public Item next() {
+        if (finished) {
+            return null;
+        }
+        int value = current;
+        if (value == end) {
+            finished = true;
+        } else {
+            current++;
+        }
+        return IntegerValue.makeIntegerValue(value);
+    }
+
+    public int getLastPosition() {
+        double length = (double)end - (double)start + 1;
+        return (length > Integer.MAX_VALUE ? -1 : (int)length);
+    }
+
+    public UnfailingIterator getAnother() {
+        return new RangeIterator(start, end);
+    }
+
+}
+
+// This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+// If a copy of the MPL was not distributed with this file, You can obtain one at http://mozilla.org/MPL/2.0/.
+// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
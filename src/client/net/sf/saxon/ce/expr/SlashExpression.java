@@ -168,8 +168,8 @@ public class SlashExpression extends Expression
                 // will be done at the top level
 
                 Configuration config = visitor.getConfiguration();
-                start2 = ExpressionTool.unsorted(config, start, false);
-                Expression step2 = ExpressionTool.unsorted(config, step, false);
+                start2 = ExpressionTool.unsorted(config, start, false, false);
+                Expression step2 = ExpressionTool.unsorted(config, step, false, false);
                 PathExpression path = new PathExpression(start2, step2);
                 ExpressionTool.copyLocationInfo(this, path);
                 Expression sortedPath = path.addDocumentSorter();
@@ -371,7 +371,7 @@ public class SlashExpression extends Expression
         XPathContext context2 = context.newMinorContext();
         context2.setCurrentIterator(result);
 
-        result = new ContextMappingIterator(this, context2);
+        result = new ContextMappingIterator(this, context2, step.getCardinality() == StaticProperty.EXACTLY_ONE);
 
         // Peek at the first item, and depending on its type, check that all the items
         // are atomic values or that all are nodes.
@@ -0,0 +1,108 @@
+package client.net.sf.saxon.ce.expr;
+
+import client.net.sf.saxon.ce.expr.sort.NodeOrderComparer;
+import client.net.sf.saxon.ce.om.Item;
+import client.net.sf.saxon.ce.om.NodeInfo;
+import client.net.sf.saxon.ce.om.SequenceIterator;
+import client.net.sf.saxon.ce.trans.XPathException;
+
+/**
+ * An iterator representing the union of any number of sequences of nodes, each of which is in
+ * document order. This is used for an expression such as (a|b|c|d), which would otherwise be
+ * evaluated as a tree of two-way merges in which each node passes through several comparisons
+ * at each level. The next node of each input is held in a binary heap, so that each node delivered
+ * costs a number of comparisons proportional to the logarithm of the number of inputs.
+ */
+
+public class UnionIterator implements SequenceIterator {
+
+    private SequenceIterator[] inputs;
+    private NodeOrderComparer comparer;
+    private NodeInfo[] heads;       // the next node from each input, or null if the input is exhausted
+    private int[] heap;             // indexes of the inputs that are not exhausted, as a heap ordered by their heads
+    private int size = 0;           // the number of entries in the heap
+    private NodeInfo current = null;
+
+    /**
+     * Create the iterator. The input iterators must return nodes in document order, without duplicates.
+     * @param inputs iterators over the operand sequences (each in document order)
+     * @param comparer used to test whether nodes are in document order
+     * @throws XPathException if a failure occurs reading the first item of any sequence
+     */
+
+    public UnionIterator(SequenceIterator[] inputs, NodeOrderComparer comparer) throws XPathException {
+        this.inputs = inputs;
+        this.comparer = comparer;
+        heads = new NodeInfo[inputs.length];
+        heap = new int[inputs.length];
+        for (int i = 0; i < inputs.length; i++) {
+            heads[i] = (NodeInfo)inputs[i].next();
+            // we rely on the type-checking mechanism to prevent a ClassCastException here
+            if (heads[i] != null) {
+                heap[size++] = i;
+            }
+        }
+        for (int i = size / 2 - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+    }
+
+    public Item next() throws XPathException {
+        if (size == 0) {
+            current = null;
+            return null;
+        }
+        current = heads[heap[0]];
+        // advance every input whose next node is the one being delivered
+        do {
+            advanceTop();
+        } while (size > 0 && comparer.compare(heads[heap[0]], current) == 0);
+        return current;
+    }
+
+    /**
+     * Read the next node from the input at the top of the heap, and restore the heap order
+     * @throws XPathException on failure to read the next node
+     */
+
+    private void advanceTop() throws XPathException {
+        int top = heap[0];
+        heads[top] = (NodeInfo)inputs[top].next();
+        if (heads[top] == null) {
+            heap[0] = heap[--size];
+        }
+        siftDown(0);
+    }
+
+    private void siftDown(int i) {
+        int entry = heap[i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && comparer.compare(heads[heap[child + 1]], heads[heap[child]]) < 0) {
+                child++;
+            }
+            if (comparer.compare(heads[heap[child]], heads[entry]) >= 0) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = entry;
+    }
+
+    public SequenceIterator getAnother() throws XPathException {
+        SequenceIterator[] others = new SequenceIterator[inputs.length];
+        for (int i = 0; i < inputs.length; i++) {
+            others[i] = inputs[i].getAnother();
+        }
+        return new UnionIterator(others, comparer);
+    }
+
+}
+
+// This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+// If a copy of the MPL was not distributed with this file, You can obtain one at http://mozilla.org/MPL/2.0/.
+// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
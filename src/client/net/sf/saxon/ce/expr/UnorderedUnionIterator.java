@@ -0,0 +1,59 @@
+package client.net.sf.saxon.ce.expr;
+
+import client.net.sf.saxon.ce.om.Item;
+import client.net.sf.saxon.ce.om.NodeInfo;
+import client.net.sf.saxon.ce.om.SequenceIterator;
+import client.net.sf.saxon.ce.trans.XPathException;
+
+import java.util.HashSet;
+
+/**
+ * An iterator representing the union of any number of sequences of nodes, used when the
+ * containing expression does not care about the order of the result. The inputs are read one
+ * after another, without sorting, and a node is delivered unless it has already been delivered.
+ * Duplicates are detected using the equals() and hashCode() methods of NodeInfo, which are
+ * defined to reflect node identity: every NodeInfo implementation that can create more than one
+ * object for the same node (for example HTMLAttributeNode) must override them accordingly.
+ */
+
+public class UnorderedUnionIterator implements SequenceIterator {
+
+    private SequenceIterator[] inputs;
+    private int index = 0;
+    private HashSet<NodeInfo> delivered = new HashSet<NodeInfo>();
+
+    /**
+     * Create the iterator
+     * @param inputs iterators over the operand sequences, in any order
+     */
+
+    public UnorderedUnionIterator(SequenceIterator[] inputs) {
+        this.inputs = inputs;
+    }
+
+    public Item next() throws XPathException {
+        while (index < inputs.length) {
+            NodeInfo node = (NodeInfo)inputs[index].next();
+            // we rely on the type-checking mechanism to prevent a ClassCastException here
+            if (node == null) {
+                index++;
+            } else if (delivered.add(node)) {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    public SequenceIterator getAnother() throws XPathException {
+        SequenceIterator[] others = new SequenceIterator[inputs.length];
+        for (int i = 0; i < inputs.length; i++) {
+            others[i] = inputs[i].getAnother();
+        }
+        return new UnorderedUnionIterator(others);
+    }
+
+}
+
+// This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+// If a copy of the MPL was not distributed with this file, You can obtain one at http://mozilla.org/MPL/2.0/.
+// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
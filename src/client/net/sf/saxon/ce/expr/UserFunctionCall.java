@@ -98,14 +98,37 @@ public class UserFunctionCall extends FunctionCall {
     }
 
     /**
-     * Pre-evaluate a function at compile time. This version of the method suppresses
-     * early evaluation by doing nothing.
+     * Get the function that is being called by this function call
+     *
+     * @return the function being called, or null if the call has not yet been bound
+     */
+
+    public UserFunction getFunction() {
+        return function;
+    }
+
+    /**
+     * Pre-evaluate a function at compile time. This is done only if the function has already been
+     * optimized, and its body is free of side-effects and of any dependency on the dynamic context,
+     * so that the result is the same for every transformation. Otherwise the call is left unchanged.
      *
      * @param visitor an expression visitor
      */
 
     public Expression preEvaluate(ExpressionVisitor visitor) {
-        return this;
+        if (function == null || tailCall || !ExpressionTool.isPreEvaluable(this)) {
+            return this;
+        }
+        try {
+            XPathContext early = new EarlyEvaluationContext(visitor.getConfiguration()).newContext();
+            Literal lit = Literal.makeLiteral(SequenceExtent.makeSequenceExtent(iterate(early)));
+            ExpressionTool.copyLocationInfo(this, lit);
+            return lit;
+        } catch (XPathException err) {
+            // if early evaluation fails, suppress the error: the value might
+            // not be needed at run-time
+            return this;
+        }
     }
 
     /**
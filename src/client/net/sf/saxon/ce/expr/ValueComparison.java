@@ -26,6 +26,7 @@ public final class ValueComparison extends BinaryExpression implements Compariso
 
     private AtomicComparer comparer;
     private boolean needsRuntimeCheck;
+    private boolean primitiveComparison;
 
     /**
      * Create a comparison expression identifying the two operands and the operator
@@ -207,9 +208,56 @@ public final class ValueComparison extends BinaryExpression implements Compariso
             return visitor.optimize(vc, contextItemType);
         }
 
+        primitiveComparison = isPrimitiveComparison(operand0, operator, operand1);
         return this;
     }
 
+    /**
+     * Determine whether a comparison of two operands can be done by evaluating both as primitive doubles.
+     * This is possible if both operands can be evaluated as doubles without loss of precision. Because an
+     * empty operand is delivered as NaN, this gives the right answer for all operators other than "ne",
+     * which needs both operands to be non-empty.
+     * @param op0 the first operand
+     * @param op the operator, for example {@link Token#FEQ}
+     * @param op1 the second operand
+     * @return true if the comparison can be done using primitive doubles
+     */
+
+    static boolean isPrimitiveComparison(Expression op0, int op, Expression op1) {
+        return ExpressionTool.getPrimitivePrecision(op0) != ExpressionTool.NOT_PRIMITIVE &&
+                ExpressionTool.getPrimitivePrecision(op1) != ExpressionTool.NOT_PRIMITIVE &&
+                (op != Token.FNE ||
+                        (!Cardinality.allowsZero(op0.getCardinality()) && !Cardinality.allowsZero(op1.getCardinality())));
+    }
+
+    /**
+     * Compare two primitive doubles using a specified operator. A NaN operand compares unequal
+     * to everything, as required by the XPath rules.
+     * @param d0 the first operand
+     * @param op the operator, for example {@link Token#FEQ}
+     * @param d1 the second operand
+     * @return the result of the comparison
+     */
+
+    static boolean compare(double d0, int op, double d1) {
+        switch (op) {
+            case Token.FEQ:
+                return d0 == d1;
+            case Token.FNE:
+                return d0 != d1;
+            case Token.FGT:
+                return d0 > d1;
+            case Token.FLT:
+                return d0 < d1;
+            case Token.FGE:
+                return d0 >= d1;
+            case Token.FLE:
+                return d0 <= d1;
+            default:
+                throw new UnsupportedOperationException("Unknown operator " + op);
+        }
+    }
+
 
     /**
      * Evaluate the effective boolean value of the expression
@@ -220,6 +268,9 @@ public final class ValueComparison extends BinaryExpression implements Compariso
 
     public boolean effectiveBooleanValue(XPathContext context) throws XPathException {
         try {
+            if (primitiveComparison) {
+                return compare(operand0.evaluateAsDouble(context), operator, operand1.evaluateAsDouble(context));
+            }
             AtomicValue v0 = ((AtomicValue) operand0.evaluateItem(context));
             if (v0 == null) {
                 return false;
@@ -295,6 +346,10 @@ public final class ValueComparison extends BinaryExpression implements Compariso
 
     public Item evaluateItem(XPathContext context) throws XPathException {
         try {
+            if (primitiveComparison && getCardinality() == StaticProperty.EXACTLY_ONE) {
+                return BooleanValue.get(
+                        compare(operand0.evaluateAsDouble(context), operator, operand1.evaluateAsDouble(context)));
+            }
             AtomicValue v0 = (AtomicValue) operand0.evaluateItem(context);
             if (v0 == null) {
                 return null;
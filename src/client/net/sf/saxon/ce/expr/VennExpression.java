@@ -10,6 +10,9 @@ import client.net.sf.saxon.ce.type.ItemType;
 import client.net.sf.saxon.ce.type.Type;
 import client.net.sf.saxon.ce.value.SequenceType;
 
+import java.util.ArrayList;
+import java.util.List;
+
 
 /**
 * An expression representing a nodeset that is a union, difference, or
@@ -18,6 +21,8 @@ import client.net.sf.saxon.ce.value.SequenceType;
 
 public class VennExpression extends BinaryExpression {
 
+    private boolean unordered = false;  // true if the order of the result (of a union) is immaterial
+
     /**
     * Constructor
     * @param p1 the left-hand operand
@@ -76,7 +81,7 @@ public class VennExpression extends BinaryExpression {
     public int computeSpecialProperties() {
         final int prop0 = operand0.getSpecialProperties();
         final int prop1 = operand1.getSpecialProperties();
-        int props = StaticProperty.ORDERED_NODESET;
+        int props = (unordered ? 0 : StaticProperty.ORDERED_NODESET);
         if (testContextDocumentNodeSet(prop0, prop1)) {
             props |= StaticProperty.CONTEXT_DOCUMENT_NODESET;
         }
@@ -265,13 +270,63 @@ public class VennExpression extends BinaryExpression {
     }
 
     /**
-    * Iterate over the value of the expression. The result will always be sorted in document order,
+     * Promote this expression if possible. An offer of type UNORDERED from a caller that makes no use
+     * of the order of the result means that a union can be delivered in any order, which allows the
+     * operands to be read without sorting them. The unordered union is a new expression: this one is
+     * left unchanged, because other expressions may already have relied on its static properties.
+     */
+
+    public Expression promote(PromotionOffer offer, Expression parent) throws XPathException {
+        Expression exp = offer.accept(parent, this);
+        if (exp != null) {
+            return exp;
+        }
+        if (offer.action == PromotionOffer.UNORDERED && offer.mayReorder && operator == Token.UNION) {
+            VennExpression union = this;
+            if (!unordered) {
+                union = new VennExpression(operand0, operator, operand1);
+                union.unordered = true;
+                ExpressionTool.copyLocationInfo(this, union);
+            }
+            if (!offer.retainAllNodes) {
+                // duplicates in an operand are eliminated by the union, so they are immaterial
+                union.operand0 = union.doPromotion(union.operand0, offer);
+                union.operand1 = union.doPromotion(union.operand1, offer);
+            }
+            return union;
+        }
+        return super.promote(offer, parent);
+    }
+
+    /**
+    * Iterate over the value of the expression. The result will be sorted in document order
+    * (unless the containing expression has indicated that order does not matter),
     * with duplicates eliminated
     * @param c The context for evaluation
     * @return a SequenceIterator representing the union of the two operands
     */
 
     public SequenceIterator iterate(final XPathContext c) throws XPathException {
+        if (operator == Token.UNION) {
+            // A chain such as (a|b|c|d) is evaluated as a single merge of all the operands
+            List<Expression> leaves = new ArrayList<Expression>(4);
+            gatherUnionOperands(leaves);
+            if (unordered || leaves.size() > 2) {
+                SequenceIterator[] inputs = new SequenceIterator[leaves.size()];
+                for (int i = 0; i < inputs.length; i++) {
+                    Expression leaf = leaves.get(i);
+                    inputs[i] = leaf.iterate(c);
+                    if (!unordered && (leaf.getSpecialProperties() & StaticProperty.ORDERED_NODESET) == 0) {
+                        inputs[i] = new DocumentOrderIterator(inputs[i], GlobalOrderComparer.getInstance());
+                    }
+                }
+                if (unordered) {
+                    return new UnorderedUnionIterator(inputs);
+                } else {
+                    return new UnionIterator(inputs, GlobalOrderComparer.getInstance());
+                }
+            }
+        }
         SequenceIterator i1 = operand0.iterate(c);
         //return Type.isNodeType(getItemType()) && isSingleton();
         // this is a sufficient condition, but other expressions override this method
@@ -288,6 +343,21 @@ public class VennExpression extends BinaryExpression {
 
     }
 
+    /**
+     * Get the operands of a union expression, flattening any operands that are themselves unions
+     * @param list the list to which the operands are added
+     */
+
+    private void gatherUnionOperands(List<Expression> list) {
+        for (Expression operand : new Expression[]{operand0, operand1}) {
+            if (operand instanceof VennExpression && ((VennExpression)operand).operator == Token.UNION) {
+                ((VennExpression)operand).gatherUnionOperands(list);
+            } else {
+                list.add(operand);
+            }
+        }
+    }
+
     /**
     * Get the effective boolean value. In the case of a union expression, this
     * is reduced to an OR expression, for efficiency
@@ -73,7 +73,7 @@ public class VennIterator implements SequenceIterator {
                         return deliver2();
 
                     } else {
-                        deliverCommon();
+                        return deliverCommon();
                     }
                 }
                 // collect the remaining nodes from whichever set has a residue
@@ -108,7 +108,7 @@ public class VennIterator implements SequenceIterator {
                 while (true) {
 
                     if (nextNode1 == null) {
-                        deliverEndOfSequence();
+                        return deliverEndOfSequence();
                     }
 
                     if (nextNode2 == null) {
@@ -171,7 +171,7 @@ public class VennIterator implements SequenceIterator {
      */
     private NodeInfo deliverCommon() throws XPathException {
         current = nextNode1;
-        nextNode1 = next(e2);
+        nextNode1 = next(e1);
         nextNode2 = next(e2);
         return current;
     }
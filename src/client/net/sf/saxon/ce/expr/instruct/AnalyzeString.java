@@ -1,6 +1,7 @@
 package client.net.sf.saxon.ce.expr.instruct;
 
 import client.net.sf.saxon.ce.expr.*;
+import client.net.sf.saxon.ce.functions.Matches;
 import client.net.sf.saxon.ce.om.Item;
 import client.net.sf.saxon.ce.om.SequenceIterator;
 import client.net.sf.saxon.ce.pattern.EmptySequenceTest;
@@ -27,6 +28,7 @@ public class AnalyzeString extends Instruction {
     private Expression flags;
     private Expression matching;
     private Expression nonMatching;
+    private ARegularExpression pattern;
 
     /**
      * Construct an AnalyzeString instruction
@@ -150,6 +152,9 @@ public class AnalyzeString extends Instruction {
             nonMatching = nonMatching.optimize(visitor, AtomicType.STRING);
             adoptChildExpression(nonMatching);
         }
+        if (regex instanceof Literal && flags instanceof Literal) {
+            pattern = Matches.tryToCompile(new Expression[]{regex, flags}, 0, 1);
+        }
         return this;
     }
 
@@ -295,8 +300,12 @@ public class AnalyzeString extends Instruction {
     private ARegexIterator getRegexIterator(XPathContext context) throws XPathException {
         CharSequence input = select.evaluateAsString(context);
 
-        String flagstr = flags.evaluateAsString(context).toString();
-        ARegularExpression re = new ARegularExpression(regex.evaluateAsString(context), flagstr, "XP20", null);
+        ARegularExpression re = pattern;
+        if (re == null) {
+            String flagstr = flags.evaluateAsString(context).toString();
+            re = context.getConfiguration().getRegexCache().getRegularExpression(
+                    regex.evaluateAsString(context), flagstr, "XP20", null);
+        }
         if (re.matches("")) {
             dynamicError("The regular expression must not be one that matches a zero-length string",
                     "XTDE1150");
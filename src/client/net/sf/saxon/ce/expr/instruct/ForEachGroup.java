@@ -3,6 +3,7 @@ package client.net.sf.saxon.ce.expr.instruct;
 import client.net.sf.saxon.ce.LogController;
 import client.net.sf.saxon.ce.expr.*;
 import client.net.sf.saxon.ce.expr.sort.*;
+import client.net.sf.saxon.ce.functions.CurrentGroup;
 import client.net.sf.saxon.ce.lib.StringCollator;
 import client.net.sf.saxon.ce.lib.TraceListener;
 import client.net.sf.saxon.ce.om.Item;
@@ -40,6 +41,7 @@ public class ForEachGroup extends Instruction
     private String baseURI;
     private SortKeyDefinition[] sortKeys = null;
     private transient AtomicComparer[] sortComparators = null;    // comparators used for sorting the groups
+    private boolean streaming = false;  // true if each group can be discarded once it has been processed
 
     /**
      * Create a for-each-group instruction
@@ -161,9 +163,75 @@ public class ForEachGroup extends Instruction
                 skd.setSortKey(sortKey);
             }
         }
+        // For group-adjacent and group-starting-with, if the groups are processed in order of first
+        // appearance, and the body does not use last(), then each group can be processed as soon as
+        // its first item is read. If in addition current-group() is read no more than once, the members
+        // of each group can be read as the body requests them, rather than being collected in advance.
+        streaming = (algorithm == GROUP_ADJACENT || algorithm == GROUP_STARTING) && sortKeys == null &&
+                (action.getDependencies() & StaticProperty.DEPENDS_ON_LAST) == 0 &&
+                countCurrentGroupReferences(action) <= 1;
         return this;
     }
 
+    /**
+     * Count the number of times an expression may read the current group
+     * @param exp the expression to be examined
+     * @return the number of calls on current-group() within the expression, or 2 if the current
+     * group may be read more than once for some other reason: because a call is evaluated repeatedly;
+     * because its value is bound to a variable, which may be referenced more than once; because it
+     * supplies the focus for an expression that uses last(); or because the expression invokes a
+     * template or function, which might call current-group()
+     */
+
+    private static int countCurrentGroupReferences(Expression exp) {
+        if (exp instanceof CurrentGroup) {
+            return 1;
+        }
+        if (exp instanceof ApplyTemplates || exp instanceof ApplyImports || exp instanceof CallTemplate ||
+                exp instanceof UserFunctionCall || exp instanceof ScheduleExecution) {
+            return 2;
+        }
+        int count = 0;
+        for (Iterator<Expression> children = exp.iterateSubExpressions(); children.hasNext();) {
+            Expression child = children.next();
+            if (exp instanceof ForEachGroup && child == ((ForEachGroup)exp).action) {
+                // within the body of a nested xsl:for-each-group, current-group() refers to the inner group
+                continue;
+            }
+            int n = countCurrentGroupReferences(child);
+            if (n > 0 && (exp.hasLoopingSubexpression(child) ||
+                    (exp instanceof LetExpression && child == ((LetExpression)exp).getSequence()) ||
+                    otherSubexpressionUsesLast(exp, child))) {
+                return 2;
+            }
+            count += n;
+            if (count > 1) {
+                return 2;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Determine whether any subexpression of an expression, other than a given one, depends on last().
+     * Since the body of the for-each-group does not itself depend on last(), such a subexpression
+     * must take its focus from another subexpression, which might be the one that reads current-group();
+     * evaluating last() might then read the group a second time.
+     * @param exp the parent expression
+     * @param child the subexpression to be excluded
+     * @return true if some other subexpression depends on last()
+     */
+
+    private static boolean otherSubexpressionUsesLast(Expression exp, Expression child) {
+        for (Iterator<Expression> others = exp.iterateSubExpressions(); others.hasNext();) {
+            Expression other = others.next();
+            if (other != child && (other.getDependencies() & StaticProperty.DEPENDS_ON_LAST) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
 
     /**
      * Get the item type of the items returned by evaluating this instruction
@@ -354,14 +422,19 @@ public class ForEachGroup extends Instruction
                 break;
             }
             case GROUP_ADJACENT: {
-                groupIterator = new GroupAdjacentIterator(population, key, context, getCollator(context));
+                GroupAdjacentIterator adjacent = new GroupAdjacentIterator(population, key, context, getCollator(context));
+                adjacent.setStreaming(streaming);
+                groupIterator = adjacent;
                 break;
             }
-            case GROUP_STARTING:
-                groupIterator = new GroupStartingIterator(population,
+            case GROUP_STARTING: {
+                GroupStartingIterator starting = new GroupStartingIterator(population,
                         ((PatternSponsor)key).getPattern(),
                         context);
+                starting.setStreaming(streaming);
+                groupIterator = starting;
                 break;
+            }
             case GROUP_ENDING:
                 groupIterator = new GroupEndingIterator(population,
                         ((PatternSponsor)key).getPattern(),
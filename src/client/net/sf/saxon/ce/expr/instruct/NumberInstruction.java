@@ -376,7 +376,7 @@ public class NumberInstruction extends Expression {
                     vec = Collections.EMPTY_LIST; 	// an empty list
                 }
             } else if (level == MULTI) {
-                vec = Navigator.getNumberMulti(source, count, from, context);
+                vec = Navigator.getNumberMulti(this, source, count, from, context, hasVariablesInPatterns);
             }
         }
 
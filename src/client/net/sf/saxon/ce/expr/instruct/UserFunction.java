@@ -219,6 +219,17 @@ public class UserFunction extends Procedure {
         return evaluationMode;
     }
 
+    /**
+     * Ask whether the function body has been optimized and its local variable slots allocated,
+     * which is the point at which it becomes possible to call the function at compile time
+     *
+     * @return true if the function is ready to be evaluated
+     */
+
+    public boolean isOptimized() {
+        return evaluationMode != ExpressionTool.UNDECIDED;
+    }
+
     /**
      * Get the arity of this function
      *
@@ -291,4 +302,4 @@ public class UserFunction extends Procedure {
 
 // This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0. 
 // If a copy of the MPL was not distributed with this file, You can obtain one at http://mozilla.org/MPL/2.0/.
-// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
\ No newline at end of file
+// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
\ No newline at end of file
@@ -37,6 +37,9 @@ public class CaseFirstCollator implements StringCollator {
      */
 
     public int compareStrings(String a, String b) {
+        if (a.equals(b)) {
+            return 0;
+        }
         int diff = baseCollator.compareStrings(a, b);
         if (diff != 0) {
             return diff;
@@ -106,4 +109,4 @@ public class CaseFirstCollator implements StringCollator {
 
 // This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0. 
 // If a copy of the MPL was not distributed with this file, You can obtain one at http://mozilla.org/MPL/2.0/.
-// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
\ No newline at end of file
+// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
\ No newline at end of file
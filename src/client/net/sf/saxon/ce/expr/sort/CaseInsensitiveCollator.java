@@ -1,13 +1,10 @@
 package client.net.sf.saxon.ce.expr.sort;
 
-import client.net.sf.saxon.ce.lib.StringCollator;
-
-
 /**
  * A collating sequence that uses locale-dependent sorting according to the user's current locale
  */
 
-public class CaseInsensitiveCollator implements StringCollator {
+public class CaseInsensitiveCollator implements StringKeyCollator {
 
     private static CaseInsensitiveCollator theInstance = new CaseInsensitiveCollator();
 
@@ -15,6 +12,47 @@ public class CaseInsensitiveCollator implements StringCollator {
         return theInstance;
     }
 
+    // A small cache of recently-used collation keys, indexed by hash code. When a sequence is
+    // sorted, each string takes part in many comparisons, and this avoids folding its case each time.
+    // The instance is shared, so each slot holds an immutable string/key pair, which is replaced as a
+    // whole: a thread that reads a slot while another thread is writing it sees either the old pair
+    // or the new one, never a string with the wrong key.
+    private static final int CACHE_SIZE = 256;
+    private CacheEntry[] cache = new CacheEntry[CACHE_SIZE];
+
+    private static final class CacheEntry {
+        final String string;
+        final String key;
+
+        CacheEntry(String string, String key) {
+            this.string = string;
+            this.key = key;
+        }
+    }
+
+    /**
+     * Get the case-folded form of a string, using the cache if possible. Each character is converted
+     * to upper case and then to lower case, which is the conversion used by String.CASE_INSENSITIVE_ORDER,
+     * so comparing the folded strings in UTF-16 order gives the same result as that comparator.
+     * @param s the string
+     * @return the case-folded string
+     */
+
+    private String fold(String s) {
+        int slot = s.hashCode() & (CACHE_SIZE - 1);
+        CacheEntry entry = cache[slot];
+        if (entry != null && (entry.string == s || entry.string.equals(s))) {
+            return entry.key;
+        }
+        char[] chars = s.toCharArray();
+        for (int i=0; i<chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        String key = new String(chars);
+        cache[slot] = new CacheEntry(s, key);
+        return key;
+    }
+
     /**
     * Compare two string objects.
     * @return <0 if a<b, 0 if a=b, >0 if a>b
@@ -22,7 +60,7 @@ public class CaseInsensitiveCollator implements StringCollator {
     */
 
     public int compareStrings(String a, String b) {
-        return String.CASE_INSENSITIVE_ORDER.compare(a, b);
+        return fold(a).compareTo(fold(b));
     }
 
     /**
@@ -37,21 +75,22 @@ public class CaseInsensitiveCollator implements StringCollator {
      */
 
     public boolean comparesEqual(String s1, String s2) {
-        return s1.equalsIgnoreCase(s2);
+        return s1.equals(s2) || fold(s1).equals(fold(s2));
     }
 
     /**
      * Get a collation key for two Strings. The essential property of collation keys
      * is that if two values are equal under the collation, then the collation keys are
-     * compare correctly under the equals() method.
+     * compare correctly under the equals() method. The key is the case-folded string, so keys
+     * also sort in the same order as the strings.
      */
 
-    public Object getCollationKey(String s) {
-        return s.toLowerCase();
+    public String getCollationKey(String s) {
+        return fold(s);
     }
 }
 
 
 // This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0. 
 // If a copy of the MPL was not distributed with this file, You can obtain one at http://mozilla.org/MPL/2.0/.
-// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
\ No newline at end of file
+// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
\ No newline at end of file
@@ -38,34 +38,34 @@ public class CodepointCollator implements StringCollator {
     public int compareCS(CharSequence a, CharSequence b) {
         int alen = a.length();
         int blen = b.length();
-        int i = 0;
-        int j = 0;
-        while (true) {
-            if (i == alen) {
-                if (j == blen) {
-                    return 0;
-                } else {
-                    return -1;
-                }
-            }
-            if (j == blen) {
-                return +1;
-            }
-            // Following code is needed when comparing a BMP character against a surrogate pair
-            // Note: we could do this comparison without fully computing the codepoint, but it's a very rare case
-            int nexta = (int)a.charAt(i++);
-            if (nexta >= 55296 && nexta <= 56319) {
-                nexta = ((nexta - 55296) * 1024) + ((int)a.charAt(i++) - 56320) + 65536;
-            }
-            int nextb = (int)b.charAt(j++);
-            if (nextb >= 55296 && nextb <= 56319) {
-                nextb = ((nextb - 55296) * 1024) + ((int)b.charAt(j++) - 56320) + 65536;
-            }
-            int c = nexta - nextb;
-            if (c != 0) {
-                return c;
+        int len = Math.min(alen, blen);
+        for (int i = 0; i < len; i++) {
+            char ca = a.charAt(i);
+            char cb = b.charAt(i);
+            if (ca != cb) {
+                // Only the first differing UTF-16 code unit matters. Its order is the same as codepoint
+                // order unless a surrogate is involved: surrogates represent characters above the BMP,
+                // so they must sort after the BMP characters in the range E000-FFFF.
+                return codepointOrder(ca) - codepointOrder(cb);
             }
         }
+        if (alen == blen) {
+            return 0;
+        }
+        return (alen < blen ? -1 : +1);
+    }
+
+    /**
+     * Adjust a UTF-16 code unit so that comparing the adjusted values gives codepoint order
+     * @param c the code unit
+     * @return a value in which surrogates (D800-DFFF) are moved above the code units E000-FFFF
+     */
+
+    private static int codepointOrder(char c) {
+        if (c < 0xD800) {
+            return c;
+        }
+        return (c >= 0xE000 ? c - 0x800 : c + 0x2000);
     }
 
     /**
@@ -125,4 +125,4 @@ public class CodepointCollator implements StringCollator {
 
 // This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0. 
 // If a copy of the MPL was not distributed with this file, You can obtain one at http://mozilla.org/MPL/2.0/.
-// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
\ No newline at end of file
+// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
\ No newline at end of file
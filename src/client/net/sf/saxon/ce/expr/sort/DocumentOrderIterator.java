@@ -1,4 +1,5 @@
 package client.net.sf.saxon.ce.expr.sort;
+import client.net.sf.saxon.ce.expr.LastPositionFinder;
 import client.net.sf.saxon.ce.om.Item;
 import client.net.sf.saxon.ce.om.NodeInfo;
 import client.net.sf.saxon.ce.om.SequenceIterator;
@@ -11,12 +12,13 @@ import client.net.sf.saxon.ce.value.SequenceExtent;
 * any duplicates.
 */
 
-public final class DocumentOrderIterator implements SequenceIterator, Sortable {
+public final class DocumentOrderIterator implements SequenceIterator, Sortable, LastPositionFinder {
 
     private SequenceIterator iterator;
     private SequenceExtent sequence;
     private NodeOrderComparer comparer;
     private NodeInfo current = null;
+    private int last = -1;
 
     /**
     * Iterate over a sequence in document order.
@@ -29,9 +31,10 @@ public final class DocumentOrderIterator implements SequenceIterator, Sortable {
         sequence = new SequenceExtent(base);
         //System.err.println("sort into document order: sequence length = " + sequence.getLength());
         if (sequence.getLength()>1) {
-            //QuickSort.sort(this, 0, sequence.getLength()-1);
-            GenericSorter.quickSort(0, sequence.getLength(), this);
-            //GenericSorter.mergeSort(0, sequence.getLength(), this);
+            // The input is often in document order already, or in reverse document order (for example
+            // from a reverse axis). The sort starts with a single pass that detects this, in which case
+            // no further comparisons are made.
+            GenericSorter.sort(0, sequence.getLength(), this);
         }
         iterator = sequence.iterate();
     }
@@ -83,9 +86,29 @@ public final class DocumentOrderIterator implements SequenceIterator, Sortable {
     public SequenceIterator getAnother() throws XPathException {
         DocumentOrderIterator another = new DocumentOrderIterator();
         another.iterator = iterator.getAnother();    // don't need to sort it again
+        another.sequence = sequence;
+        another.last = last;
         return another;
     }
 
+    /**
+     * Get the number of distinct nodes in the sequence. This is computed from the sorted
+     * array, without disturbing the current position and without evaluating the input again.
+     */
+
+    public int getLastPosition() {
+        if (last < 0) {
+            int n = sequence.getLength();
+            last = (n == 0 ? 0 : 1);
+            for (int i = 1; i < n; i++) {
+                if (!((NodeInfo)sequence.itemAt(i)).isSameNodeInfo((NodeInfo)sequence.itemAt(i-1))) {
+                    last++;
+                }
+            }
+        }
+        return last;
+    }
+
 }
 
 // This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0. 
@@ -136,6 +136,8 @@ public class GenericSorter extends Object {
 	private static final int SMALL = 7;
 	private static final int MEDIUM = 7;
     private static final int LARGE = 40;
+    // sort() uses a merge sort if the data consists of no more than MAX_RUNS runs of ascending elements
+    private static final int MAX_RUNS = 16;
 
 
 	/**
@@ -251,6 +253,191 @@ public class GenericSorter extends Object {
 			quickSort1(n-s, s, comp);
 	}
 
+	/**
+	 * Sorts the specified range of elements, choosing the algorithm according to the existing
+	 * order of the data. The range is first scanned for runs of elements that are already in
+	 * ascending order (or in strictly descending order, which are reversed). If the whole range
+	 * is a single run, as is often the case, nothing more is done; if there are few runs, they are
+	 * merged using {@link #mergeSort}; otherwise the range is sorted using {@link #quickSort}.
+	 *
+	 * @param fromIndex the index of the first element (inclusive) to be sorted.
+	 * @param toIndex the index of the last element (exclusive) to be sorted.
+	 * @param c the comparator to determine the order of the generic data;
+	 *   an object that knows how to swap the elements at any two indexes (a,b).
+	 */
+	public static void sort(int fromIndex, int toIndex, Sortable c) {
+		int len = toIndex - fromIndex;
+		if (len < SMALL) {
+			quickSort1(fromIndex, len, c);
+			return;
+		}
+		int[] runs = findRuns(fromIndex, toIndex, MAX_RUNS, c);
+		if (runs == null) {
+			quickSort1(fromIndex, len, c);
+		} else {
+			mergeRuns(runs, toIndex, c);
+		}
+	}
+
+	/**
+	 * Sorts the specified range of elements using a natural merge sort: runs of elements that are
+	 * already in order are found, and adjacent runs are merged in place until only one remains.
+	 * The sort is stable. It takes linear time if the data is already sorted (or in reverse order),
+	 * and is fast if the data consists of a few sorted sequences, but it is slower than
+	 * {@link #quickSort} on data in random order.
+	 *
+	 * @param fromIndex the index of the first element (inclusive) to be sorted.
+	 * @param toIndex the index of the last element (exclusive) to be sorted.
+	 * @param c the comparator to determine the order of the generic data;
+	 *   an object that knows how to swap the elements at any two indexes (a,b).
+	 */
+	public static void mergeSort(int fromIndex, int toIndex, Sortable c) {
+		if (toIndex - fromIndex > 1) {
+			mergeRuns(findRuns(fromIndex, toIndex, Integer.MAX_VALUE, c), toIndex, c);
+		}
+	}
+
+	/**
+	 * Find the runs of elements that are in ascending order. A run that is in strictly descending
+	 * order is reversed in place (reversing a run containing equal elements would make the sort unstable).
+	 * @return an array containing the start index of each run, followed by -1; or null if there are
+	 * more than maxRuns runs, in which case some of the runs may already have been reversed
+	 */
+	private static int[] findRuns(int fromIndex, int toIndex, int maxRuns, Sortable c) {
+		int[] starts = new int[8];
+		int count = 0;
+		int i = fromIndex;
+		while (i < toIndex) {
+			if (count + 1 >= starts.length) {
+				int[] s2 = new int[starts.length * 2];
+				System.arraycopy(starts, 0, s2, 0, count);
+				starts = s2;
+			}
+			starts[count++] = i;
+			if (count > maxRuns) {
+				return null;
+			}
+			int start = i++;
+			if (i < toIndex && c.compare(start, i) > 0) {
+				while (i + 1 < toIndex && c.compare(i, i + 1) > 0) {
+					i++;
+				}
+				reverse(start, ++i, c);
+			} else {
+				while (i < toIndex && c.compare(i - 1, i) <= 0) {
+					i++;
+				}
+			}
+		}
+		starts[count] = -1;
+		return starts;
+	}
+
+	/**
+	 * Merge adjacent runs, pairwise, until there is only one run
+	 * @param runs the start index of each run, followed by -1. This array is overwritten.
+	 * @param toIndex the index of the end of the last run (exclusive)
+	 */
+	private static void mergeRuns(int[] runs, int toIndex, Sortable c) {
+		int count = 0;
+		while (runs[count] >= 0) {
+			count++;
+		}
+		while (count > 1) {
+			int merged = 0;
+			for (int r = 0; r < count; r += 2) {
+				if (r + 1 < count) {
+					int end = (r + 2 < count ? runs[r + 2] : toIndex);
+					inPlaceMerge(runs[r], runs[r + 1], end, c);
+				}
+				runs[merged++] = runs[r];
+			}
+			count = merged;
+		}
+	}
+
+	/**
+	 * Merge two adjacent sorted ranges in place, without allocating temporary storage. The merge
+	 * is stable. This is the "merge without buffer" algorithm of the STL, as used by the JAL library
+	 * from which the original mergesort of this class was derived.
+	 * @param first the start of the first range
+	 * @param middle the end of the first range, which is the start of the second
+	 * @param last the end of the second range (exclusive)
+	 */
+	static void inPlaceMerge(int first, int middle, int last, Sortable c) {
+		if (first >= middle || middle >= last) {
+			return;
+		}
+		if (c.compare(middle - 1, middle) <= 0) {
+			// the ranges are already in order
+			return;
+		}
+		if (last - first == 2) {
+			c.swap(first, middle);
+			return;
+		}
+		int firstCut, secondCut;
+		if (middle - first > last - middle) {
+			firstCut = first + (middle - first) / 2;
+			secondCut = lowerBound(middle, last, firstCut, c);
+		} else {
+			secondCut = middle + (last - middle) / 2;
+			firstCut = upperBound(first, middle, secondCut, c);
+		}
+		// exchange the ranges [firstCut, middle) and [middle, secondCut)
+		reverse(firstCut, middle, c);
+		reverse(middle, secondCut, c);
+		reverse(firstCut, secondCut, c);
+		int newMiddle = firstCut + (secondCut - middle);
+		inPlaceMerge(first, firstCut, newMiddle, c);
+		inPlaceMerge(newMiddle, secondCut, last, c);
+	}
+
+	/**
+	 * Find the first position in a sorted range whose element is not less than the element at index x
+	 */
+	private static int lowerBound(int first, int last, int x, Sortable c) {
+		int len = last - first;
+		while (len > 0) {
+			int half = len / 2;
+			int mid = first + half;
+			if (c.compare(mid, x) < 0) {
+				first = mid + 1;
+				len -= half + 1;
+			} else {
+				len = half;
+			}
+		}
+		return first;
+	}
+
+	/**
+	 * Find the first position in a sorted range whose element is greater than the element at index x
+	 */
+	private static int upperBound(int first, int last, int x, Sortable c) {
+		int len = last - first;
+		while (len > 0) {
+			int half = len / 2;
+			int mid = first + half;
+			if (c.compare(x, mid) < 0) {
+				len = half;
+			} else {
+				first = mid + 1;
+				len -= half + 1;
+			}
+		}
+		return first;
+	}
+
+	/**
+	 * Reverse the order of the elements in a range
+	 */
+	private static void reverse(int from, int to, Sortable c) {
+		for (int i = from, j = to - 1; i < j; i++, j--) {
+			c.swap(i, j);
+		}
+	}
+
 	/**
 	 * Returns the index of the median of the three indexed elements.
 	 */
@@ -278,5 +465,6 @@ It is provided "as is" without expressed or implied warranty.
 */
 
 // Modified by Michael Kay to use the Saxon Sortable interface and to remove unused code
+// The adaptive sort and the natural merge sort were added subsequently
 
 
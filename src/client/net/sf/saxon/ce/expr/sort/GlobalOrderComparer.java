@@ -31,7 +31,7 @@ public final class GlobalOrderComparer implements NodeOrderComparer {
         long d1 = a.getDocumentNumber();
         long d2 = b.getDocumentNumber();
         if (d1 == d2) {
-            return a.compareOrder(b);
+            return LocalOrderComparer.getInstance().compare(a, b);
         }
         return Long.signum(d1 - d2);
     }
@@ -40,4 +40,4 @@ public final class GlobalOrderComparer implements NodeOrderComparer {
 
 // This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0. 
 // If a copy of the MPL was not distributed with this file, You can obtain one at http://mozilla.org/MPL/2.0/.
-// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
\ No newline at end of file
+// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
\ No newline at end of file
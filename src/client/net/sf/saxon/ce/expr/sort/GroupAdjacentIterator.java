@@ -21,7 +21,8 @@ import java.util.List;
  * order of first appearance.
  * <p>
  * Each step of this iterator advances to the first item of the next group,
- * leaving the members of that group in a saved list.
+ * leaving the members of that group in a saved list. In streaming mode, the members of
+ * the group are instead read from the population as they are requested.
  */
 
 public class GroupAdjacentIterator implements GroupIterator {
@@ -39,6 +40,9 @@ public class GroupAdjacentIterator implements GroupIterator {
     private Item next;
     private Item current = null;
     private int position = 0;
+    private boolean streaming = false;
+    private boolean groupOpen = false;      // in streaming mode, true if the current group may have unread members
+    private boolean membersIssued = false;  // in streaming mode, true if the current group's members have been requested
 
     public GroupAdjacentIterator(SequenceIterator population, Expression keyExpression,
                                  XPathContext baseContext, StringCollator collator)
@@ -54,36 +58,66 @@ public class GroupAdjacentIterator implements GroupIterator {
         }
     }
 
+    /**
+     * Request streaming mode. In this mode the members of each group are not saved: the members of
+     * the current group are read as they are requested, and any that have not been read when the
+     * iterator moves to the next group are skipped. This is intended for a caller that reads
+     * current-group() at most once for each group: a second read has to read the group again
+     * from the population.
+     * @param streaming true if the members of each group are to be read on demand
+     */
+
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
     private void advance() throws XPathException {
         currentMembers = new ArrayList(20);
         currentMembers.add(current);
         while (true) {
-            Item nextCandidate = population.next();
-            if (nextCandidate == null) {
-                break;
+            Item member = nextMember();
+            if (member == null) {
+                return;
             }
-            AtomicValue candidateKey =
-                    (AtomicValue)keyExpression.evaluateItem(runningContext);
-            try {
-                Object compKey = comparisonKey(candidateKey);
-                if (currentComparisonKey.equals(compKey)) {
-                    currentMembers.add(nextCandidate);
-                } else {
-                    next = nextCandidate;
-                    nextKey = candidateKey;
-                    return;
-                }
-            } catch (ClassCastException e) {
-                XPathException err = new XPathException("Grouping key values are of non-comparable types (" +
-                        Type.displayTypeName(currentKey) +
-                        " and " +
-                        Type.displayTypeName(candidateKey) + ')');
-                err.setIsTypeError(true);
-                throw err;
+            currentMembers.add(member);
+        }
+    }
+
+    /**
+     * Read the next item in the population, if it belongs to the current group
+     * @return the item, or null if the current group is complete. In that case the first item of
+     * the next group (if any) and its grouping key are saved in next and nextKey
+     * @throws XPathException if evaluating the grouping key fails
+     */
+
+    private Item nextMember() throws XPathException {
+        Item nextCandidate = population.next();
+        if (nextCandidate == null) {
+            next = null;
+            nextKey = null;
+            groupOpen = false;
+            return null;
+        }
+        AtomicValue candidateKey =
+                (AtomicValue)keyExpression.evaluateItem(runningContext);
+        try {
+            Object compKey = comparisonKey(candidateKey);
+            if (currentComparisonKey.equals(compKey)) {
+                return nextCandidate;
+            } else {
+                next = nextCandidate;
+                nextKey = candidateKey;
+                groupOpen = false;
+                return null;
             }
+        } catch (ClassCastException e) {
+            XPathException err = new XPathException("Grouping key values are of non-comparable types (" +
+                    Type.displayTypeName(currentKey) +
+                    " and " +
+                    Type.displayTypeName(candidateKey) + ')');
+            err.setIsTypeError(true);
+            throw err;
         }
-        next = null;
-        nextKey = null;
     }
 
     private Object comparisonKey(AtomicValue candidateKey) {
@@ -98,11 +132,48 @@ public class GroupAdjacentIterator implements GroupIterator {
         return currentKey;
     }
 
-    public SequenceIterator iterateCurrentGroup() {
+    public SequenceIterator iterateCurrentGroup() throws XPathException {
+        if (streaming) {
+            if (membersIssued) {
+                return readGroupAgain(position);
+            }
+            membersIssued = true;
+            final int groupNumber = position;
+            return new GroupMemberIterator(current) {
+                protected Item readMember() throws XPathException {
+                    return (position == groupNumber && groupOpen ? nextMember() : null);
+                }
+                protected SequenceIterator readGroupAgain() throws XPathException {
+                    return GroupAdjacentIterator.this.readGroupAgain(groupNumber);
+                }
+            };
+        }
         return new ListIterator(currentMembers);
     }
 
+    /**
+     * Read the members of a group in streaming mode for a second time. The members that have been
+     * read are not retained, so the group is found by a new pass over the population, which saves
+     * the members of each group in a list.
+     * @param groupNumber the position of the group, starting at 1
+     * @return an iterator over the members of the group
+     * @throws XPathException if reading the population or evaluating the grouping key fails
+     */
+
+    private SequenceIterator readGroupAgain(int groupNumber) throws XPathException {
+        GroupAdjacentIterator another =
+                new GroupAdjacentIterator(population.getAnother(), keyExpression, baseContext, collator);
+        for (int i = 0; i < groupNumber; i++) {
+            another.next();
+        }
+        return another.iterateCurrentGroup();
+    }
+
     public Item next() throws XPathException {
+        while (groupOpen) {
+            // skip any members of the current group that have not been read
+            nextMember();
+        }
         if (next == null) {
             current = null;
             position = -1;
@@ -112,7 +183,12 @@ public class GroupAdjacentIterator implements GroupIterator {
         currentKey = nextKey;
         currentComparisonKey = comparisonKey(currentKey);
         position++;
-        advance();
+        if (streaming) {
+            groupOpen = true;
+            membersIssued = false;
+        } else {
+            advance();
+        }
         return current;
     }
 
@@ -125,7 +201,10 @@ public class GroupAdjacentIterator implements GroupIterator {
     }
 
     public SequenceIterator getAnother() throws XPathException {
-        return new GroupAdjacentIterator(population.getAnother(), keyExpression, baseContext, collator);
+        GroupAdjacentIterator another =
+                new GroupAdjacentIterator(population.getAnother(), keyExpression, baseContext, collator);
+        another.setStreaming(streaming);
+        return another;
     }
 
 
@@ -134,4 +213,4 @@ public class GroupAdjacentIterator implements GroupIterator {
 
 // This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0. 
 // If a copy of the MPL was not distributed with this file, You can obtain one at http://mozilla.org/MPL/2.0/.
-// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
\ No newline at end of file
+// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
\ No newline at end of file
@@ -3,7 +3,6 @@ package client.net.sf.saxon.ce.expr.sort;
 import client.net.sf.saxon.ce.expr.Expression;
 import client.net.sf.saxon.ce.expr.LastPositionFinder;
 import client.net.sf.saxon.ce.expr.XPathContext;
-import client.net.sf.saxon.ce.functions.DistinctValues;
 import client.net.sf.saxon.ce.lib.StringCollator;
 import client.net.sf.saxon.ce.om.Item;
 import client.net.sf.saxon.ce.om.SequenceIterator;
@@ -11,11 +10,21 @@ import client.net.sf.saxon.ce.trans.XPathException;
 import client.net.sf.saxon.ce.tree.iter.FocusIterator;
 import client.net.sf.saxon.ce.tree.iter.ListIterator;
 import client.net.sf.saxon.ce.type.AtomicType;
+import client.net.sf.saxon.ce.type.ItemType;
+import client.net.sf.saxon.ce.type.TypeHierarchy;
 import client.net.sf.saxon.ce.value.AtomicValue;
+import client.net.sf.saxon.ce.value.DoubleValue;
+import client.net.sf.saxon.ce.value.FloatValue;
+import client.net.sf.saxon.ce.value.IntegerValue;
+import client.net.sf.saxon.ce.value.NumericValue;
+import client.net.sf.saxon.ce.value.StringValue;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * A GroupByIterator iterates over a sequence of groups defined by
@@ -35,11 +44,25 @@ import java.util.List;
 public class GroupByIterator implements GroupIterator, LastPositionFinder {
 
     // The implementation of group-by is not pipelined. All the items in the population
-    // are read at the start, their grouping keys are calculated, and the groups are formed
-    // in memory as a hash table indexed by the grouping key. This hash table is then
-    // flattened into three parallel lists: a list of groups (each group being represented
-    // as a list of items in population order), a list of grouping keys, and a list of
-    // the initial items of the groups.
+    // are read at the start, their grouping keys are calculated, and each distinct key is
+    // allocated a group number, in order of first appearance. The members of all the groups
+    // are held in a single array, with the members of each group linked into a chain; when
+    // the population has been read, this array is rearranged so that the members of each
+    // group are contiguous, in population order.
+
+    // Where the grouping keys are known statically to be strings (compared using codepoints, or
+    // using a collation whose collation keys are strings) or numbers that can be held exactly as doubles, the mapping from keys to group numbers
+    // uses an open-addressed hash table holding the keys as Strings or doubles. Other keys
+    // are mapped to group numbers using a HashMap indexed by the XPath comparison key.
+
+    private static Logger logger = Logger.getLogger("GroupByIterator");
+
+    private static final int GENERAL_KEYS = 0;
+    private static final int STRING_KEYS = 1;
+    private static final int NUMERIC_KEYS = 2;
+
+    // Doubles in this range hold integers exactly
+    private static final double MAX_EXACT_INTEGER = 9007199254740992.0;
 
     private FocusIterator population;
     protected Expression keyExpression;
@@ -47,14 +70,33 @@ public class GroupByIterator implements GroupIterator, LastPositionFinder {
     private XPathContext keyContext;
     private int position = 0;
 
-    // Main data structure holds one entry for each group. The entry is also an ArrayList,
-    // which contains the Items that are members of the group, in population order.
-    // The groups are arranged in order of first appearance within the population.
-    protected List<List<Item>> groups = new ArrayList<List<Item>>(40);
-
-    // This parallel structure identifies the grouping key for each group. The list
-    // corresponds one-to-one with the list of groups.
+    // The grouping key for each group, indexed by group number
     protected List<AtomicValue> groupKeys = new ArrayList<AtomicValue>(40);
+    private int groupCount = 0;
+
+    // While the population is being read: the members of all groups, with memberNext giving the
+    // position in the array of the next member of the same group, or -1
+    private Item[] members = new Item[64];
+    private int[] memberNext = new int[64];
+    private int memberCount = 0;
+    private int[] groupHead = new int[40];
+    private int[] groupTail = new int[40];
+
+    // When the population has been read: the members of group n are at positions
+    // groupStart[n] to groupStart[n+1]-1 of the members array
+    private int[] groupStart;
+
+    // Hash table for string and numeric keys: each entry holds a group number plus one, or zero if empty
+    private int keyKind;
+    private int[] table;
+    private int tableCount = 0;
+    private int[] groupHash;
+    private String[] stringKeys;
+    private double[] numericKeys;
+    private int nanGroup = -1;
+
+    // Index of other keys
+    private HashMap<Object, Integer> index;
 
     // A SortComparer is used to do the comparisons
     protected AtomicComparer comparer;
@@ -77,7 +119,16 @@ public class GroupByIterator implements GroupIterator, LastPositionFinder {
         AtomicType type = (AtomicType)keyExpression.getItemType();
         this.comparer = AtomicSortComparer.makeSortComparer(collator, type, keyContext.getImplicitTimezone());
 
-        HashMap<Object, List<Item>> index = new HashMap<Object, List<Item>>(40);
+        keyKind = getKeyKind(type, collator);
+        if (keyKind != GENERAL_KEYS) {
+            table = new int[64];
+            groupHash = new int[40];
+            if (keyKind == STRING_KEYS) {
+                stringKeys = new String[40];
+            } else {
+                numericKeys = new double[40];
+            }
+        }
         XPathContext c2 = this.keyContext.newMinorContext();
         this.population = c2.setCurrentIterator(population);
         while (true) {
@@ -85,20 +136,50 @@ public class GroupByIterator implements GroupIterator, LastPositionFinder {
             if (item==null) {
                 break;
             }
-            processItem(index, item, c2);
+            processItem(item, c2);
+        }
+        makeGroupsContiguous();
+        if (logger.isLoggable(Level.FINE)) {
+            int largest = 0;
+            for (int g = 0; g < groupCount; g++) {
+                largest = Math.max(largest, groupStart[g + 1] - groupStart[g]);
+            }
+            logger.log(Level.FINE, "group-by: " + memberCount + " items in " + groupCount +
+                    " groups, largest group " + largest);
+        }
+    }
+
+    /**
+     * Decide how grouping keys are to be indexed
+     * @param type the static type of the grouping keys
+     * @param collator the collation used to compare strings
+     * @return one of GENERAL_KEYS, STRING_KEYS, NUMERIC_KEYS
+     */
+
+    private static int getKeyKind(AtomicType type, StringCollator collator) {
+        TypeHierarchy th = TypeHierarchy.getInstance();
+        if ((th.isSubType(type, AtomicType.STRING) || type == AtomicType.UNTYPED_ATOMIC) &&
+                (collator instanceof CodepointCollator || collator instanceof StringKeyCollator)) {
+            // strings are indexed by their collation keys, which are the strings themselves under
+            // the codepoint collation
+            return STRING_KEYS;
+        } else if (th.isSubType(type, AtomicType.DOUBLE) || th.isSubType(type, AtomicType.FLOAT) ||
+                th.isSubType(type, AtomicType.INTEGER)) {
+            // decimals are excluded, because two different decimals may have the same double value
+            return NUMERIC_KEYS;
+        } else {
+            return GENERAL_KEYS;
         }
     }
 
     /**
      * Process one item in the population
-     * @param index the index of items
      * @param item the item from the population to be processed
      * @param c2 the XPath evaluation context
      * @throws XPathException on dynamic error
      */
 
-    protected void processItem(HashMap<Object, List<Item>> index,
-                               Item item, XPathContext c2) throws XPathException {
+    protected void processItem(Item item, XPathContext c2) throws XPathException {
         SequenceIterator keys = keyExpression.iterate(c2);
         boolean firstKey = true;
         while (true) {
@@ -106,34 +187,211 @@ public class GroupByIterator implements GroupIterator, LastPositionFinder {
             if (key==null) {
                 break;
             }
-            Object comparisonKey;
-            if (key.isNaN()) {
-                comparisonKey = DistinctValues.class;
-            } else {
-                comparisonKey = key.getXPathComparable(false, collator, c2.getImplicitTimezone());
-            }
-            List<Item> g = index.get(comparisonKey);
-            if (g == null) {
-                List<Item> newGroup = new ArrayList<Item>(20);
-                newGroup.add(item);
-                groups.add(newGroup);
+            int g = getGroupNumber(key, c2);
+            if (g == groupCount) {
                 groupKeys.add(key);
-                index.put(comparisonKey, newGroup);
-            } else {
-                if (firstKey) {
-                    g.add(item);
-                } else {
-                    // if this is not the first key value for this item, we
-                    // check whether the item is already in this group before
-                    // adding it again. If it is in this group, then we know
-                    // it will be at the end.
-                    if (g.get(g.size() - 1) != item) {
-                        g.add(item);
+                groupCount++;
+                groupHead[g] = -1;
+                addMember(g, item);
+            } else if (firstKey || members[groupTail[g]] != item) {
+                // if this is not the first key value for this item, we
+                // check whether the item is already in this group before
+                // adding it again. If it is in this group, then we know
+                // it will be at the end.
+                addMember(g, item);
+            }
+            firstKey = false;
+        }
+    }
+
+    /**
+     * Add an item to the end of a group
+     * @param g the group number
+     * @param item the item to be added
+     */
+
+    private void addMember(int g, Item item) {
+        if (memberCount == members.length) {
+            Item[] m2 = new Item[memberCount * 2];
+            System.arraycopy(members, 0, m2, 0, memberCount);
+            members = m2;
+            int[] n2 = new int[memberCount * 2];
+            System.arraycopy(memberNext, 0, n2, 0, memberCount);
+            memberNext = n2;
+        }
+        members[memberCount] = item;
+        memberNext[memberCount] = -1;
+        if (groupHead[g] < 0) {
+            groupHead[g] = memberCount;
+        } else {
+            memberNext[groupTail[g]] = memberCount;
+        }
+        groupTail[g] = memberCount++;
+    }
+
+    /**
+     * Get the number of the group to which a grouping key belongs
+     * @param key the grouping key
+     * @param c2 the XPath evaluation context
+     * @return the group number. If the key does not match any existing group, the result is
+     * <code>groupCount</code>, the number to be allocated to a new group.
+     */
+
+    private int getGroupNumber(AtomicValue key, XPathContext c2) {
+        if (groupCount == groupHead.length) {
+            ensureGroupCapacity(groupCount * 2);
+        }
+        if (key.isNaN()) {
+            if (nanGroup < 0) {
+                nanGroup = groupCount;
+            }
+            return nanGroup;
+        }
+        if (keyKind == STRING_KEYS && key instanceof StringValue) {
+            String s = key.getStringValue();
+            if (collator instanceof StringKeyCollator) {
+                s = ((StringKeyCollator)collator).getCollationKey(s);
+            }
+            return getStringGroup(s);
+        } else if (keyKind == NUMERIC_KEYS && (key instanceof DoubleValue || key instanceof FloatValue ||
+                key instanceof IntegerValue)) {
+            double d = ((NumericValue)key).getDoubleValue();
+            // integers are held as doubles only if they can be represented exactly; the rest are
+            // indexed by value, and cannot be equal to any key held as a double
+            if (!(key instanceof IntegerValue) || (d < MAX_EXACT_INTEGER && d > -MAX_EXACT_INTEGER)) {
+                return getNumericGroup(d == 0 ? 0.0 : d);    // treat -0.0 as 0.0
+            }
+        }
+        if (index == null) {
+            index = new HashMap<Object, Integer>(40);
+        }
+        Object comparisonKey = key.getXPathComparable(false, collator, c2.getImplicitTimezone());
+        Integer g = index.get(comparisonKey);
+        if (g == null) {
+            index.put(comparisonKey, groupCount);
+            return groupCount;
+        }
+        return g;
+    }
+
+    private int getStringGroup(String s) {
+        int hash = s.hashCode();
+        int mask = table.length - 1;
+        for (int i = spread(hash) & mask; ; i = (i + 1) & mask) {
+            int entry = table[i];
+            if (entry == 0) {
+                stringKeys[groupCount] = s;
+                return addToTable(i, hash);
+            }
+            if (groupHash[entry - 1] == hash && stringKeys[entry - 1].equals(s)) {
+                return entry - 1;
+            }
+        }
+    }
+
+    private int getNumericGroup(double d) {
+        int hash = (d < Integer.MAX_VALUE && d > Integer.MIN_VALUE ?
+                (int)d ^ (int)((d - (int)d) * 0x7fffffff) : Double.valueOf(d).hashCode());
+        int mask = table.length - 1;
+        for (int i = spread(hash) & mask; ; i = (i + 1) & mask) {
+            int entry = table[i];
+            if (entry == 0) {
+                numericKeys[groupCount] = d;
+                return addToTable(i, hash);
+            }
+            if (numericKeys[entry - 1] == d) {
+                return entry - 1;
+            }
+        }
+    }
+
+    /**
+     * Record a new group in the hash table
+     * @param slot the empty slot in which the group is to be recorded
+     * @param hash the hash code of the group's key
+     * @return the number of the new group
+     */
+
+    private int addToTable(int slot, int hash) {
+        groupHash[groupCount] = hash;
+        table[slot] = groupCount + 1;
+        if (++tableCount * 2 > table.length) {
+            // keep the table no more than half full
+            int[] old = table;
+            table = new int[old.length * 2];
+            int mask = table.length - 1;
+            for (int entry : old) {
+                if (entry != 0) {
+                    int i = spread(groupHash[entry - 1]) & mask;
+                    while (table[i] != 0) {
+                        i = (i + 1) & mask;
                     }
+                    table[i] = entry;
                 }
             }
-            firstKey = false;
         }
+        return groupCount;
+    }
+
+    /**
+     * Expand the arrays that are indexed by group number
+     * @param capacity the new size of the arrays
+     */
+
+    private void ensureGroupCapacity(int capacity) {
+        int[] h2 = new int[capacity];
+        System.arraycopy(groupHead, 0, h2, 0, groupCount);
+        groupHead = h2;
+        int[] t2 = new int[capacity];
+        System.arraycopy(groupTail, 0, t2, 0, groupCount);
+        groupTail = t2;
+        if (groupHash != null) {
+            int[] g2 = new int[capacity];
+            System.arraycopy(groupHash, 0, g2, 0, groupCount);
+            groupHash = g2;
+        }
+        if (stringKeys != null) {
+            String[] s2 = new String[capacity];
+            System.arraycopy(stringKeys, 0, s2, 0, groupCount);
+            stringKeys = s2;
+        }
+        if (numericKeys != null) {
+            double[] d2 = new double[capacity];
+            System.arraycopy(numericKeys, 0, d2, 0, groupCount);
+            numericKeys = d2;
+        }
+    }
+
+    private static int spread(int hash) {
+        hash *= 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Rearrange the members array so that the members of each group are contiguous, and
+     * discard the data that is needed only while the population is being read
+     */
+
+    private void makeGroupsContiguous() {
+        Item[] sorted = new Item[memberCount];
+        groupStart = new int[groupCount + 1];
+        int k = 0;
+        for (int g = 0; g < groupCount; g++) {
+            groupStart[g] = k;
+            for (int m = groupHead[g]; m >= 0; m = memberNext[m]) {
+                sorted[k++] = members[m];
+            }
+        }
+        groupStart[groupCount] = k;
+        members = sorted;
+        memberNext = null;
+        groupHead = null;
+        groupTail = null;
+        table = null;
+        groupHash = null;
+        stringKeys = null;
+        numericKeys = null;
+        index = null;
     }
 
     /**
@@ -151,7 +409,7 @@ public class GroupByIterator implements GroupIterator, LastPositionFinder {
      */
 
     public SequenceIterator iterateCurrentGroup() {
-        return new ListIterator(groups.get(position-1));
+        return new ListIterator(getCurrentGroup());
     }
 
     /**
@@ -159,12 +417,12 @@ public class GroupByIterator implements GroupIterator, LastPositionFinder {
      * @return the contents of the current group
      */
 
-    public List getCurrentGroup() {
-        return groups.get(position-1);
+    public List<Item> getCurrentGroup() {
+        return Arrays.asList(members).subList(groupStart[position-1], groupStart[position]);
     }
 
     public Item next() throws XPathException {
-        if (position >= 0 && position < groups.size()) {
+        if (position >= 0 && position < groupCount) {
             position++;
             return current0();
         } else {
@@ -182,7 +440,7 @@ public class GroupByIterator implements GroupIterator, LastPositionFinder {
             return null;
         }
         // return the initial item of the current group
-        return (Item)((ArrayList)groups.get(position-1)).get(0);
+        return members[groupStart[position-1]];
     }
 
     private int position() {
@@ -199,7 +457,7 @@ public class GroupByIterator implements GroupIterator, LastPositionFinder {
      */
 
     public int getLastPosition() throws XPathException {
-        return groups.size();
+        return groupCount;
     }
 
 }
@@ -207,4 +465,4 @@ public class GroupByIterator implements GroupIterator, LastPositionFinder {
 
 // This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0. 
 // If a copy of the MPL was not distributed with this file, You can obtain one at http://mozilla.org/MPL/2.0/.
-// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
\ No newline at end of file
+// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
\ No newline at end of file
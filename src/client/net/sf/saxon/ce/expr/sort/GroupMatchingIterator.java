@@ -32,7 +32,7 @@ public abstract class GroupMatchingIterator implements  GroupIterator {
         return null;
     }
 
-    public SequenceIterator iterateCurrentGroup() {
+    public SequenceIterator iterateCurrentGroup() throws XPathException {
         return new ListIterator(currentMembers);
     }
 
@@ -0,0 +1,70 @@
+package client.net.sf.saxon.ce.expr.sort;
+
+import client.net.sf.saxon.ce.om.Item;
+import client.net.sf.saxon.ce.om.SequenceIterator;
+import client.net.sf.saxon.ce.trans.XPathException;
+
+/**
+ * An iterator over the members of the current group, used when a GroupIterator is operating
+ * in streaming mode. The first member of the group is already known; the remaining members are
+ * read from the population on demand, so the members of the group are never held in memory.
+ * ForEachGroup requests streaming mode only if its analysis of the body shows that current-group()
+ * is read at most once; if the group is nevertheless read again, {@link #getAnother} reads it
+ * again from the population and returns the members from a list.
+ */
+
+abstract class GroupMemberIterator implements SequenceIterator {
+
+    private Item first;
+    private boolean started = false;
+    private boolean finished = false;
+
+    /**
+     * Create an iterator over the members of a group
+     * @param first the first item in the group
+     */
+
+    GroupMemberIterator(Item first) {
+        this.first = first;
+    }
+
+    public Item next() throws XPathException {
+        if (finished) {
+            return null;
+        }
+        if (!started) {
+            started = true;
+            return first;
+        }
+        Item item = readMember();
+        if (item == null) {
+            finished = true;
+        }
+        return item;
+    }
+
+    /**
+     * Read the next member of the group from the population
+     * @return the next member of the group, or null if there are no more members
+     * @throws XPathException on a dynamic error reading the population or testing group membership
+     */
+
+    protected abstract Item readMember() throws XPathException;
+
+    /**
+     * Read all the members of the group again, from the start
+     * @return an iterator over the members of the group, held in a list
+     * @throws XPathException on a dynamic error reading the population or testing group membership
+     */
+
+    protected abstract SequenceIterator readGroupAgain() throws XPathException;
+
+    public SequenceIterator getAnother() throws XPathException {
+        return readGroupAgain();
+    }
+
+}
+
+// This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+// If a copy of the MPL was not distributed with this file, You can obtain one at http://mozilla.org/MPL/2.0/.
+// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
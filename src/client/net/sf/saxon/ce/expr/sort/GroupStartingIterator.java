@@ -1,6 +1,7 @@
 package client.net.sf.saxon.ce.expr.sort;
 
 import client.net.sf.saxon.ce.expr.XPathContext;
+import client.net.sf.saxon.ce.om.Item;
 import client.net.sf.saxon.ce.om.NodeInfo;
 import client.net.sf.saxon.ce.om.SequenceIterator;
 import client.net.sf.saxon.ce.pattern.Pattern;
@@ -11,11 +12,16 @@ import java.util.ArrayList;
 /**
  * A GroupStartingIterator iterates over a sequence of groups defined by
  * xsl:for-each-group group-starting-with="x". The groups are returned in
- * order of first appearance.
+ * order of first appearance. In streaming mode, the members of each group are read from
+ * the population as they are requested, rather than being saved in a list.
  */
 
 public class GroupStartingIterator extends GroupMatchingIterator implements GroupIterator {
 
+    private boolean streaming = false;
+    private boolean groupOpen = false;      // in streaming mode, true if the current group may have unread members
+    private boolean membersIssued = false;  // in streaming mode, true if the current group's members have been requested
+
     public GroupStartingIterator(SequenceIterator population, Pattern startPattern,
                                  XPathContext context)
             throws XPathException {
@@ -27,26 +33,101 @@ public class GroupStartingIterator extends GroupMatchingIterator implements Grou
         next = population.next();
     }
 
+    /**
+     * Request streaming mode. In this mode the members of each group are not saved: the members of
+     * the current group are read as they are requested, and any that have not been read when the
+     * iterator moves to the next group are skipped. This is intended for a caller that reads
+     * current-group() at most once for each group: a second read has to read the group again
+     * from the population.
+     * @param streaming true if the members of each group are to be read on demand
+     */
+
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
     protected void advance() throws XPathException {
+        if (streaming) {
+            groupOpen = true;
+            membersIssued = false;
+            return;
+        }
         currentMembers = new ArrayList(10);
         currentMembers.add(current);
         while (true) {
-            NodeInfo nextCandidate = (NodeInfo)population.next();
-            if (nextCandidate == null) {
-                break;
-            }
-            if (pattern.matches(nextCandidate, runningContext)) {
-                next = nextCandidate;
+            NodeInfo member = nextMember();
+            if (member == null) {
                 return;
-            } else {
-                currentMembers.add(nextCandidate);
             }
+            currentMembers.add(member);
+        }
+    }
+
+    /**
+     * Read the next item in the population, if it belongs to the current group
+     * @return the item, or null if the current group is complete. In that case the first item of
+     * the next group, if any, is saved in next
+     * @throws XPathException if matching the pattern fails
+     */
+
+    private NodeInfo nextMember() throws XPathException {
+        NodeInfo nextCandidate = (NodeInfo)population.next();
+        if (nextCandidate == null || pattern.matches(nextCandidate, runningContext)) {
+            next = nextCandidate;
+            groupOpen = false;
+            return null;
+        }
+        return nextCandidate;
+    }
+
+    public SequenceIterator iterateCurrentGroup() throws XPathException {
+        if (streaming) {
+            if (membersIssued) {
+                return readGroupAgain(position);
+            }
+            membersIssued = true;
+            final int groupNumber = position;
+            return new GroupMemberIterator(current) {
+                protected Item readMember() throws XPathException {
+                    return (position == groupNumber && groupOpen ? nextMember() : null);
+                }
+                protected SequenceIterator readGroupAgain() throws XPathException {
+                    return GroupStartingIterator.this.readGroupAgain(groupNumber);
+                }
+            };
+        }
+        return super.iterateCurrentGroup();
+    }
+
+    /**
+     * Read the members of a group in streaming mode for a second time. The members that have been
+     * read are not retained, so the group is found by a new pass over the population, which saves
+     * the members of each group in a list.
+     * @param groupNumber the position of the group, starting at 1
+     * @return an iterator over the members of the group
+     * @throws XPathException if reading the population or matching the pattern fails
+     */
+
+    private SequenceIterator readGroupAgain(int groupNumber) throws XPathException {
+        GroupStartingIterator another = new GroupStartingIterator(population.getAnother(), pattern, baseContext);
+        for (int i = 0; i < groupNumber; i++) {
+            another.next();
+        }
+        return another.iterateCurrentGroup();
+    }
+
+    public Item next() throws XPathException {
+        while (groupOpen) {
+            // skip any members of the current group that have not been read
+            nextMember();
         }
-        next = null;
+        return super.next();
     }
 
     public SequenceIterator getAnother() throws XPathException {
-        return new GroupStartingIterator(population.getAnother(), pattern, baseContext);
+        GroupStartingIterator another = new GroupStartingIterator(population.getAnother(), pattern, baseContext);
+        another.setStreaming(streaming);
+        return another;
     }
 
 
@@ -54,4 +135,4 @@ public class GroupStartingIterator extends GroupMatchingIterator implements Grou
 
 // This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0. 
 // If a copy of the MPL was not distributed with this file, You can obtain one at http://mozilla.org/MPL/2.0/.
-// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
\ No newline at end of file
+// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
\ No newline at end of file
@@ -24,13 +24,17 @@ public final class LocalOrderComparer implements NodeOrderComparer {
     }
 
     public int compare(NodeInfo a, NodeInfo b) {
-        NodeInfo n1 = (NodeInfo)a;
-        NodeInfo n2 = (NodeInfo)b;
-        return n1.compareOrder(n2);
+        // Use the pre-order numbers allocated when the tree was built, if both nodes have one
+        int p1 = a.getPreorderNumber();
+        int p2 = b.getPreorderNumber();
+        if (p1 >= 0 && p2 >= 0) {
+            return (p1 < p2 ? -1 : (p1 == p2 ? 0 : +1));
+        }
+        return a.compareOrder(b);
     }
 }
 
 
 // This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0. 
 // If a copy of the MPL was not distributed with this file, You can obtain one at http://mozilla.org/MPL/2.0/.
-// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
\ No newline at end of file
+// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
\ No newline at end of file
@@ -64,7 +64,7 @@ public class NumericComparer implements AtomicComparer {
 
     }
 
-    private double makeDouble(AtomicValue a) {
+    static double makeDouble(AtomicValue a) {
         double d1;
         if (a instanceof NumericValue) {
             d1 = ((NumericValue)a).getDoubleValue();
@@ -99,4 +99,4 @@ public class NumericComparer implements AtomicComparer {
 
 // This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0. 
 // If a copy of the MPL was not distributed with this file, You can obtain one at http://mozilla.org/MPL/2.0/.
-// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
\ No newline at end of file
+// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
\ No newline at end of file
@@ -50,12 +50,15 @@ public class SortedGroupIterator extends SortedIterator implements GroupIterator
             for (int n=0; n<comparators.length; n++) {
                 nodeKeys[k+n+1] = sortKeyEvaluator.evaluateSortKey(n, c2);
             }
-            nodeKeys[k+comparators.length+1] = count;
+            nodeKeys[k+comparators.length+1] = itemsRead++;
             // extra code added to superclass
             GroupIterator gi = (GroupIterator)base.getUnderlyingIterator();
             nodeKeys[k+comparators.length+2] = gi.getCurrentGroupingKey();
             nodeKeys[k+comparators.length+3] = gi.iterateCurrentGroup();
             count++;
+            if (count > limit) {
+                applyLimit();
+            }
         }
         return allocated;
     }
@@ -74,4 +77,4 @@ public class SortedGroupIterator extends SortedIterator implements GroupIterator
 
 // This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0. 
 // If a copy of the MPL was not distributed with this file, You can obtain one at http://mozilla.org/MPL/2.0/.
-// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
\ No newline at end of file
+// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
\ No newline at end of file
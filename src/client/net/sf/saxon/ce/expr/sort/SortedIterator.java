@@ -2,11 +2,20 @@ package client.net.sf.saxon.ce.expr.sort;
 
 import client.net.sf.saxon.ce.expr.LastPositionFinder;
 import client.net.sf.saxon.ce.expr.XPathContext;
+import client.net.sf.saxon.ce.lib.StringCollator;
+import client.net.sf.saxon.ce.lib.TaskRunner;
 import client.net.sf.saxon.ce.om.Item;
 import client.net.sf.saxon.ce.om.SequenceIterator;
 import client.net.sf.saxon.ce.trans.XPathException;
 import client.net.sf.saxon.ce.tree.iter.FocusIterator;
 import client.net.sf.saxon.ce.value.AtomicValue;
+import client.net.sf.saxon.ce.value.DecimalValue;
+import client.net.sf.saxon.ce.value.DoubleValue;
+import client.net.sf.saxon.ce.value.FloatValue;
+import client.net.sf.saxon.ce.value.NumericValue;
+import client.net.sf.saxon.ce.value.StringValue;
+
+import java.math.BigDecimal;
 
 /**
 * Class to do a sorted iteration
@@ -33,12 +42,33 @@ public class SortedIterator implements SequenceIterator, LastPositionFinder, Sor
     // The number of items to be sorted. -1 means not yet known.
     protected int count = -1;
 
+    // The number of items read from the base iterator so far. This is used as the final sort key, to make
+    // the sort stable; unlike count, it is not reduced when records are discarded because of a limit.
+    protected int itemsRead = 0;
+
     // The next item to be delivered from the sorted iteration
     protected int position = 0;
 
     // The context for the evaluation of sort keys
     protected XPathContext context;
 
+    // The number of items the consumer will read from the sorted sequence; Integer.MAX_VALUE if unknown.
+    // When a limit is set, the array retains only the smallest items seen so far, organised as a heap.
+    protected int limit = Integer.MAX_VALUE;
+    private boolean heapified = false;
+
+    // While the array is being sorted, the values of some sort keys are held in a form that can be
+    // compared without calling the AtomicComparer. For each sort key there is either an array of doubles
+    // (numeric keys, with NaN representing NaN or an empty sequence), or an array of strings (text keys),
+    // or neither. These arrays are indexed by record number, and are permuted along with the records.
+    private double[][] numericKeys;
+    private String[][] textKeys;
+    private StringCollator[] textCollators;     // collator for each text key; null means UTF-16 order
+    private int[] keySigns;                     // -1 for a descending key, +1 otherwise
+
+    // Sequences of at least this length are sorted in parallel, if the Configuration has a TaskRunner
+    private static final int PARALLEL_THRESHOLD = 10000;
+
     private SortedIterator(){}
 
     /**
@@ -87,6 +117,19 @@ public class SortedIterator implements SequenceIterator, LastPositionFinder, Sor
         return (Item)nodeKeys[(position-1)*recordSize];
     }
 
+    /**
+     * Indicate that the consumer of this iterator will read no more than a given number of items.
+     * This allows the sort to retain only the first k items in sorted order (a "top-N" selection)
+     * rather than sorting the whole input. The call has no effect once the sort has been done.
+     * @param k the maximum number of items that will be read
+     */
+
+    public void setLimit(int k) {
+        if (count < 0 && k >= 1) {
+            limit = k;
+        }
+    }
+
     public int getLastPosition() throws XPathException {
         if (count<0) {
             doSort();
@@ -109,6 +152,7 @@ public class SortedIterator implements SequenceIterator, LastPositionFinder, Sor
         s.nodeKeys = nodeKeys;
         s.count = count;
         s.context = context;
+        s.limit = limit;
         //s.keyComparers = keyComparers;
         // ... except for its start position.
         s.position = 0;
@@ -123,11 +167,15 @@ public class SortedIterator implements SequenceIterator, LastPositionFinder, Sor
     protected void buildArray() throws XPathException {
         int allocated = -1;
         if (base.getUnderlyingIterator() instanceof LastPositionFinder) {
-            allocated = base.last();
+            // don't use base.last(): if the length isn't directly available, we don't want to buffer the input
+            allocated = ((LastPositionFinder)base.getUnderlyingIterator()).getLastPosition();
         }
         if (allocated == -1) {
             allocated = 100;
         }
+        if (limit < allocated) {
+            allocated = limit + 1;
+        }
 
         nodeKeys = new Object[allocated * recordSize];
         count = 0;
@@ -162,29 +210,287 @@ public class SortedIterator implements SequenceIterator, LastPositionFinder, Sor
             for (int n=0; n<comparators.length; n++) {
                 nodeKeys[k+n+1] = sortKeyEvaluator.evaluateSortKey(n, context);
             }
-            // make the sort stable by adding the record number
-            nodeKeys[k+comparators.length+1] = count;
+            // make the sort stable by adding the position of the item in the input
+            nodeKeys[k+comparators.length+1] = itemsRead++;
             count++;
+            if (count > limit) {
+                applyLimit();
+            }
         }
         return allocated;
     }
 
-    private void doSort() throws XPathException {
-        buildArray();
-        if (count<2) return;
+    /**
+     * Called when a limit is in force and a record has just been added beyond the limit. The first
+     * "limit" records are maintained as a max-heap; the new record replaces the largest of them if it
+     * is smaller, and is otherwise discarded. Because the position of the item in the input is the final
+     * sort key, no two records compare equal, so the records retained are exactly those that a full sort would deliver first.
+     */
 
-        // sort the array
+    protected void applyLimit() {
+        if (!heapified) {
+            for (int i = limit/2 - 1; i >= 0; i--) {
+                siftDown(i);
+            }
+            heapified = true;
+        }
+        if (compare(limit, 0) < 0) {
+            swap(0, limit);
+            siftDown(0);
+        }
+        count = limit;
+    }
 
-        //QuickSort.sort(this, 0, count-1);
+    private void siftDown(int i) {
+        while (true) {
+            int child = 2*i + 1;
+            if (child >= limit) {
+                return;
+            }
+            if (child + 1 < limit && compare(child + 1, child) > 0) {
+                child++;
+            }
+            if (compare(child, i) <= 0) {
+                return;
+            }
+            swap(i, child);
+            i = child;
+        }
+    }
+
+    private void doSort() throws XPathException {
         try {
-            GenericSorter.quickSort(0, count, this);
+            // when a limit is set, items are compared while the array is being built
+            buildArray();
+            if (count<2) return;
+
+            // sort the array
+
+            //QuickSort.sort(this, 0, count-1);
+            normalizeKeys();
+            TaskRunner runner = context.getConfiguration().getTaskRunner();
+            if (runner != null && runner.getParallelism() > 1 && count >= PARALLEL_THRESHOLD &&
+                    keysAreSelfContained()) {
+                sortInParallel(runner);
+            } else {
+                GenericSorter.sort(0, count, this);
+            }
         } catch (ClassCastException e) {
             //e.printStackTrace();
             XPathException err = new XPathException("Non-comparable types found while sorting: " + e.getMessage());
             err.setErrorCode("XTDE1030");
             throw err;
+        } finally {
+            numericKeys = null;
+            textKeys = null;
+        }
+    }
+
+    /**
+     * Before sorting, convert the value of each sort key, once, into a form that is cheap to compare:
+     * a double for numeric comparisons, a String for text comparisons. Where the collation provides
+     * collation keys that sort in the same order as the strings, the String held is the collation key,
+     * so the collation does its work once per item rather than once per comparison. A sort key is converted only if
+     * comparing the converted values gives the same result as the AtomicComparer would give for every
+     * pair of values; otherwise, the AtomicComparer continues to be used for that key.
+     */
+
+    private void normalizeKeys() {
+        int keys = comparators.length;
+        numericKeys = new double[keys][];
+        textKeys = new String[keys][];
+        textCollators = new StringCollator[keys];
+        keySigns = new int[keys];
+        for (int n=0; n<keys; n++) {
+            AtomicComparer comp = comparators[n];
+            keySigns[n] = +1;
+            if (comp instanceof DescendingComparer) {
+                comp = ((DescendingComparer)comp).getBaseComparer();
+                keySigns[n] = -1;
+            }
+            if (comp instanceof NumericComparer) {
+                double[] values = new double[count];
+                for (int i=0; i<count; i++) {
+                    values[i] = NumericComparer.makeDouble(getKey(i, n));
+                }
+                numericKeys[n] = values;
+            } else if (comp instanceof ComparableAtomicValueComparer) {
+                numericKeys[n] = makeExactDoubles(n);
+            } else if (comp instanceof TextComparer) {
+                // values that are not strings are converted to strings; an empty sequence sorts as ""
+                String[] values = new String[count];
+                for (int i=0; i<count; i++) {
+                    AtomicValue v = getKey(i, n);
+                    values[i] = (v == null ? "" : v.getStringValue());
+                }
+                setTextKey(n, values, comp.getCollator());
+            } else if (comp instanceof CodepointCollatingComparer || comp instanceof CollatingAtomicComparer ||
+                    comp instanceof AtomicSortComparer) {
+                // if every value is a string (including untyped atomic values), all these comparers
+                // compare the values using the collator, with an empty sequence sorting first
+                String[] values = new String[count];
+                for (int i=0; i<count; i++) {
+                    AtomicValue v = getKey(i, n);
+                    if (v == null) {
+                        values[i] = null;
+                    } else if (v instanceof StringValue) {
+                        values[i] = v.getStringValue();
+                    } else {
+                        values = null;
+                        break;
+                    }
+                }
+                if (values != null) {
+                    setTextKey(n, values, comp.getCollator());
+                }
+            }
         }
-        //GenericSorter.mergeSort(0, count, this);
+    }
+
+    /**
+     * Determine whether comparing two records needs only the normalized key values. This is the case if
+     * every key is numeric, or is a string or collation key compared in codepoint or UTF-16 order.
+     * Comparisons then have no side-effects
+     * (such as populating a cache in a collator), so different parts of the array can safely be sorted
+     * on different threads.
+     * @return true if every sort key has been normalized to a form that is compared without a collator
+     */
+
+    private boolean keysAreSelfContained() {
+        for (int n=0; n<comparators.length; n++) {
+            if (numericKeys[n] == null &&
+                    !(textKeys[n] != null && (textCollators[n] == null || textCollators[n] instanceof CodepointCollator))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sort the array by dividing it into sections, one for each available thread, and sorting each
+     * section as a separate task. Adjacent pairs of sorted sections are then merged, each merge being a
+     * separate task, until a single section remains.
+     * @param runner the TaskRunner used to run the tasks
+     */
+
+    private void sortInParallel(TaskRunner runner) {
+        int sections = runner.getParallelism();
+        final int[] bounds = new int[sections + 1];
+        for (int s=0; s<sections; s++) {
+            bounds[s] = (count / sections) * s;
+        }
+        bounds[sections] = count;
+        Runnable[] tasks = new Runnable[sections];
+        for (int s=0; s<sections; s++) {
+            final int from = bounds[s];
+            final int to = bounds[s + 1];
+            tasks[s] = new Runnable() {
+                public void run() {
+                    GenericSorter.sort(from, to, SortedIterator.this);
+                }
+            };
+        }
+        runner.runTasks(tasks);
+        while (sections > 1) {
+            tasks = new Runnable[sections / 2];
+            for (int p=0; p<tasks.length; p++) {
+                final int first = bounds[2*p];
+                final int middle = bounds[2*p + 1];
+                final int last = bounds[2*p + 2];
+                tasks[p] = new Runnable() {
+                    public void run() {
+                        GenericSorter.inPlaceMerge(first, middle, last, SortedIterator.this);
+                    }
+                };
+            }
+            runner.runTasks(tasks);
+            // the merged sections start at the even-numbered boundaries
+            int merged = 0;
+            for (int s=0; s<sections; s+=2) {
+                bounds[merged++] = bounds[s];
+            }
+            bounds[merged] = count;
+            sections = merged;
+        }
+    }
+
+    private AtomicValue getKey(int record, int n) {
+        return (AtomicValue)nodeKeys[record*recordSize + n + 1];
+    }
+
+    /**
+     * Convert numeric sort key values to doubles, for a sort key that is compared using the natural
+     * ordering of the values. This is possible only if every value is either an empty sequence, or a
+     * double or float other than NaN, or a decimal that can be held exactly as a double, and floats
+     * are not mixed with decimals.
+     * @param n the number of the sort key
+     * @return the array of doubles, or null if the values cannot be converted
+     */
+
+    private double[] makeExactDoubles(int n) {
+        double[] values = new double[count];
+        boolean floats = false;
+        boolean decimals = false;
+        for (int i=0; i<count; i++) {
+            AtomicValue v = getKey(i, n);
+            double d;
+            if (v == null) {
+                d = Double.NaN;
+            } else if (v instanceof DoubleValue || v instanceof FloatValue) {
+                floats |= (v instanceof FloatValue);
+                d = ((NumericValue)v).getDoubleValue();
+                if (Double.isNaN(d)) {
+                    return null;
+                }
+            } else if (v instanceof DecimalValue) {
+                decimals = true;
+                BigDecimal dec = ((DecimalValue)v).getDecimalValue();
+                d = dec.doubleValue();
+                if (Double.isInfinite(d) || new BigDecimal(d).compareTo(dec) != 0) {
+                    return null;
+                }
+            } else {
+                return null;
+            }
+            values[i] = d;
+        }
+        return (floats && decimals ? null : values);
+    }
+
+    private void setTextKey(int n, String[] values, StringCollator collator) {
+        if (collator instanceof StringKeyCollator) {
+            // compare the collation keys in UTF-16 order
+            StringKeyCollator keyCollator = (StringKeyCollator)collator;
+            for (int i=0; i<values.length; i++) {
+                if (values[i] != null) {
+                    values[i] = keyCollator.getCollationKey(values[i]);
+                }
+            }
+            collator = null;
+        } else if (collator instanceof CodepointCollator) {
+            // UTF-16 order is the same as codepoint order unless there are surrogate pairs
+            collator = null;
+            for (String s : values) {
+                if (s != null && containsSurrogates(s)) {
+                    collator = CodepointCollator.getInstance();
+                    break;
+                }
+            }
+        } else if (collator == null) {
+            return;
+        }
+        textKeys[n] = values;
+        textCollators[n] = collator;
+    }
+
+    private static boolean containsSurrogates(String s) {
+        for (int i=0; i<s.length(); i++) {
+            char c = s.charAt(i);
+            if (c >= 0xD800 && c <= 0xDFFF) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -197,8 +503,15 @@ public class SortedIterator implements SequenceIterator, LastPositionFinder, Sor
         int a1 = a*recordSize + 1;
         int b1 = b*recordSize + 1;
         for (int i=0; i<comparators.length; i++) {
-            int comp = comparators[i].compareAtomicValues(
-                    (AtomicValue)nodeKeys[a1+i], (AtomicValue)nodeKeys[b1+i]);
+            int comp;
+            if (numericKeys != null && numericKeys[i] != null) {
+                comp = keySigns[i] * compareDoubles(numericKeys[i][a], numericKeys[i][b]);
+            } else if (textKeys != null && textKeys[i] != null) {
+                comp = keySigns[i] * compareStrings(textCollators[i], textKeys[i][a], textKeys[i][b]);
+            } else {
+                comp = comparators[i].compareAtomicValues(
+                        (AtomicValue)nodeKeys[a1+i], (AtomicValue)nodeKeys[b1+i]);
+            }
             if (comp != 0) {
                 // we have found a difference, so we can return
                 return comp;
@@ -211,6 +524,39 @@ public class SortedIterator implements SequenceIterator, LastPositionFinder, Sor
                 ((Integer)nodeKeys[b1+comparators.length]).intValue();
     }
 
+    /**
+     * Compare two numeric sort key values: NaN values compare equal to each other, and less than
+     * anything else
+     */
+
+    private static int compareDoubles(double d1, double d2) {
+        if (d1 < d2) {
+            return -1;
+        } else if (d1 > d2) {
+            return +1;
+        } else if (d1 == d2) {
+            return 0;
+        } else {
+            return (Double.isNaN(d1) ? (Double.isNaN(d2) ? 0 : -1) : +1);
+        }
+    }
+
+    /**
+     * Compare two text sort key values: null (representing an empty sequence) compares less than anything else
+     */
+
+    private static int compareStrings(StringCollator collator, String s1, String s2) {
+        if (s1 == null) {
+            return (s2 == null ? 0 : -1);
+        } else if (s2 == null) {
+            return +1;
+        } else if (collator == null) {
+            return s1.compareTo(s2);
+        } else {
+            return collator.compareStrings(s1, s2);
+        }
+    }
+
     /**
     * Swap two items (needed to implement the Sortable interface)
     */
@@ -223,6 +569,22 @@ public class SortedIterator implements SequenceIterator, LastPositionFinder, Sor
             nodeKeys[a1+i] = nodeKeys[b1+i];
             nodeKeys[b1+i] = temp;
         }
+        if (numericKeys != null) {
+            for (int i=0; i<comparators.length; i++) {
+                double[] d = numericKeys[i];
+                if (d != null) {
+                    double temp = d[a];
+                    d[a] = d[b];
+                    d[b] = temp;
+                }
+                String[] s = textKeys[i];
+                if (s != null) {
+                    String temp = s[a];
+                    s[a] = s[b];
+                    s[b] = temp;
+                }
+            }
+        }
     }
 
 }
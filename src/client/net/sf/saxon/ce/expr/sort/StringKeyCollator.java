@@ -0,0 +1,28 @@
+package client.net.sf.saxon.ce.expr.sort;
+
+import client.net.sf.saxon.ce.lib.StringCollator;
+
+/**
+ * A collation whose collation keys are strings that sort in the same order as the collation: for any
+ * two strings a and b, <code>getCollationKey(a).compareTo(getCollationKey(b))</code> has the same sign as
+ * <code>compareStrings(a, b)</code>. An operation that compares each string many times, such as a sort,
+ * can get the key of each string once and then compare the keys as plain arrays of UTF-16 code units,
+ * which is much cheaper than asking the collator to compare the strings each time.
+ */
+
+public interface StringKeyCollator extends StringCollator {
+
+    /**
+     * Get a collation key for a String. Two strings are equal under the collation if and only if
+     * their collation keys are equal, and the keys are ordered in the same way as the strings.
+     * @param s the string whose collation key is required
+     * @return the collation key
+     */
+
+    String getCollationKey(String s);
+
+}
+
+// This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+// If a copy of the MPL was not distributed with this file, You can obtain one at http://mozilla.org/MPL/2.0/.
+// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
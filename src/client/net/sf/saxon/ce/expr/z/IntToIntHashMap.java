@@ -0,0 +1,222 @@
+package client.net.sf.saxon.ce.expr.z;
+
+/**
+ * A hash table that maps int keys to int values, without boxing either. The table uses open
+ * addressing and the same hashing scheme as {@link IntHashSet}; one key value, by default
+ * Integer.MIN_VALUE, is reserved to mark empty slots and cannot be used as a key.
+ * <p/>
+ * Not thread safe.
+ */
+public class IntToIntHashMap {
+
+    private static final int NBIT = 30; // MAX_SIZE = 2^NBIT
+
+    /**
+     * The maximum number of entries this container can contain.
+     */
+    public static final int MAX_SIZE = 1 << NBIT;
+
+    private final int ndv;          // the key used to mark an empty slot
+    private int defaultValue;       // the value returned for a key that is absent
+
+    private int _nmax; // 0 <= _nmax = 2^nbit <= 2^NBIT = MAX_SIZE
+    private int _size; // 0 <= _size <= _nmax <= MAX_SIZE
+    private int _nlo; // _nmax*_factor (_size<=_nlo, if possible)
+    private int _nhi; //  MAX_SIZE*_factor (_size< _nhi, if possible)
+    private int _shift; // _shift = 1 + NBIT - nbit (see function hash() below)
+    private int _mask; // _mask = _nmax - 1
+    private int[] _keys; // array[_nmax] of keys
+    private int[] _values; // array[_nmax] of values
+
+    /**
+     * Initializes a map with a capacity of 8 and a load factor of 0,25.
+     */
+    public IntToIntHashMap() {
+        this(8);
+    }
+
+    /**
+     * Initializes a map with the given capacity and a load factor of 0,25.
+     * The value returned for an absent key is Integer.MAX_VALUE.
+     * @param capacity the initial capacity.
+     */
+    public IntToIntHashMap(int capacity) {
+        this(capacity, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Initializes a map with a load factor of 0,25.
+     * @param capacity the initial capacity.
+     * @param noDataKey the key used to mark empty slots, which cannot itself be used as a key
+     * @param defaultValue the value to be returned by {@link #get} for a key that is absent
+     */
+    public IntToIntHashMap(int capacity, int noDataKey, int defaultValue) {
+        ndv = noDataKey;
+        this.defaultValue = defaultValue;
+        setCapacity(capacity);
+    }
+
+    /**
+     * Clears the map.
+     */
+    public void clear() {
+        _size = 0;
+        for (int i = 0; i < _nmax; ++i) {
+            _keys[i] = ndv;
+        }
+    }
+
+    /**
+     * Get the number of entries in the map
+     * @return the number of entries
+     */
+    public int size() {
+        return _size;
+    }
+
+    /**
+     * Test whether the map contains a given key
+     * @param key the key
+     * @return true if the key is present
+     */
+    public boolean containsKey(int key) {
+        return _keys[indexOf(key)] != ndv;
+    }
+
+    /**
+     * Get the value associated with a key
+     * @param key the key
+     * @return the associated value, or the default value if the key is absent
+     */
+    public int get(int key) {
+        int i = indexOf(key);
+        return (_keys[i] == ndv ? defaultValue : _values[i]);
+    }
+
+    /**
+     * Add an entry to the map, replacing any existing entry for the same key
+     * @param key the key, which must not be the no-data key
+     * @param value the value
+     */
+    public void put(int key, int value) {
+        if (key == ndv) {
+            throw new IllegalArgumentException("Can't use the 'no data' value as a key");
+        }
+        int i = indexOf(key);
+        if (_keys[i] == ndv) {
+            ++_size;
+            _keys[i] = key;
+            _values[i] = value;
+
+            // Check new size
+            if (_size > MAX_SIZE) {
+                throw new RuntimeException("Too many elements (> " + MAX_SIZE + ')');
+            }
+            if (_nlo < _size && _size <= _nhi) {
+                setCapacity(_size);
+            }
+        } else {
+            _values[i] = value;
+        }
+    }
+
+    /**
+     * Get an iterator over the keys, in no particular order
+     * @return an iterator over the keys
+     */
+    public IntIterator keyIterator() {
+        return new KeyIterator();
+    }
+
+    ///////////////////////////////////////////////////////////////////////////
+
+    private int hash(int key) {
+        // Knuth, v. 3, 509-510. Randomize the 31 low-order bits of c*key
+        // and return the highest nbits (where nbits <= 30) bits of these.
+        // The constant c = 1327217885 approximates 2^31 * (sqrt(5)-1)/2.
+        return ((1327217885 * key) >> _shift) & _mask;
+    }
+
+    /**
+     * Gets the index of the key, if it exists, or the index at which
+     * this key would be added if it does not exist yet.
+     */
+    private int indexOf(int key) {
+        int i = hash(key);
+        while (_keys[i] != ndv) {
+            if (_keys[i] == key) {
+                return i;
+            }
+            i = (i - 1) & _mask;
+        }
+        return i;
+    }
+
+    private void setCapacity(int capacity) {
+        if (capacity < _size) {
+            capacity = _size;
+        }
+        int nbit, nmax;
+        for (nbit = 1, nmax = 2; nmax < capacity * 4 && nmax < MAX_SIZE; ++nbit, nmax *= 2) {
+            ;
+        }
+        int nold = _nmax;
+        if (nmax == nold) {
+            return;
+        }
+
+        _nmax = nmax;
+        _nlo = nmax / 4;
+        _nhi = MAX_SIZE / 4;
+        _shift = 1 + NBIT - nbit;
+        _mask = nmax - 1;
+
+        _size = 0;
+        int[] keys = _keys;
+        int[] values = _values;
+        _keys = new int[nmax];
+        _values = new int[nmax];
+        java.util.Arrays.fill(_keys, ndv); // empty all keys
+        if (keys != null) {
+            for (int i = 0; i < nold; ++i) {
+                int key = keys[i];
+                if (key != ndv) {
+                    // The capacity is necessarily large enough, and the key necessarily unique
+                    ++_size;
+                    int j = indexOf(key);
+                    _keys[j] = key;
+                    _values[j] = values[i];
+                }
+            }
+        }
+    }
+
+    /**
+     * Iterator over the keys
+     */
+
+    private class KeyIterator implements IntIterator {
+
+        private int i = 0;
+
+        public boolean hasNext() {
+            while (i < _keys.length) {
+                if (_keys[i] != ndv) {
+                    return true;
+                } else {
+                    i++;
+                }
+            }
+            return false;
+        }
+
+        public int next() {
+            return _keys[i++];
+        }
+    }
+
+}
+
+// This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+// If a copy of the MPL was not distributed with this file, You can obtain one at http://mozilla.org/MPL/2.0/.
+// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
@@ -4,6 +4,7 @@ import client.net.sf.saxon.ce.expr.XPathContext;
 import client.net.sf.saxon.ce.om.Item;
 import client.net.sf.saxon.ce.trans.XPathException;
 import client.net.sf.saxon.ce.tree.util.FastStringBuffer;
+import client.net.sf.saxon.ce.tree.util.Rope;
 import client.net.sf.saxon.ce.value.AtomicValue;
 import client.net.sf.saxon.ce.value.SequenceType;
 import client.net.sf.saxon.ce.value.StringValue;
@@ -31,7 +32,7 @@ public class Concat extends SystemFunction {
     */
 
     public CharSequence evaluateAsString(XPathContext c) throws XPathException {
-        return evaluateItem(c).getStringValue();
+        return ((StringValue)evaluateItem(c)).getStringValueCS();
     }
 
     /**
@@ -40,14 +41,34 @@ public class Concat extends SystemFunction {
 
     public Item evaluateItem(XPathContext c) throws XPathException {
         int numArgs = argument.length;
-        FastStringBuffer sb = new FastStringBuffer(FastStringBuffer.SMALL);
+        CharSequence[] values = new CharSequence[numArgs];
+        int length = 0;
         for (int i=0; i<numArgs; i++) {
             AtomicValue val = (AtomicValue)argument[i].evaluateItem(c);
             if (val!=null) {
-                sb.append(val.getStringValue());
+                values[i] = val.getStringValueCS();
+                length += values[i].length();
             }
         }
-        return StringValue.makeStringValue(sb.condense());
+        if (length < Rope.MIN_LENGTH) {
+            FastStringBuffer sb = new FastStringBuffer(length);
+            for (CharSequence v : values) {
+                if (v != null) {
+                    sb.append(v);
+                }
+            }
+            return StringValue.makeStringValue(sb.condense());
+        } else {
+            // Avoid copying long strings, so that building a string by repeated concatenation
+            // (for example in a recursive template) takes linear rather than quadratic time
+            CharSequence result = "";
+            for (CharSequence v : values) {
+                if (v != null) {
+                    result = Rope.concat(result, v);
+                }
+            }
+            return StringValue.makeStringValue(result);
+        }
     }
 
 }
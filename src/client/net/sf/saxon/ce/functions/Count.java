@@ -21,9 +21,19 @@ public class Count extends Aggregate {
     */
 
     public Item evaluateItem(XPathContext context) throws XPathException {
-        SequenceIterator iter = argument[0].iterate(context);
+        return IntegerValue.makeIntegerValue((int)evaluateAsDouble(context));
+    }
 
-        return new IntegerValue(count(iter));
+    /**
+     * Evaluate the function as a primitive double, avoiding allocation of an IntegerValue
+     */
+
+    public double evaluateAsDouble(XPathContext context) throws XPathException {
+        if (argument[0] instanceof DistinctValues) {
+            // count the distinct values without constructing the sequence
+            return ((DistinctValues)argument[0]).countDistinctValues(context);
+        }
+        return count(argument[0].iterate(context));
     }
 
     /**
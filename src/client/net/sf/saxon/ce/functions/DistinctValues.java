@@ -7,8 +7,17 @@ import client.net.sf.saxon.ce.expr.XPathContext;
 import client.net.sf.saxon.ce.lib.StringCollator;
 import client.net.sf.saxon.ce.om.Item;
 import client.net.sf.saxon.ce.om.SequenceIterator;
+import client.net.sf.saxon.ce.expr.sort.CodepointCollator;
 import client.net.sf.saxon.ce.trans.XPathException;
+import client.net.sf.saxon.ce.type.AtomicType;
+import client.net.sf.saxon.ce.type.ItemType;
+import client.net.sf.saxon.ce.type.TypeHierarchy;
 import client.net.sf.saxon.ce.value.AtomicValue;
+import client.net.sf.saxon.ce.value.DoubleValue;
+import client.net.sf.saxon.ce.value.FloatValue;
+import client.net.sf.saxon.ce.value.IntegerValue;
+import client.net.sf.saxon.ce.value.NumericValue;
+import client.net.sf.saxon.ce.value.StringValue;
 
 import java.util.HashSet;
 
@@ -29,29 +38,51 @@ public class DistinctValues extends CollatingFunction {
     public SequenceIterator iterate(XPathContext context) throws XPathException {
         StringCollator collator = getCollator(1, context);
         SequenceIterator iter = argument[0].iterate(context);
-        ItemMappingFunction function = new DistinctItemsMappingFunction(collator, context.getImplicitTimezone());
+        ItemMappingFunction function = new DistinctItemsMappingFunction(
+                argument[0].getItemType(), collator, context.getImplicitTimezone());
         return new ItemMappingIterator(iter, function);
     }
 
+    /**
+     * Count the number of distinct values, without delivering them. This is used to evaluate
+     * count(distinct-values(...)).
+     * @param context the dynamic evaluation context
+     * @return the number of items in the result of the function
+     * @throws XPathException if a dynamic error occurs evaluating the arguments
+     */
+
+    public int countDistinctValues(XPathContext context) throws XPathException {
+        StringCollator collator = getCollator(1, context);
+        SequenceIterator iter = argument[0].iterate(context);
+        DistinctSet set = new DistinctSet(argument[0].getItemType(), collator, context.getImplicitTimezone());
+        while (true) {
+            AtomicValue value = (AtomicValue)iter.next();
+            if (value == null) {
+                return set.size();
+            }
+            set.add(value);
+        }
+    }
+
     public static class DistinctItemsMappingFunction implements ItemMappingFunction, StatefulMappingFunction {
+        private ItemType type;
         private StringCollator collator;
         private int implicitTimezone;
-        private HashSet<Object> lookup = new HashSet<Object>(40);
+        private DistinctSet lookup;
 
         public DistinctItemsMappingFunction(StringCollator collator, int implicitTimezone) {
+            this(AtomicType.ANY_ATOMIC, collator, implicitTimezone);
+        }
+
+        public DistinctItemsMappingFunction(ItemType type, StringCollator collator, int implicitTimezone) {
+            this.type = type;
             this.collator = collator;
             this.implicitTimezone = implicitTimezone;
+            lookup = new DistinctSet(type, collator, implicitTimezone);
         }
 
         public Item mapItem(Item item) throws XPathException {
-            AtomicValue value = (AtomicValue)item;
-            Object key;
-            if (value.isNaN()) {
-                key = DistinctValues.class;
-            } else {
-                key = value.getXPathComparable(false, collator, implicitTimezone);
-            }
-            if (lookup.add(key)) {
+            if (lookup.add((AtomicValue)item)) {
                 // returns true if newly added
                 return item;
             } else {
@@ -60,7 +91,167 @@ public class DistinctValues extends CollatingFunction {
         }
 
         public StatefulMappingFunction getAnother(SequenceIterator newBaseIterator) {
-            return new DistinctItemsMappingFunction(collator, implicitTimezone);
+            return new DistinctItemsMappingFunction(type, collator, implicitTimezone);
+        }
+    }
+
+    /**
+     * A set of atomic values, in which two values are considered the same if distinct-values()
+     * treats them as duplicates. Where the static type of the values allows it, they are held in an
+     * open-addressed hash table, either as Strings (for strings compared in codepoint order) or
+     * as doubles (for doubles, floats, and integers that a double holds exactly). Other values are
+     * represented by their XPath comparison keys, held in a HashSet.
+     */
+
+    public static class DistinctSet {
+
+        private static final int GENERAL = 0;
+        private static final int STRINGS = 1;
+        private static final int NUMBERS = 2;
+
+        // Doubles in this range hold integers exactly
+        private static final double MAX_EXACT_INTEGER = 9007199254740992.0;
+
+        private int kind;
+        private StringCollator collator;
+        private int implicitTimezone;
+        private boolean containsNaN = false;
+        private String[] strings;       // hash table of strings; null marks an empty slot
+        private double[] numbers;       // hash table of doubles; NaN marks an empty slot
+        private int tableCount = 0;     // the number of entries in strings or numbers
+        private HashSet<Object> lookup; // comparison keys of the values that are not in the hash table
+
+        /**
+         * Create an empty set
+         * @param type the static type of the values that will be added
+         * @param collator the collation used to compare strings
+         * @param implicitTimezone the implicit timezone used to compare dates and times
+         */
+
+        public DistinctSet(ItemType type, StringCollator collator, int implicitTimezone) {
+            this.collator = collator;
+            this.implicitTimezone = implicitTimezone;
+            TypeHierarchy th = TypeHierarchy.getInstance();
+            if ((th.isSubType(type, AtomicType.STRING) || type == AtomicType.UNTYPED_ATOMIC) &&
+                    collator instanceof CodepointCollator) {
+                kind = STRINGS;
+                strings = new String[64];
+            } else if (th.isSubType(type, AtomicType.DOUBLE) || th.isSubType(type, AtomicType.FLOAT) ||
+                    th.isSubType(type, AtomicType.INTEGER)) {
+                // decimals are excluded, because two different decimals may have the same double value
+                kind = NUMBERS;
+                numbers = newNumberTable(64);
+            } else {
+                kind = GENERAL;
+            }
+        }
+
+        /**
+         * Add a value to the set
+         * @param value the value to be added
+         * @return true if the value was added; false if the set already contained an equal value
+         */
+
+        public boolean add(AtomicValue value) {
+            if (value.isNaN()) {
+                if (containsNaN) {
+                    return false;
+                }
+                containsNaN = true;
+                return true;
+            }
+            if (kind == STRINGS && value instanceof StringValue) {
+                return addString(value.getStringValue());
+            } else if (kind == NUMBERS && (value instanceof DoubleValue || value instanceof FloatValue ||
+                    value instanceof IntegerValue)) {
+                double d = ((NumericValue)value).getDoubleValue();
+                // integers are held as doubles only if they can be represented exactly; the rest are
+                // held as comparison keys, and cannot be equal to any value held as a double
+                if (!(value instanceof IntegerValue) || (d < MAX_EXACT_INTEGER && d > -MAX_EXACT_INTEGER)) {
+                    return addNumber(d == 0 ? 0.0 : d);    // treat -0.0 as 0.0
+                }
+            }
+            if (lookup == null) {
+                lookup = new HashSet<Object>(40);
+            }
+            return lookup.add(value.getXPathComparable(false, collator, implicitTimezone));
+        }
+
+        /**
+         * Get the number of values in the set
+         * @return the number of distinct values that have been added
+         */
+
+        public int size() {
+            return tableCount + (lookup == null ? 0 : lookup.size()) + (containsNaN ? 1 : 0);
+        }
+
+        private boolean addString(String s) {
+            int mask = strings.length - 1;
+            for (int i = spread(s.hashCode()) & mask; ; i = (i + 1) & mask) {
+                if (strings[i] == null) {
+                    strings[i] = s;
+                    if (++tableCount * 2 > strings.length) {
+                        String[] old = strings;
+                        strings = new String[old.length * 2];
+                        tableCount = 0;
+                        for (String t : old) {
+                            if (t != null) {
+                                addString(t);
+                            }
+                        }
+                    }
+                    return true;
+                }
+                if (strings[i].equals(s)) {
+                    return false;
+                }
+            }
+        }
+
+        private boolean addNumber(double d) {
+            int mask = numbers.length - 1;
+            for (int i = spread(hashDouble(d)) & mask; ; i = (i + 1) & mask) {
+                double entry = numbers[i];
+                if (entry != entry) {
+                    numbers[i] = d;
+                    if (++tableCount * 2 > numbers.length) {
+                        double[] old = numbers;
+                        numbers = newNumberTable(old.length * 2);
+                        tableCount = 0;
+                        for (double e : old) {
+                            if (e == e) {
+                                addNumber(e);
+                            }
+                        }
+                    }
+                    return true;
+                }
+                if (entry == d) {
+                    return false;
+                }
+            }
+        }
+
+        private static double[] newNumberTable(int size) {
+            double[] table = new double[size];
+            for (int i = 0; i < size; i++) {
+                table[i] = Double.NaN;
+            }
+            return table;
+        }
+
+        private static int hashDouble(double d) {
+            if (d < Integer.MAX_VALUE && d > Integer.MIN_VALUE) {
+                return (int)d ^ (int)((d - (int)d) * 0x7fffffff);
+            } else {
+                return Double.valueOf(d).hashCode();
+            }
+        }
+
+        private static int spread(int hash) {
+            hash *= 0x9E3779B9;
+            return hash ^ (hash >>> 16);
         }
     }
 
@@ -1,10 +1,12 @@
 package client.net.sf.saxon.ce.functions;
 
 import client.net.sf.saxon.ce.expr.Expression;
+import client.net.sf.saxon.ce.expr.ExpressionVisitor;
 import client.net.sf.saxon.ce.expr.FunctionCall;
 import client.net.sf.saxon.ce.expr.XPathContext;
 import client.net.sf.saxon.ce.om.Item;
 import client.net.sf.saxon.ce.trans.XPathException;
+import client.net.sf.saxon.ce.type.ItemType;
 import client.net.sf.saxon.ce.value.BooleanValue;
 
 
@@ -36,6 +38,24 @@ public class Exists extends Aggregate {
         return fc;
     }
 
+    /**
+     * Perform optimisation of an expression and its subexpressions. The expressions
+     * exists(distinct-values(X)) and empty(distinct-values(X)) are rewritten as exists(X) and
+     * empty(X), since the result of distinct-values() is empty only if its input is empty. The rewrite
+     * is done only if the collation is known statically, so that an invalid collation supplied at run time
+     * is still reported.
+     */
+
+    public Expression optimize(ExpressionVisitor visitor, ItemType contextItemType) throws XPathException {
+        Expression e = super.optimize(visitor, contextItemType);
+        if (e == this && argument[0] instanceof DistinctValues &&
+                ((DistinctValues)argument[0]).stringCollator != null) {
+            argument[0] = ((DistinctValues)argument[0]).getArguments()[0];
+            adoptChildExpression(argument[0]);
+        }
+        return e;
+    }
+
     /**
     * Evaluate the function
     */
@@ -58,4 +78,4 @@ public class Exists extends Aggregate {
 
 // This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0. 
 // If a copy of the MPL was not distributed with this file, You can obtain one at http://mozilla.org/MPL/2.0/.
-// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
\ No newline at end of file
+// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
\ No newline at end of file
@@ -55,7 +55,7 @@ public class IndexOf extends CollatingFunction {
             index++;
             if (Type.isComparable(searchType, ((AtomicValue) item).getItemType(), false) &&
                     comparer.comparesEqual(((AtomicValue) item), val)) {
-                return new IntegerValue(index);
+                return IntegerValue.makeIntegerValue(index);
             } else {
                 return null;
             }
@@ -36,7 +36,15 @@ public class Last extends SystemFunction {
 
     public Item evaluateItem(XPathContext c) throws XPathException {
 
-        return new IntegerValue(c.getLast());
+        return IntegerValue.makeIntegerValue(c.getLast());
+    }
+
+    /**
+     * Evaluate the function as a primitive double, avoiding allocation of an IntegerValue
+     */
+
+    public double evaluateAsDouble(XPathContext c) throws XPathException {
+        return c.getLast();
     }
 
     /**
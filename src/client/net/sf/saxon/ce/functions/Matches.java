@@ -1,9 +1,13 @@
 package client.net.sf.saxon.ce.functions;
 
+import client.net.sf.saxon.ce.expr.Expression;
+import client.net.sf.saxon.ce.expr.ExpressionVisitor;
+import client.net.sf.saxon.ce.expr.Literal;
 import client.net.sf.saxon.ce.expr.XPathContext;
 import client.net.sf.saxon.ce.om.Item;
 import client.net.sf.saxon.ce.regex.ARegularExpression;
 import client.net.sf.saxon.ce.trans.XPathException;
+import client.net.sf.saxon.ce.type.ItemType;
 import client.net.sf.saxon.ce.value.AtomicValue;
 import client.net.sf.saxon.ce.value.BooleanValue;
 import client.net.sf.saxon.ce.value.StringValue;
@@ -15,10 +19,55 @@ import client.net.sf.saxon.ce.value.StringValue;
 
 public class Matches extends SystemFunction {
 
+    private ARegularExpression regexp;
+
     public Matches newInstance() {
         return new Matches();
     }
 
+    /**
+     * Perform optimisation of an expression and its subexpressions. If the regular expression
+     * and flags are known statically, the regular expression is compiled once, here.
+     */
+
+    public Expression optimize(ExpressionVisitor visitor, ItemType contextItemType) throws XPathException {
+        Expression e = super.optimize(visitor, contextItemType);
+        if (e == this) {
+            regexp = tryToCompile(argument, 1, 2);
+        }
+        return e;
+    }
+
+    /**
+     * Try to precompile the regular expression used by a function, if the pattern and flags are
+     * supplied as literals
+     * @param args the arguments of the function call
+     * @param patternArg the position of the argument containing the regular expression
+     * @param flagsArg the position of the argument containing the flags; if there are fewer arguments
+     * than this, the flags default to a zero-length string
+     * @return the compiled regular expression, or null if it is not known statically or is invalid
+     * (in which case the error is reported when the function is evaluated)
+     */
+
+    public static ARegularExpression tryToCompile(Expression[] args, int patternArg, int flagsArg) {
+        if (!Literal.isAtomic(args[patternArg])) {
+            return null;
+        }
+        String flags = "";
+        if (flagsArg < args.length) {
+            if (!Literal.isAtomic(args[flagsArg])) {
+                return null;
+            }
+            flags = ((AtomicValue)((Literal)args[flagsArg]).getValue()).getStringValue();
+        }
+        try {
+            CharSequence pattern = ((AtomicValue)((Literal)args[patternArg]).getValue()).getStringValue();
+            return new ARegularExpression(pattern, flags, "XP20", null);
+        } catch (XPathException err) {
+            return null;
+        }
+    }
+
     /**
      * Evaluate the matches() function to give a Boolean value.
      * @param c  The dynamic evaluation context
@@ -32,6 +81,9 @@ public class Matches extends SystemFunction {
             sv0 = StringValue.EMPTY_STRING;
         }
 
+        if (regexp != null) {
+            return BooleanValue.get(regexp.containsMatch(((StringValue)sv0).getUnicodeString()));
+        }
 
         AtomicValue pat = (AtomicValue)argument[1].evaluateItem(c);
         if (pat==null) return null;
@@ -46,8 +98,9 @@ public class Matches extends SystemFunction {
         }
 
         try {
-            ARegularExpression re = new ARegularExpression(pat.getStringValue(), flags.toString(), "XP20", null);
-            return BooleanValue.get(re.containsMatch(sv0.getStringValue()));
+            ARegularExpression re = c.getConfiguration().getRegexCache().getRegularExpression(
+                    pat.getStringValue(), flags.toString(), "XP20", null);
+            return BooleanValue.get(re.containsMatch(((StringValue)sv0).getUnicodeString()));
 
         } catch (XPathException err) {
             XPathException de = new XPathException(err);
@@ -60,7 +60,10 @@ public class NormalizeUnicode extends SystemFunction {
 
 
         Normalizer norm = new Normalizer(fb, c.getConfiguration());
-        CharSequence result = norm.normalize(sv.getStringValue());
+        CharSequence result = norm.normalize(chars);
+        if (result == chars) {
+            return sv;
+        }
         return StringValue.makeStringValue(result);
     }
 
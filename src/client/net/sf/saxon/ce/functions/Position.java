@@ -33,7 +33,15 @@ public class Position extends SystemFunction {
 
     public Item evaluateItem(XPathContext c) throws XPathException {
 
-        return new IntegerValue(c.getContextPosition());
+        return IntegerValue.makeIntegerValue(c.getContextPosition());
+    }
+
+    /**
+     * Evaluate the function as a primitive double, avoiding allocation of an IntegerValue
+     */
+
+    public double evaluateAsDouble(XPathContext c) throws XPathException {
+        return c.getContextPosition();
     }
 
     /**
@@ -1,9 +1,12 @@
 package client.net.sf.saxon.ce.functions;
 
+import client.net.sf.saxon.ce.expr.Expression;
+import client.net.sf.saxon.ce.expr.ExpressionVisitor;
 import client.net.sf.saxon.ce.expr.XPathContext;
 import client.net.sf.saxon.ce.om.Item;
 import client.net.sf.saxon.ce.regex.ARegularExpression;
 import client.net.sf.saxon.ce.trans.XPathException;
+import client.net.sf.saxon.ce.type.ItemType;
 import client.net.sf.saxon.ce.value.AtomicValue;
 import client.net.sf.saxon.ce.value.StringValue;
 
@@ -15,10 +18,25 @@ import client.net.sf.saxon.ce.value.StringValue;
 
 public class Replace extends SystemFunction {
 
+    private ARegularExpression regexp;
+
     public Replace newInstance() {
         return new Replace();
     }
 
+    /**
+     * Perform optimisation of an expression and its subexpressions. If the regular expression
+     * and flags are known statically, the regular expression is compiled once, here.
+     */
+
+    public Expression optimize(ExpressionVisitor visitor, ItemType contextItemType) throws XPathException {
+        Expression e = super.optimize(visitor, contextItemType);
+        if (e == this) {
+            regexp = Matches.tryToCompile(argument, 1, 3);
+        }
+        return e;
+    }
+
     /**
      * Evaluate the function in a string context
      */
@@ -37,27 +55,33 @@ public class Replace extends SystemFunction {
             dynamicError(msg, "FORX0004");
         }
 
-        AtomicValue arg1 = (AtomicValue) argument[1].evaluateItem(c);
+        AtomicValue arg1 = null;
+        CharSequence flags = null;
 
-        CharSequence flags;
+        if (regexp == null) {
+            arg1 = (AtomicValue) argument[1].evaluateItem(c);
 
-        if (argument.length == 3) {
-            flags = "";
-        } else {
-            AtomicValue arg3 = (AtomicValue) argument[3].evaluateItem(c);
-            flags = arg3.getStringValue();
+            if (argument.length == 3) {
+                flags = "";
+            } else {
+                AtomicValue arg3 = (AtomicValue) argument[3].evaluateItem(c);
+                flags = arg3.getStringValue();
+            }
         }
 
         try {
-            ARegularExpression re = new ARegularExpression(arg1.getStringValue(), flags.toString(), "XP20", null);
+            ARegularExpression re = regexp;
+            if (re == null) {
+                re = c.getConfiguration().getRegexCache().getRegularExpression(
+                        arg1.getStringValue(), flags.toString(), "XP20", null);
+            }
             // check that it's not a pattern that matches ""
             if (re.matches("")) {
                 dynamicError(
                         "The regular expression in replace() must not be one that matches a zero-length string",
                         "FORX0003");
             }
-            String input = arg0.getStringValue();
-            CharSequence res = re.replace(input, replacement);
+            CharSequence res = re.replace(((StringValue)arg0).getUnicodeString(), replacement);
             return StringValue.makeStringValue(res);
         } catch (XPathException err) {
             XPathException de = new XPathException(err);
@@ -60,28 +60,38 @@ public class StringLength extends SystemFunction {
     */
 
     public Item evaluateItem(XPathContext c) throws XPathException {
+        int len = stringLength(c);
+        return IntegerValue.makeIntegerValue(len);
+    }
+
+    /**
+     * Evaluate the function as a primitive double, avoiding allocation of an IntegerValue
+     */
+
+    public double evaluateAsDouble(XPathContext c) throws XPathException {
+        return stringLength(c);
+    }
+
+    private int stringLength(XPathContext c) throws XPathException {
         AtomicValue sv;
         if (argument.length == 0) {
             final Item contextItem = c.getContextItem();
             if (contextItem == null) {
                 dynamicError("The context item for string-length() is not set", "XPDY0002");
-                return null;
+                return 0;
             }
             sv = StringValue.makeStringValue(contextItem.getStringValue());
         } else {
             sv = (AtomicValue)argument[0].evaluateItem(c);
         }
         if (sv==null) {
-            return IntegerValue.ZERO;
+            return 0;
         }
 
         if (sv instanceof StringValue) {
-
-            return new IntegerValue(((StringValue)sv).getStringLength());
+            return ((StringValue)sv).getStringLength();
         } else {
-            CharSequence s = sv.getStringValue();
-
-            return new IntegerValue(StringValue.getStringLength(s));
+            return StringValue.getStringLength(sv.getStringValue());
         }
     }
 
@@ -3,6 +3,7 @@ package client.net.sf.saxon.ce.functions;
 import client.net.sf.saxon.ce.expr.XPathContext;
 import client.net.sf.saxon.ce.om.Item;
 import client.net.sf.saxon.ce.om.SequenceIterator;
+import client.net.sf.saxon.ce.regex.UnicodeString;
 import client.net.sf.saxon.ce.trans.XPathException;
 import client.net.sf.saxon.ce.tree.iter.ArrayIterator;
 import client.net.sf.saxon.ce.tree.iter.EmptyIterator;
@@ -24,10 +25,10 @@ public class StringToCodepoints extends SystemFunction {
         if (item==null) {
             return EmptyIterator.getInstance();
         }
-        int[] chars = ((StringValue)item).expand();
-        IntegerValue[] codes = new IntegerValue[chars.length];
-        for (int i=0; i<chars.length; i++) {
-            codes[i] = new IntegerValue(chars[i]);
+        UnicodeString chars = ((StringValue)item).getUnicodeString();
+        IntegerValue[] codes = new IntegerValue[chars.length()];
+        for (int i=0; i<codes.length; i++) {
+            codes[i] = IntegerValue.makeIntegerValue(chars.charAt(i));
         }
         return new ArrayIterator(codes);
     }
@@ -1,5 +1,6 @@
 package client.net.sf.saxon.ce.functions;
 import client.net.sf.saxon.ce.expr.*;
+import client.net.sf.saxon.ce.expr.sort.SortedIterator;
 import client.net.sf.saxon.ce.om.Item;
 import client.net.sf.saxon.ce.om.SequenceIterator;
 import client.net.sf.saxon.ce.trans.XPathException;
@@ -131,7 +132,8 @@ public class Subsequence extends SystemFunction {
      * Static factory method. Creates a SubsequenceIterator, unless for example the base Iterator is an
      * ArrayIterator, in which case it optimizes by creating a new ArrayIterator directly over the
      * underlying array. This optimization is important when doing recursion over a node-set using
-     * repeated calls of $nodes[position()>1]
+     * repeated calls of $nodes[position()>1]. If the base iterator is a SortedIterator, it is told how many
+     * items will be needed, so that it can avoid sorting the whole input.
      * @param base   An iteration of the items to be filtered
      * @param min    The position of the first item to be included (base 1)
      * @param max    The position of the last item to be included (base 1).  May be Integer.MAX_VALUE
@@ -140,6 +142,9 @@ public class Subsequence extends SystemFunction {
     */
 
     public static SequenceIterator makeIterator(SequenceIterator base, int min, int max) throws XPathException {
+        if (base instanceof SortedIterator) {
+            ((SortedIterator)base).setLimit(max);
+        }
         return new ItemMappingIterator(base, new SubsequenceMappingFunction(base, min, max));
     }
 
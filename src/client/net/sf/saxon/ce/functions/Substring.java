@@ -3,7 +3,7 @@ package client.net.sf.saxon.ce.functions;
 import client.net.sf.saxon.ce.expr.XPathContext;
 import client.net.sf.saxon.ce.om.Item;
 import client.net.sf.saxon.ce.trans.XPathException;
-import client.net.sf.saxon.ce.tree.util.FastStringBuffer;
+import client.net.sf.saxon.ce.regex.UnicodeString;
 import client.net.sf.saxon.ce.value.DoubleValue;
 import client.net.sf.saxon.ce.value.StringValue;
 
@@ -26,35 +26,25 @@ public class Substring extends SystemFunction {
         if (sv==null) {
             return StringValue.EMPTY_STRING;
         }
-        String str = sv.getStringValue();
+        UnicodeString str = sv.getUnicodeString();
+        int slength = str.length();
         double start = ((DoubleValue)argument[1].evaluateItem(context)).round().getDoubleValue();
-        double length;
+        double end;     // position of the first character after the substring, counting from 1
         if (argument.length==2) {
-            length = (double)str.length();
+            end = Double.POSITIVE_INFINITY;
         } else {
-            length = ((DoubleValue)argument[2].evaluateItem(context)).round().getDoubleValue();
-            if (length < 0) {
-            	length = 0;
-            }
+            end = start + ((DoubleValue)argument[2].evaluateItem(context)).round().getDoubleValue();
         }
-        FastStringBuffer sb = new FastStringBuffer((int)length);
-        int i=0;
-        int pos=0;
-        while(i<start-1 && pos<str.length()) {
-            int c = (int)str.charAt(pos++);
-            if (c<55296 || c>56319) i++;    // don't count high surrogates, i.e. D800 to DBFF
-        }
-        int j=0;
-        while (j<length && pos<str.length()) {
-            char c = str.charAt(pos++);
-            sb.append(c);
-            if ((int)c<55296 || (int)c>56319) j++;    // don't count high surrogates, i.e. D800 to DBFF
+        double first = (start < 1 ? 1 : start);
+        double last = (end > slength + 1 ? slength + 1 : end);
+        if (!(first < last)) {
+            // includes the case where either value is NaN
+            return StringValue.EMPTY_STRING;
         }
-        StringValue result = new StringValue(sb);
-        if (sv.isKnownToContainNoSurrogates()) {
-            result.setContainsNoSurrogates();
+        if (first == 1 && last == slength + 1) {
+            return StringValue.makeStringValue(str);
         }
-        return result;
+        return StringValue.makeStringValue(str.substring((int)first - 1, (int)last - 1));
     }
 
 }
@@ -1,11 +1,16 @@
 package client.net.sf.saxon.ce.functions;
 
+import client.net.sf.saxon.ce.expr.Expression;
+import client.net.sf.saxon.ce.expr.ExpressionVisitor;
 import client.net.sf.saxon.ce.expr.XPathContext;
 import client.net.sf.saxon.ce.om.SequenceIterator;
 import client.net.sf.saxon.ce.regex.ARegularExpression;
+import client.net.sf.saxon.ce.regex.UnicodeString;
 import client.net.sf.saxon.ce.trans.XPathException;
 import client.net.sf.saxon.ce.tree.iter.EmptyIterator;
+import client.net.sf.saxon.ce.type.ItemType;
 import client.net.sf.saxon.ce.value.AtomicValue;
+import client.net.sf.saxon.ce.value.StringValue;
 
 
 /**
@@ -16,10 +21,25 @@ import client.net.sf.saxon.ce.value.AtomicValue;
 
 public class Tokenize extends SystemFunction  {
 
+    private ARegularExpression regexp;
+
     public Tokenize newInstance() {
         return new Tokenize();
     }
 
+    /**
+     * Perform optimisation of an expression and its subexpressions. If the regular expression
+     * and flags are known statically, the regular expression is compiled once, here.
+     */
+
+    public Expression optimize(ExpressionVisitor visitor, ItemType contextItemType) throws XPathException {
+        Expression e = super.optimize(visitor, contextItemType);
+        if (e == this) {
+            regexp = Matches.tryToCompile(argument, 1, 2);
+        }
+        return e;
+    }
+
     /**
     * Iterate over the results of the function
     */
@@ -29,24 +49,30 @@ public class Tokenize extends SystemFunction  {
         if (sv==null) {
             return EmptyIterator.getInstance();
         }
-        String input = sv.getStringValue();
+        UnicodeString input = ((StringValue)sv).getUnicodeString();
         if (input.length() == 0) {
             return EmptyIterator.getInstance();
         }
 
-        sv = (AtomicValue)argument[1].evaluateItem(c);
-        CharSequence pattern = sv.getStringValue();
-
-        CharSequence flags;
-        if (argument.length==2) {
-            flags = "";
-        } else {
-            sv = (AtomicValue)argument[2].evaluateItem(c);
-            flags = sv.getStringValue();
+        CharSequence pattern = null;
+        CharSequence flags = null;
+        if (regexp == null) {
+            sv = (AtomicValue)argument[1].evaluateItem(c);
+            pattern = sv.getStringValue();
+
+            if (argument.length==2) {
+                flags = "";
+            } else {
+                sv = (AtomicValue)argument[2].evaluateItem(c);
+                flags = sv.getStringValue();
+            }
         }
 
         try {
-            ARegularExpression re = new ARegularExpression(pattern, flags.toString(), "XP20", null);
+            ARegularExpression re = regexp;
+            if (re == null) {
+                re = c.getConfiguration().getRegexCache().getRegularExpression(pattern, flags.toString(), "XP20", null);
+            }
 
             // check that it's not a pattern that matches ""
             if (re.matches("")) {
@@ -1,9 +1,16 @@
 package client.net.sf.saxon.ce.functions;
 
+import client.net.sf.saxon.ce.expr.Expression;
+import client.net.sf.saxon.ce.expr.ExpressionVisitor;
+import client.net.sf.saxon.ce.expr.Literal;
 import client.net.sf.saxon.ce.expr.XPathContext;
+import client.net.sf.saxon.ce.expr.z.IntToIntHashMap;
 import client.net.sf.saxon.ce.om.Item;
+import client.net.sf.saxon.ce.regex.UnicodeString;
 import client.net.sf.saxon.ce.trans.XPathException;
 import client.net.sf.saxon.ce.tree.util.FastStringBuffer;
+import client.net.sf.saxon.ce.type.AtomicType;
+import client.net.sf.saxon.ce.type.ItemType;
 import client.net.sf.saxon.ce.value.StringValue;
 
 /**
@@ -12,10 +19,28 @@ import client.net.sf.saxon.ce.value.StringValue;
 
 public class Translate extends SystemFunction {
 
+    private Mapping staticMapping;      // the mapping, if the second and third arguments are literals
+
     public Translate newInstance() {
         return new Translate();
     }
 
+    /**
+     * Perform optimisation of an expression and its subexpressions. If the second and third
+     * arguments are known statically, the mapping from characters to their replacements is
+     * computed once, here.
+     */
+
+    public Expression optimize(ExpressionVisitor visitor, ItemType contextItemType) throws XPathException {
+        Expression e = super.optimize(visitor, contextItemType);
+        if (e == this && Literal.isAtomic(argument[1]) && Literal.isAtomic(argument[2])) {
+            staticMapping = new Mapping(
+                    ((StringValue)((Literal)argument[1]).getValue()).getUnicodeString(),
+                    ((StringValue)((Literal)argument[2]).getValue()).getUnicodeString());
+        }
+        return e;
+    }
+
     /**
     * Evaluate the function
     */
@@ -27,34 +52,123 @@ public class Translate extends SystemFunction {
             return StringValue.EMPTY_STRING;
         }
 
-        StringValue sv2 = (StringValue)argument[1].evaluateItem(context);
-
-        StringValue sv3 = (StringValue)argument[2].evaluateItem(context);
-
-        int[] a1 = sv1.expand();
-        int[] a2 = sv2.expand();
-        int[] a3 = sv3.expand();
-
-        int length1 = a1.length;
-        int length2 = a2.length;
-        FastStringBuffer sb = new FastStringBuffer(length1);
-    inputLoop:
-        for (int i=0; i<length1; i++) {
-            int ch = a1[i];
-            for (int j=0; j<length2; j++) {
-                 if (a2[j] == ch) {
-                     if (j < a3.length) {
-                        sb.appendWideChar(a3[j]);
-                     } else {
-                         // do nothing, delete the character
-                     }
-                     continue inputLoop;
-                 }
+        Mapping mapping = staticMapping;
+        if (mapping == null) {
+            StringValue sv2 = (StringValue)argument[1].evaluateItem(context);
+            StringValue sv3 = (StringValue)argument[2].evaluateItem(context);
+            mapping = new Mapping(sv2.getUnicodeString(), sv3.getUnicodeString());
+        }
+
+        CharSequence result = mapping.translate(sv1);
+        if (result == null) {
+            // no character was changed
+            return (sv1.getItemType() == AtomicType.STRING ? sv1 : new StringValue(sv1.getStringValueCS()));
+        }
+        return StringValue.makeStringValue(result);
+    }
+
+    /**
+     * The mapping defined by the second and third arguments of translate(). Characters below
+     * ARRAY_LIMIT, which includes all the characters in most strings, are looked up in an array
+     * indexed by the character; other characters are looked up in a hash map.
+     */
+
+    private static class Mapping {
+
+        private static final int DELETE = -1;
+        private static final int ABSENT = -2;
+        private static final int ARRAY_LIMIT = 4096;
+
+        // Replacement for each character up to the highest one below ARRAY_LIMIT in the second
+        // argument, or DELETE. A character that is not replaced maps to itself.
+        private int[] low;
+        // Replacements for characters at or above ARRAY_LIMIT, or null if there are none
+        private IntToIntHashMap high;
+        // True if any character outside the BMP is replaced
+        private boolean supplementary;
+
+        Mapping(UnicodeString from, UnicodeString to) {
+            int max = -1;
+            for (int j = 0; j < from.length(); j++) {
+                int ch = from.charAt(j);
+                if (ch < ARRAY_LIMIT) {
+                    max = Math.max(max, ch);
+                } else {
+                    if (high == null) {
+                        high = new IntToIntHashMap(8, Integer.MIN_VALUE, ABSENT);
+                    }
+                    supplementary |= (ch >= 65536);
+                }
+            }
+            low = new int[max + 1];
+            for (int c = 0; c <= max; c++) {
+                low[c] = c;
+            }
+            int toLength = to.length();
+            // Work backwards, so that the first occurrence of a character in the second argument wins
+            for (int j = from.length() - 1; j >= 0; j--) {
+                int ch = from.charAt(j);
+                int rep = (j < toLength ? to.charAt(j) : DELETE);
+                if (ch < ARRAY_LIMIT) {
+                    low[ch] = rep;
+                } else {
+                    high.put(ch, rep);
+                }
             }
-            sb.appendWideChar(ch);
         }
 
-        return StringValue.makeStringValue(sb);
+        private int map(int ch) {
+            if (ch < low.length) {
+                return low[ch];
+            } else if (high != null && ch >= ARRAY_LIMIT) {
+                int rep = high.get(ch);
+                return (rep == ABSENT ? ch : rep);
+            } else {
+                return ch;
+            }
+        }
+
+        /**
+         * Apply the mapping to a string
+         * @param sv the string to be translated
+         * @return the translated string, or null if no character in the string is changed
+         */
+
+        CharSequence translate(StringValue sv) {
+            if (!supplementary) {
+                // No character outside the BMP is replaced, so the string can be processed one char at a
+                // time, without decoding it into codepoints
+                CharSequence in = sv.getStringValueCS();
+                int len = in.length();
+                int i = 0;
+                while (i < len && map(in.charAt(i)) == in.charAt(i)) {
+                    i++;
+                }
+                if (i == len) {
+                    return null;
+                }
+                FastStringBuffer sb = new FastStringBuffer(len);
+                sb.append(in.subSequence(0, i));
+                for (; i < len; i++) {
+                    int rep = map(in.charAt(i));
+                    if (rep != DELETE) {
+                        sb.appendWideChar(rep);
+                    }
+                }
+                return sb;
+            } else {
+                UnicodeString in = sv.getUnicodeString();
+                int len = in.length();
+                FastStringBuffer sb = new FastStringBuffer(len);
+                for (int i = 0; i < len; i++) {
+                    int rep = map(in.charAt(i));
+                    if (rep != DELETE) {
+                        sb.appendWideChar(rep);
+                    }
+                }
+                return sb;
+            }
+        }
     }
 
 }
@@ -17,9 +17,14 @@ public class Normalizer {
     public Normalizer(byte form, Configuration config) throws XPathException {
         this.form = form;
         if (data == null) {
-            data = UnicodeDataParserFromXML.build(config); // load 1st time
+            data = UnicodeDataParser.build(); // load 1st time
+            quickCheck = makeQuickCheckTable();
         }
     }
+
+    private Normalizer(byte form) {
+        this.form = form;
+    }
     
    /**
     * Masks for the form selector
@@ -67,9 +72,61 @@ public class Normalizer {
     * @return  target      the resulting normalized text
     */
     public CharSequence normalize(CharSequence source) {
+        if (isQuickCheckYes(source)) {
+            return source;
+        }
         return normalize(source, new StringBuffer(source.length()+8));
     }
 
+    /**
+     * Test whether a string is already normalized, in the common case where it contains only
+     * characters from the start of the BMP (ASCII, Latin-1, and Latin Extended) that are
+     * unaffected by normalization to the chosen form. Such a character has canonical class zero,
+     * is unchanged when normalized on its own, and (for the composed forms) cannot combine with
+     * a preceding character.
+     * @param source the string to be tested
+     * @return true if the string is known to be normalized; false if it contains any other characters,
+     * in which case it may or may not be normalized.
+     */
+
+    private boolean isQuickCheckYes(CharSequence source) {
+        if (quickCheck == null || form == NO_ACTION) {
+            return false;
+        }
+        int mask = 1 << form;
+        for (int i = 0; i < source.length(); i++) {
+            char c = source.charAt(i);
+            if (c >= QUICK_CHECK_LIMIT || (quickCheck[c] & mask) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Build the table used by {@link #isQuickCheckYes}. For each character below QUICK_CHECK_LIMIT,
+     * bit (1&lt;&lt;form) is set if the character is stable under normalization to that form.
+     * @return the table
+     */
+
+    private static byte[] makeQuickCheckTable() {
+        byte[] table = new byte[QUICK_CHECK_LIMIT];
+        byte[] forms = {D, C, KD, KC};
+        for (byte f : forms) {
+            Normalizer n = new Normalizer(f);
+            boolean compose = (f & COMPOSITION_MASK) != 0;
+            for (char c = 0; c < QUICK_CHECK_LIMIT; c++) {
+                if (data.getCanonicalClass(c) == 0 && !(compose && data.composesWithPrevious(c))) {
+                    CharSequence s = n.normalize(String.valueOf(c), new StringBuffer(8));
+                    if (s.length() == 1 && s.charAt(0) == c) {
+                        table[c] |= (1 << f);
+                    }
+                }
+            }
+        }
+        return table;
+    }
+
     // ======================================
     //                  PRIVATES
     // ======================================
@@ -239,6 +296,17 @@ public class Normalizer {
     */
     private static NormalizerData data = null;
 
+    /**
+    * Characters below this limit are covered by the quick check table
+    */
+    private static final int QUICK_CHECK_LIMIT = 0x300;
+
+    /**
+    * Quick check table, indexed by character, showing the normalization forms under which
+    * the character is stable
+    */
+    private static byte[] quickCheck = null;
+
     /**
     * Just accessible for testing.
      * @param ch a character
@@ -269,4 +337,4 @@ public class Normalizer {
 // * in connection with or arising out of the use of the information here.
 // * @author Mark Davis
 // * Updates for supplementary code points: Vladimir Weinstein & Markus Scherer
-// * Modified to remove dependency on ICU code: Michael Kay, Saxonica
\ No newline at end of file
+// * Modified to remove dependency on ICU code: Michael Kay, Saxonica
\ No newline at end of file
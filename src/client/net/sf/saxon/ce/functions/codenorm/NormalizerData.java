@@ -1,9 +1,10 @@
 package client.net.sf.saxon.ce.functions.codenorm;
 
+import client.net.sf.saxon.ce.expr.z.IntHashMap;
+import client.net.sf.saxon.ce.expr.z.IntIterator;
+import client.net.sf.saxon.ce.expr.z.IntToIntHashMap;
 import client.net.sf.saxon.ce.tree.util.UTF16CharacterSet;
 
-import java.util.Map;
-
 
 public class NormalizerData {
     
@@ -19,8 +20,12 @@ public class NormalizerData {
     * @return          value from 0 to 255
     */
     public int getCanonicalClass(int ch) {
-        Integer i = canonicalClass.get(ch);
-        return (i==null ? 0 : i.intValue());
+        int b = ch >> 8;
+        if (b < 0 || b >= canonicalClass.length) {
+            return 0;
+        }
+        byte[] block = canonicalClass[b];
+        return (block == null ? 0 : block[ch & 0xff] & 0xff);
     }
 
     /**
@@ -33,8 +38,17 @@ public class NormalizerData {
     */
     public char getPairwiseComposition(int first, int second) {
     	if (first < 0 || first > 0x10FFFF || second < 0 || second > 0x10FFFF) return NOT_COMPOSITE;
-        Integer i = compose.get((first << 16) | second);
-        return (i==null ? NormalizerData.NOT_COMPOSITE : (char)i.intValue());
+        return (char)compose.get((first << 16) | second);
+    }
+
+    /**
+    * Tests whether a character can combine with a preceding character, that is, whether
+    * it is the second character of any pairwise composition.
+    * @param   ch      the character
+    * @return          true if the character can combine with the character before it
+    */
+    public boolean composesWithPrevious(int ch) {
+        return isSecondOfPair.get(ch);
     }
 
     /**
@@ -48,7 +62,7 @@ public class NormalizerData {
     * @param   buffer  buffer to be filled with the decomposition
     */
     public void getRecursiveDecomposition(boolean canonical, int ch, StringBuffer buffer) {
-        String decomp = (String)decompose.get(ch);
+        String decomp = decompose.get(ch);
         if (decomp != null && !(canonical && isCompatibility.get(ch))) {
             for (int i = 0; i < decomp.length(); ++i) {
                 getRecursiveDecomposition(canonical, decomp.charAt(i), buffer);
@@ -71,13 +85,17 @@ public class NormalizerData {
     /**
      * Only accessed by NormalizerBuilder.
      */
-    NormalizerData(Map<Integer, Integer> canonicalClass, Map decompose,
-      Map<Integer, Integer> compose, BitSet isCompatibility, BitSet isExcluded) {
+    NormalizerData(byte[][] canonicalClass, IntHashMap<String> decompose,
+      IntToIntHashMap compose, BitSet isCompatibility, BitSet isExcluded) {
         this.canonicalClass = canonicalClass;
         this.decompose = decompose;
         this.compose = compose;
         this.isCompatibility = isCompatibility;
         this.isExcluded = isExcluded;
+        isSecondOfPair = new BitSet(65536);
+        for (IntIterator keys = compose.keyIterator(); keys.hasNext();) {
+            isSecondOfPair.set(keys.next() & 0xffff);
+        }
     }
 
     /**
@@ -91,31 +109,36 @@ public class NormalizerData {
     * Just accessible for testing.
     */
     String getRawDecompositionMapping (char ch) {
-        return (String)decompose.get(ch);
+        return decompose.get(ch);
     }
 
     /**
-    * For now, just use IntHashtable
-    * Two-stage tables would be used in an optimized implementation.
+    * Two-stage table of canonical classes. The first stage is indexed by the top bits
+    * of the character code, and is null for a block of 256 characters that all have
+    * canonical class zero; the second stage holds the class of each character in the block.
     */
-    private Map<Integer, Integer> canonicalClass;
+    private byte[][] canonicalClass;
 
     /**
     * The main data table maps chars to a 32-bit int.
     * It holds either a pair: top = first, bottom = second
     * or singleton: top = 0, bottom = single.
     * If there is no decomposition, the value is 0.
-    * Two-stage tables would be used in an optimized implementation.
     * An optimization could also map chars to a small index, then use that
     * index in a small array of ints.
     */
-    private Map decompose;
+    private IntHashMap<String> decompose;
 
     /**
     * Maps from pairs of characters to single.
     * If there is no decomposition, the value is NOT_COMPOSITE.
     */
-    private Map<Integer, Integer> compose;
+    private IntToIntHashMap compose;
+
+    /**
+    * Tells whether a character is the second character of a composition pair.
+    */
+    private BitSet isSecondOfPair;
 
     /**
     * Tells whether decomposition is canonical or not.
@@ -142,4 +165,4 @@ public class NormalizerData {
  */
  
  // Modified by Michael Kay (Saxonica), to change the way in which the normalization
- // date is stored. 
\ No newline at end of file
+ // date is stored. 
\ No newline at end of file
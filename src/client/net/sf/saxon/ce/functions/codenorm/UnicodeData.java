@@ -0,0 +1,705 @@
+package client.net.sf.saxon.ce.functions.codenorm;
+
+/**
+ * The data tables used for Unicode normalization, compiled into Java so that they do not need to be
+ * fetched from the server and parsed the first time normalization is attempted. The data is generated
+ * from the file normalizationData.xml, which is derived from the Unicode 6.0.0 database; it is read by
+ * {@link UnicodeDataParser}.
+ *
+ * <p>The tables are held as strings of unsigned integers, each written as a sequence of hexadecimal
+ * digits, using 'A' to 'P' for every digit except the last and 'a' to 'p' for the last.</p>
+ *
+ * <p>The tables in this class are generated, and should not be edited by hand. To regenerate them, run
+ * this command from the root of the source tree:</p>
+ * <pre>
+ * java tools/unicode/GenerateUnicodeTables.java normalization src/resources/normalizationData.xml \
+ *         src/client/net/sf/saxon/ce/functions/codenorm/UnicodeData.java
+ * </pre>
+ */
+
+class UnicodeData {
+
+    // This class is never instantiated
+    private UnicodeData(){}
+
+    /**
+     * The characters whose canonical combining class is non-zero, as a sequence of ranges of
+     * consecutive characters that share the same class. Each range is written as three integers: the
+     * number of characters between the end of the previous range (or -1) and the start of this one,
+     * the number of characters in the range minus one, and the canonical class.
+     */
+
+    static final String CANONICAL_CLASSES =
+            "DAaBeOgaaOiadNmaaOiaaNiaeNmabMkadNmabMkakNmaebadNmahOgaaPaaaOgacNmacOgabNmbcOgadNmaaOgaaOiabNmaa"
+            + "OgaaOjabOkaaOjabOkaaOjamOgBBdeOgBAjaNmadOgaaNmacOgaaNoaaNmafOgafNmabOgaaNmabOgaaNoaaOeaaOgaakaal"
+            + "aamaanaaoaapaaBaaaBbaaBcabBdaaBeaaBfaaBgbaBhbaBiaaBjbaOgaaNmbaBcEihOgaaBoaaBpaaCaDaaBlaaBmaaBnaa"
+            + "BoaaBpaaCaaaCbaaCcabOgabNmaeOgaaNmabOgaaNmBaaCdGfgOgcdOgaaNmaaOgcbOgbaNmabOgaaNmCdaCeBoaOgaaNmab"
+            + "OgaaNmabOgacNmaaOgabNmaaOgaaNmacOgaaNmaaOgaaNmaaOgaaNmaaOgaaNmabOgKagOgaaNmaaOgCcdOgbiOgbcOgbeOg"
+            + "ClcNmOaahBaajdaOgaaNmabOgGhahBaajGoahBaajGoahBaajGoahBaajHpajHpajhaFeaaFlGfahBaajHpajHmajGnbGhaa"
+            + "jndGlGmbHgodHkEmbNmBlaNmbaNmbaNiDhaIbaaIcbaIefdIccaIcbbOgaajbbOgDoaNmHaahbbjFcaNmCMpcOgDLeajBpaj"
+            + "JnajkaOgMlaOeIpaNoaaOgaaNmNlaOgaaNmEhajBehOgcaNmLeahpajCgaOgaaNmagOgDgajDlahlbjEdahJicOgbabaeNma"
+            + "bOgadNmaaOgbgbeaNmNcbOgaaNmagOgaaNmabOgaaOkaaNgaaNmaaMkaBfOgBfaOjaaNmaaOgaaNmCNabOgabbadOgacbabO"
+            + "geaOgdbbaaOgaaNmaaOgabbadNmaaOgLPocOgInajGaBpOgCCkaNkaaOeaaOiaaNoabOaGjbiHFNeaOgmbOgHcbOgBBeajLn"
+            + "ajBlBbOgDjcNmCfajFpahmajOpaOgbbOgaaNmcbOgfbOgbaOgBClajEPDaaBkDAbgOgDNgaNmIApaNmbaOgCiaOgaabaaNme"
+            + "ajGAgajHcajaahMAKkbNiacbdaOcaeNiihNmceOgabNmBodOgJecOg";
+
+    /**
+     * The characters that have a decomposition, in ascending order. Each character is written as two
+     * integers: the difference between this character and the previous one (or zero), and the length
+     * of its decomposition multiplied by four, plus two if the decomposition is a compatibility
+     * decomposition, plus one if the character is excluded from composition.
+     */
+
+    static final String DECOMPOSITION_KEYS =
+            "Kagikcgfkdgbgbkbgdkbgbgcobobocibibibibibicibibibibibibibibicibibibibibidibibibibidibibibibibicib"
+            + "ibibibibibibibicibibibibibidibibibibicibibibibibibibibibibibibibibibibidibibibibibibibibibibibib"
+            + "ibibibibibibibidibibibibibibibibickbkbibibibicibibibibibibkbkdibibibibibibkdibibibibibidibibibib"
+            + "ibibibibibibibibibibibibibidibibibibibibibibibibibibibibibibibibibibibibibgCbibioibiBekbkbkbkbkb"
+            + "kbkbkbkbibibibibibibibibibibibibibibibicibibibibibidibibibibibibibibibibibkbkbkbibidibibibibibib"
+            + "ibibibibibibibibibibibibibibibibibibibibibibibibibibibibibidibihibibibibibibibibibibibibibiHngbg"
+            + "bgbgbgbgbgbgbgCakbkbkbkbkbkdgbgbgbgbgFmebecebiDaegkeegkbibibebibibicicibibiBkibibibibibibiBkibib"
+            + "ibibicgbgbgbibibgbgBkgbgbgcgbgeghibicieifibibiliCaiBhibicieifibibiBiibiEkibioibibibidibidibibibi"
+            + "bibidibibibibibidibibibibibibibibibibibidibiIokJlibibibibiEpkbkbkbkEiiciBbiCFgiiidiCejbjbjbjbjbj"
+            + "bjbjGmibiBajbjcjFejdjCdjbjbjdjOkidibiBajbjDhiDgibibiHmiHiihibicibiHpibibiIoicibibiFfkIakCjkbkCpg"
+            + "DhjkjfjfjfjnjkicibjbkbjbkiiBcjkjfjfjfjnjGniNggKAkicicicicieiCjicidibiciBOjgbgbgcgbgbgbgbgbgbgbgb"
+            + "gbgbgcgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgcgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgb"
+            + "gogCdgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgEbibibibibibibibib"
+            + "ibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibib"
+            + "ibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibib"
+            + "ibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibib"
+            + "ibibkbifibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibib"
+            + "ibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibihibib"
+            + "ibibibibibibibibibibibibibibibibibibibidibibibibibidibibibibibibibibibibibibibibibibibibibibibib"
+            + "ibibibibibibibibibibibibibibibidibibibibibidibibibibibibibicicicicibibibibibibibibibibibibibibib"
+            + "ibibibebibebibebibebibebibebibedibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibibib"
+            + "ibibibibibibibibibibibibibibibibibibibibicibibibibibebibkbebkbkbibibibicibibibebibebibibibibibib"
+            + "ibedibibibibibecibibibibibibebibibibibibibibebibibebedibibicibibibebibebibebkcebebgbgbgbgbgbgbgb"
+            + "gbghggkngbkbojgekbockbofkckjkbkbkoBcigBbgbgdgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgb"
+            + "gcgbgbgbgbgbgbgbgbgbgbgbgbgmkFiobobgbkcobobgckbgbgbgbgbgbgbgbgbgbgcgbkdgbgbgbgbgdkbobkcgcecgcebe"
+            + "bgbgcgbgbgcgbgbgbgbgbgbgcobgbgbgbgbgfgbgbgbgbghobobBcbobobobobobobobobobobobobkbgbkbobkbgbkbobBc"
+            + "bkbgbkbobgbgbgbgbgbkbobkbgbkbobBcbkbgbkbobgbgbgbgkoBbibiBdiBpibibiDfifidiBiicigkbockboBbididiciB"
+            + "hicilibibibibidibidibihibidibidibiCdibibibiDbibibibihibibibiDmebeBDggbgbgbgbgbgbgbgbgbkbkbkbkbkb"
+            + "kbkbkbkbkbkbobobobobobobobobobBcbBcbBcbBcbBcbBcbBcbBcbBcbBcbBcbkbkbkbkbkbkbkbkbkbobobobobobobobo"
+            + "bobobobobobobobobobobobobobobobobobobobobobobobobobobobobobgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbg"
+            + "bgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgFCcBcGiobkboGgjBKagbgPcgBDag"
+            + "Fegngbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgb"
+            + "gbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgb"
+            + "gbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgb"
+            + "gbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgb"
+            + "gbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgClgDggcgbgbgBcicicicicicicicicicicicidicicihibici"
+            + "bicibicibicibiBhihkbkcibknicicicicicicicicicicicidicicihibicibicibicibicibiBhidibibibieibkDcgbgb"
+            + "gbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgb"
+            + "gbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgegbgbgbgb"
+            + "gbgbgbgbgbgbgbgbgbgGbobobobobobobobobobobobobobobBcbBcbBcbBcbBcbBcbBcbBcbBcbBcbBcbBcbBcbBcbBcbBo"
+            + "bBkcobobobobobobobobobobobobobobobobobobobobobobobobobobobobobobobobobobobobgbgbgbgjobkbkbkbkbkb"
+            + "kbkbkbkbkbkbkbkbkbkbgbgbgbgbgbgbgbgbgbgbgbgbgbgbkbkbkbkbkbkbkbkbkbkbkbkbkbkbBgbBcbkcgbgbgbgbgbgb"
+            + "gbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbkbkbkbkbkb"
+            + "kbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbobobobkbobkbobgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgb"
+            + "gbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgcBcbBcbBcbobBcbobobBgbBcbobobobBcbBcbobobkbobBc"
+            + "bBcbkbBgbBkbBgbobBgbBgbBcbobobobBcbBgbBcbobobobkbkbkbkbobobBgbobBcbBgbobkbkbBgbBcbBgbobBgbkbobob"
+            + "obobobBcbobkbobobobBcbobobobBgbBcbkbBgbkbBcbBcbobobobBcbkbobBcbkbBgbobkbkbkbkbkbkbkbkbkbkbobobob"
+            + "obobobobobobobobobobobobobkbkbobkbkbkbobobkbkbkbkbkbBcbkbkbkbkbkbkbkbkbobBcbkbkbkbkbkbkbkbobobob"
+            + "obkbkbkbkbkbkbkbkbkbkbobobkbobobobkbobobBcbkbobobobobBgbBkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbB"
+            + "cbkbkbkbBcbobkbkbkbkbkbkbkbkbkbkbobkbkbobobkbBcbobkbkbkbkbobobkbkbkbkbkbkbkbkbkbobobobobobobobob"
+            + "oboboboboboboboboboboboboboboHDHbgFBJaebebebebebebebebebebebebebebebebebebebebebebebebebebebebeb"
+            + "ebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebeb"
+            + "ebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebeb"
+            + "ebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebeb"
+            + "ebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebeb"
+            + "ebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebeb"
+            + "edecedebebebebebebebebebececedebeeebebebedebebebebebebebebebebebebebebebebebebebebebebebebebebeb"
+            + "ebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebedebebebebebebebebebebebebeb"
+            + "ebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebeb"
+            + "ebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebeChkbkbk"
+            + "bobobkbknkbkbkbkbkgjcjbgbgbgbgbgbgbgbgbgbgbjbjbjbjbjbjbjbjbjbjbjbjbjcjbjbjbjbjcjcjbjcjbjcjbjbjbj"
+            + "bjbjbjbjbjbkbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbg"
+            + "bgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbg"
+            + "bgbgbgbgbgbgbgbgCcgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkb"
+            + "kbkbgbgbgbgbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkb"
+            + "kbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkb"
+            + "kbkbkbkbobobobobobobkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkb"
+            + "kbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkb"
+            + "kbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkb"
+            + "kbkbkbkbkbkbkbkbobobobkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkb"
+            + "kbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkbkBdobobobobobobobobobobobo"
+            + "bobobobobobobobobobobobobobobobobobobobobobobobobobobobobobobobobobobobobobobobobobobobobobobobo"
+            + "bobobobodobobobobobobobobobobobobobobobobobobobobobobobobobobobobobobobobobobobobobobobobobobobo"
+            + "boboboboboboboboboboCjobobBcbBcbBcbBcbBcbBcbBcbobEkbCcbBcBegbgbgbgbgbgbgbgbgbgBhgbgbgbgbgbgbgbgb"
+            + "gbgbgbgbgbgbgbgbgbgbgbgbgdgbgbgbgbgbgbgbgbgbgbgbgcgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgcgbgbgbgf"
+            + "kbkbkckckbkbkbkbkbkbkbkbkbkbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgb"
+            + "gbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgb"
+            + "gbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbkbkbkbkbkbkbkbkfgbgbgbgbgb"
+            + "gbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgb"
+            + "gbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgb"
+            + "gbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgb"
+            + "gbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgegbgbgbgbgbgdgb"
+            + "gbgbgbgbgdgbgbgbgbgbgdgbgbgegbgbgbgbgbgbgcgbgbgbgbgbgbgBAKmicipiMALdjbjbjbjbjbjbjFhjbjbjbjbjbjCE"
+            + "agbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbg"
+            + "bgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgcgbgbgbgbgbgbgbgbgbgbg"
+            + "bgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbg"
+            + "bgbgbgbgbgbgbgbgbgbgbgbgcgbgdgdgbgdgbgbgbgcgbgbgbgbgbgbgbgbgbgbgbgcgcgbgbgbgbgbgbgcgbgbgbgbgbgbg"
+            + "bgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbg"
+            + "bgbgbgbgbgbgbgbgbgbgcgbgbgbgdgbgbgbgbgbgbgbgcgbgbgbgbgbgbgcgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbg"
+            + "bgbgbgbgbgbgbgbgbgcgbgbgbgcgbgbgbgbgcgegbgbgbgbgbgbgcgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbg"
+            + "bgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbg"
+            + "bgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbg"
+            + "bgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbg"
+            + "bgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbg"
+            + "bgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbg"
+            + "bgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbg"
+            + "bgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgdgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbg"
+            + "bgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbg"
+            + "bgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbg"
+            + "bgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbg"
+            + "bgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbg"
+            + "bgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbg"
+            + "bgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgdgbgbgbgbgbgbgbgbgbgbgbgbgbg"
+            + "bgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgBJAbkbkbkbkbkbkbkbkbkbkb"
+            + "kgobobobobobobobobobobobobobobobobobobobobobobobobobobobgbgbkbkcgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgb"
+            + "gbgbgbgbgbgbgbgbgbgbkbkbkbkbobkEbkHakbkbgogbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgbgb"
+            + "gbgbgbgbgbgbgbgbgbgbgbgbgbgbgbggoboboboboboboboboigbgBAFKpebebebebebebebebebebebebebebebebebebeb"
+            + "ebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebeb"
+            + "ebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebeb"
+            + "ebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebeb"
+            + "ebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebeb"
+            + "ebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebeb"
+            + "ebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebeb"
+            + "ebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebeb"
+            + "ebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebeb"
+            + "ebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebeb"
+            + "ebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebeb"
+            + "ebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebebe";
+
+    /**
+     * The decompositions of the characters in DECOMPOSITION_KEYS, concatenated in the same order
+     */
+
+    static final String DECOMPOSITION_VALUES =
+            "  \u0308a \u030423 \u0301\u03bc \u03271o1"
+            + "\u204441\u204423\u20444A\u0300A\u0301A\u0302A\u0303"
+            + "A\u0308A\u030aC\u0327E\u0300E\u0301E\u0302E\u0308I\u0300"
+            + "I\u0301I\u0302I\u0308N\u0303O\u0300O\u0301O\u0302O\u0303"
+            + "O\u0308U\u0300U\u0301U\u0302U\u0308Y\u0301a\u0300a\u0301"
+            + "a\u0302a\u0303a\u0308a\u030ac\u0327e\u0300e\u0301e\u0302"
+            + "e\u0308i\u0300i\u0301i\u0302i\u0308n\u0303o\u0300o\u0301"
+            + "o\u0302o\u0303o\u0308u\u0300u\u0301u\u0302u\u0308y\u0301"
+            + "y\u0308A\u0304a\u0304A\u0306a\u0306A\u0328a\u0328C\u0301"
+            + "c\u0301C\u0302c\u0302C\u0307c\u0307C\u030cc\u030cD\u030c"
+            + "d\u030cE\u0304e\u0304E\u0306e\u0306E\u0307e\u0307E\u0328"
+            + "e\u0328E\u030ce\u030cG\u0302g\u0302G\u0306g\u0306G\u0307"
+            + "g\u0307G\u0327g\u0327H\u0302h\u0302I\u0303i\u0303I\u0304"
+            + "i\u0304I\u0306i\u0306I\u0328i\u0328I\u0307IJij"
+            + "J\u0302j\u0302K\u0327k\u0327L\u0301l\u0301L\u0327l\u0327"
+            + "L\u030cl\u030cL\u00b7l\u00b7N\u0301n\u0301N\u0327n\u0327"
+            + "N\u030cn\u030c\u02bcnO\u0304o\u0304O\u0306o\u0306O\u030b"
+            + "o\u030bR\u0301r\u0301R\u0327r\u0327R\u030cr\u030cS\u0301"
+            + "s\u0301S\u0302s\u0302S\u0327s\u0327S\u030cs\u030cT\u0327"
+            + "t\u0327T\u030ct\u030cU\u0303u\u0303U\u0304u\u0304U\u0306"
+            + "u\u0306U\u030au\u030aU\u030bu\u030bU\u0328u\u0328W\u0302"
+            + "w\u0302Y\u0302y\u0302Y\u0308Z\u0301z\u0301Z\u0307z\u0307"
+            + "Z\u030cz\u030csO\u031bo\u031bU\u031bu\u031bD\u017dD"
+            + "\u017ed\u017eLJLjljNJNjnjA"
+            + "\u030ca\u030cI\u030ci\u030cO\u030co\u030cU\u030cu\u030c\u00dc"
+            + "\u0304\u00fc\u0304\u00dc\u0301\u00fc\u0301\u00dc\u030c\u00fc\u030c\u00dc\u0300\u00fc\u0300\u00c4"
+            + "\u0304\u00e4\u0304\u0226\u0304\u0227\u0304\u00c6\u0304\u00e6\u0304G\u030cg\u030cK"
+            + "\u030ck\u030cO\u0328o\u0328\u01ea\u0304\u01eb\u0304\u01b7\u030c\u0292\u030cj"
+            + "\u030cDZDzdzG\u0301g\u0301N\u0300n\u0300\u00c5"
+            + "\u0301\u00e5\u0301\u00c6\u0301\u00e6\u0301\u00d8\u0301\u00f8\u0301A\u030fa\u030fA"
+            + "\u0311a\u0311E\u030fe\u030fE\u0311e\u0311I\u030fi\u030fI"
+            + "\u0311i\u0311O\u030fo\u030fO\u0311o\u0311R\u030fr\u030fR"
+            + "\u0311r\u0311U\u030fu\u030fU\u0311u\u0311S\u0326s\u0326T"
+            + "\u0326t\u0326H\u030ch\u030cA\u0307a\u0307E\u0327e\u0327\u00d6"
+            + "\u0304\u00f6\u0304\u00d5\u0304\u00f5\u0304O\u0307o\u0307\u022e\u0304\u022f\u0304Y"
+            + "\u0304y\u0304h\u0266jr\u0279\u027b\u0281wy \u0306 \u0307"
+            + " \u030a \u0328 \u0303 \u030b\u0263lsx\u0295\u0300\u0301\u0313"
+            + "\u0308\u0301\u02b9 \u0345; \u0301\u00a8\u0301\u0391\u0301\u00b7\u0395\u0301\u0397"
+            + "\u0301\u0399\u0301\u039f\u0301\u03a5\u0301\u03a9\u0301\u03ca\u0301\u0399\u0308\u03a5\u0308\u03b1"
+            + "\u0301\u03b5\u0301\u03b7\u0301\u03b9\u0301\u03cb\u0301\u03b9\u0308\u03c5\u0308\u03bf\u0301\u03c5"
+            + "\u0301\u03c9\u0301\u03b2\u03b8\u03a5\u03d2\u0301\u03d2\u0308\u03c6\u03c0\u03ba\u03c1\u03c2\u0398"
+            + "\u03b5\u03a3\u0415\u0300\u0415\u0308\u0413\u0301\u0406\u0308\u041a\u0301\u0418\u0300\u0423\u0306"
+            + "\u0418\u0306\u0438\u0306\u0435\u0300\u0435\u0308\u0433\u0301\u0456\u0308\u043a\u0301\u0438\u0300"
+            + "\u0443\u0306\u0474\u030f\u0475\u030f\u0416\u0306\u0436\u0306\u0410\u0306\u0430\u0306\u0410\u0308"
+            + "\u0430\u0308\u0415\u0306\u0435\u0306\u04d8\u0308\u04d9\u0308\u0416\u0308\u0436\u0308\u0417\u0308"
+            + "\u0437\u0308\u0418\u0304\u0438\u0304\u0418\u0308\u0438\u0308\u041e\u0308\u043e\u0308\u04e8\u0308"
+            + "\u04e9\u0308\u042d\u0308\u044d\u0308\u0423\u0304\u0443\u0304\u0423\u0308\u0443\u0308\u0423\u030b"
+            + "\u0443\u030b\u0427\u0308\u0447\u0308\u042b\u0308\u044b\u0308\u0565\u0582\u0627\u0653\u0627\u0654"
+            + "\u0648\u0654\u0627\u0655\u064a\u0654\u0627\u0674\u0648\u0674\u06c7\u0674\u064a\u0674\u06d5\u0654"
+            + "\u06c1\u0654\u06d2\u0654\u0928\u093c\u0930\u093c\u0933\u093c\u0915\u093c\u0916\u093c\u0917\u093c"
+            + "\u091c\u093c\u0921\u093c\u0922\u093c\u092b\u093c\u092f\u093c\u09c7\u09be\u09c7\u09d7\u09a1\u09bc"
+            + "\u09a2\u09bc\u09af\u09bc\u0a32\u0a3c\u0a38\u0a3c\u0a16\u0a3c\u0a17\u0a3c\u0a1c\u0a3c\u0a2b\u0a3c"
+            + "\u0b47\u0b56\u0b47\u0b3e\u0b47\u0b57\u0b21\u0b3c\u0b22\u0b3c\u0b92\u0bd7\u0bc6\u0bbe\u0bc7\u0bbe"
+            + "\u0bc6\u0bd7\u0c46\u0c56\u0cbf\u0cd5\u0cc6\u0cd5\u0cc6\u0cd6\u0cc6\u0cc2\u0cca\u0cd5\u0d46\u0d3e"
+            + "\u0d47\u0d3e\u0d46\u0d57\u0dd9\u0dca\u0dd9\u0dcf\u0ddc\u0dca\u0dd9\u0ddf\u0e4d\u0e32\u0ecd\u0eb2"
+            + "\u0eab\u0e99\u0eab\u0ea1\u0f0b\u0f42\u0fb7\u0f4c\u0fb7\u0f51\u0fb7\u0f56\u0fb7\u0f5b\u0fb7\u0f40"
+            + "\u0fb5\u0f71\u0f72\u0f71\u0f74\u0fb2\u0f80\u0fb2\u0f81\u0fb3\u0f80\u0fb3\u0f81\u0f71\u0f80\u0f92"
+            + "\u0fb7\u0f9c\u0fb7\u0fa1\u0fb7\u0fa6\u0fb7\u0fab\u0fb7\u0f90\u0fb5\u1025\u102e\u10dc\u1b05\u1b35"
+            + "\u1b07\u1b35\u1b09\u1b35\u1b0b\u1b35\u1b0d\u1b35\u1b11\u1b35\u1b3a\u1b35\u1b3c\u1b35\u1b3e\u1b35"
+            + "\u1b3f\u1b35\u1b42\u1b35A\u00c6BDE\u018eGHIJKL"
+            + "MNO\u0222PRTUWa\u0250\u0251\u1d02bde"
+            + "\u0259\u025b\u025cgkm\u014bo\u0254\u1d16\u1d17ptu\u1d1d\u026f"
+            + "v\u1d25\u03b2\u03b3\u03b4\u03c6\u03c7iruv\u03b2\u03b3\u03c1\u03c6\u03c7"
+            + "\u043d\u0252c\u0255\u00f0\u025cf\u025f\u0261\u0265\u0268\u0269\u026a\u1d7b\u029d\u026d"
+            + "\u1d85\u029f\u0271\u0270\u0272\u0273\u0274\u0275\u0278\u0282\u0283\u01ab\u0289\u028a\u1d1c\u028b"
+            + "\u028cz\u0290\u0291\u0292\u03b8A\u0325a\u0325B\u0307b\u0307B\u0323"
+            + "b\u0323B\u0331b\u0331\u00c7\u0301\u00e7\u0301D\u0307d\u0307D\u0323"
+            + "d\u0323D\u0331d\u0331D\u0327d\u0327D\u032dd\u032d\u0112\u0300"
+            + "\u0113\u0300\u0112\u0301\u0113\u0301E\u032de\u032dE\u0330e\u0330\u0228\u0306"
+            + "\u0229\u0306F\u0307f\u0307G\u0304g\u0304H\u0307h\u0307H\u0323"
+            + "h\u0323H\u0308h\u0308H\u0327h\u0327H\u032eh\u032eI\u0330"
+            + "i\u0330\u00cf\u0301\u00ef\u0301K\u0301k\u0301K\u0323k\u0323K\u0331"
+            + "k\u0331L\u0323l\u0323\u1e36\u0304\u1e37\u0304L\u0331l\u0331L\u032d"
+            + "l\u032dM\u0301m\u0301M\u0307m\u0307M\u0323m\u0323N\u0307"
+            + "n\u0307N\u0323n\u0323N\u0331n\u0331N\u032dn\u032d\u00d5\u0301"
+            + "\u00f5\u0301\u00d5\u0308\u00f5\u0308\u014c\u0300\u014d\u0300\u014c\u0301\u014d\u0301P\u0301"
+            + "p\u0301P\u0307p\u0307R\u0307r\u0307R\u0323r\u0323\u1e5a\u0304"
+            + "\u1e5b\u0304R\u0331r\u0331S\u0307s\u0307S\u0323s\u0323\u015a\u0307"
+            + "\u015b\u0307\u0160\u0307\u0161\u0307\u1e62\u0307\u1e63\u0307T\u0307t\u0307T\u0323"
+            + "t\u0323T\u0331t\u0331T\u032dt\u032dU\u0324u\u0324U\u0330"
+            + "u\u0330U\u032du\u032d\u0168\u0301\u0169\u0301\u016a\u0308\u016b\u0308V\u0303"
+            + "v\u0303V\u0323v\u0323W\u0300w\u0300W\u0301w\u0301W\u0308"
+            + "w\u0308W\u0307w\u0307W\u0323w\u0323X\u0307x\u0307X\u0308"
+            + "x\u0308Y\u0307y\u0307Z\u0302z\u0302Z\u0323z\u0323Z\u0331"
+            + "z\u0331h\u0331t\u0308w\u030ay\u030aa\u02be\u017f\u0307A\u0323"
+            + "a\u0323A\u0309a\u0309\u00c2\u0301\u00e2\u0301\u00c2\u0300\u00e2\u0300\u00c2\u0309"
+            + "\u00e2\u0309\u00c2\u0303\u00e2\u0303\u1ea0\u0302\u1ea1\u0302\u0102\u0301\u0103\u0301\u0102\u0300"
+            + "\u0103\u0300\u0102\u0309\u0103\u0309\u0102\u0303\u0103\u0303\u1ea0\u0306\u1ea1\u0306E\u0323"
+            + "e\u0323E\u0309e\u0309E\u0303e\u0303\u00ca\u0301\u00ea\u0301\u00ca\u0300"
+            + "\u00ea\u0300\u00ca\u0309\u00ea\u0309\u00ca\u0303\u00ea\u0303\u1eb8\u0302\u1eb9\u0302I\u0309"
+            + "i\u0309I\u0323i\u0323O\u0323o\u0323O\u0309o\u0309\u00d4\u0301"
+            + "\u00f4\u0301\u00d4\u0300\u00f4\u0300\u00d4\u0309\u00f4\u0309\u00d4\u0303\u00f4\u0303\u1ecc\u0302"
+            + "\u1ecd\u0302\u01a0\u0301\u01a1\u0301\u01a0\u0300\u01a1\u0300\u01a0\u0309\u01a1\u0309\u01a0\u0303"
+            + "\u01a1\u0303\u01a0\u0323\u01a1\u0323U\u0323u\u0323U\u0309u\u0309\u01af\u0301"
+            + "\u01b0\u0301\u01af\u0300\u01b0\u0300\u01af\u0309\u01b0\u0309\u01af\u0303\u01b0\u0303\u01af\u0323"
+            + "\u01b0\u0323Y\u0300y\u0300Y\u0323y\u0323Y\u0309y\u0309Y\u0303"
+            + "y\u0303\u03b1\u0313\u03b1\u0314\u1f00\u0300\u1f01\u0300\u1f00\u0301\u1f01\u0301\u1f00\u0342"
+            + "\u1f01\u0342\u0391\u0313\u0391\u0314\u1f08\u0300\u1f09\u0300\u1f08\u0301\u1f09\u0301\u1f08\u0342"
+            + "\u1f09\u0342\u03b5\u0313\u03b5\u0314\u1f10\u0300\u1f11\u0300\u1f10\u0301\u1f11\u0301\u0395\u0313"
+            + "\u0395\u0314\u1f18\u0300\u1f19\u0300\u1f18\u0301\u1f19\u0301\u03b7\u0313\u03b7\u0314\u1f20\u0300"
+            + "\u1f21\u0300\u1f20\u0301\u1f21\u0301\u1f20\u0342\u1f21\u0342\u0397\u0313\u0397\u0314\u1f28\u0300"
+            + "\u1f29\u0300\u1f28\u0301\u1f29\u0301\u1f28\u0342\u1f29\u0342\u03b9\u0313\u03b9\u0314\u1f30\u0300"
+            + "\u1f31\u0300\u1f30\u0301\u1f31\u0301\u1f30\u0342\u1f31\u0342\u0399\u0313\u0399\u0314\u1f38\u0300"
+            + "\u1f39\u0300\u1f38\u0301\u1f39\u0301\u1f38\u0342\u1f39\u0342\u03bf\u0313\u03bf\u0314\u1f40\u0300"
+            + "\u1f41\u0300\u1f40\u0301\u1f41\u0301\u039f\u0313\u039f\u0314\u1f48\u0300\u1f49\u0300\u1f48\u0301"
+            + "\u1f49\u0301\u03c5\u0313\u03c5\u0314\u1f50\u0300\u1f51\u0300\u1f50\u0301\u1f51\u0301\u1f50\u0342"
+            + "\u1f51\u0342\u03a5\u0314\u1f59\u0300\u1f59\u0301\u1f59\u0342\u03c9\u0313\u03c9\u0314\u1f60\u0300"
+            + "\u1f61\u0300\u1f60\u0301\u1f61\u0301\u1f60\u0342\u1f61\u0342\u03a9\u0313\u03a9\u0314\u1f68\u0300"
+            + "\u1f69\u0300\u1f68\u0301\u1f69\u0301\u1f68\u0342\u1f69\u0342\u03b1\u0300\u03ac\u03b5\u0300\u03ad"
+            + "\u03b7\u0300\u03ae\u03b9\u0300\u03af\u03bf\u0300\u03cc\u03c5\u0300\u03cd\u03c9\u0300\u03ce\u1f00"
+            + "\u0345\u1f01\u0345\u1f02\u0345\u1f03\u0345\u1f04\u0345\u1f05\u0345\u1f06\u0345\u1f07\u0345\u1f08"
+            + "\u0345\u1f09\u0345\u1f0a\u0345\u1f0b\u0345\u1f0c\u0345\u1f0d\u0345\u1f0e\u0345\u1f0f\u0345\u1f20"
+            + "\u0345\u1f21\u0345\u1f22\u0345\u1f23\u0345\u1f24\u0345\u1f25\u0345\u1f26\u0345\u1f27\u0345\u1f28"
+            + "\u0345\u1f29\u0345\u1f2a\u0345\u1f2b\u0345\u1f2c\u0345\u1f2d\u0345\u1f2e\u0345\u1f2f\u0345\u1f60"
+            + "\u0345\u1f61\u0345\u1f62\u0345\u1f63\u0345\u1f64\u0345\u1f65\u0345\u1f66\u0345\u1f67\u0345\u1f68"
+            + "\u0345\u1f69\u0345\u1f6a\u0345\u1f6b\u0345\u1f6c\u0345\u1f6d\u0345\u1f6e\u0345\u1f6f\u0345\u03b1"
+            + "\u0306\u03b1\u0304\u1f70\u0345\u03b1\u0345\u03ac\u0345\u03b1\u0342\u1fb6\u0345\u0391\u0306\u0391"
+            + "\u0304\u0391\u0300\u0386\u0391\u0345 \u0313\u03b9 \u0313 \u0342\u00a8\u0342\u1f74"
+            + "\u0345\u03b7\u0345\u03ae\u0345\u03b7\u0342\u1fc6\u0345\u0395\u0300\u0388\u0397\u0300\u0389\u0397"
+            + "\u0345\u1fbf\u0300\u1fbf\u0301\u1fbf\u0342\u03b9\u0306\u03b9\u0304\u03ca\u0300\u0390\u03b9\u0342"
+            + "\u03ca\u0342\u0399\u0306\u0399\u0304\u0399\u0300\u038a\u1ffe\u0300\u1ffe\u0301\u1ffe\u0342\u03c5"
+            + "\u0306\u03c5\u0304\u03cb\u0300\u03b0\u03c1\u0313\u03c1\u0314\u03c5\u0342\u03cb\u0342\u03a5\u0306"
+            + "\u03a5\u0304\u03a5\u0300\u038e\u03a1\u0314\u00a8\u0300\u0385`\u1f7c\u0345\u03c9\u0345\u03ce"
+            + "\u0345\u03c9\u0342\u1ff6\u0345\u039f\u0300\u038c\u03a9\u0300\u038f\u03a9\u0345\u00b4 \u0314"
+            + "\u2002\u2003         \u2010 \u0333.."
+            + ".... \u2032\u2032\u2032\u2032\u2032\u2035\u2035\u2035\u2035\u2035!"
+            + "! \u0305???!!?\u2032\u2032\u2032\u2032 0i"
+            + "456789+\u2212=()n0123"
+            + "456789+\u2212=()aeox\u0259"
+            + "hklmnpstRsa/ca/s"
+            + "C\u00b0Cc/oc/u\u0190\u00b0FgHHH"
+            + "h\u0127IILlNNoPQRRRSM"
+            + "TELTMZ\u03a9ZK\u00c5BCeEFM"
+            + "o\u05d0\u05d1\u05d2\u05d3iFAX\u03c0\u03b3\u0393\u03a0\u2211Dd"
+            + "eij1\u204471\u204491\u2044101\u20443"
+            + "2\u204431\u204452\u204453\u204454\u204451"
+            + "\u204465\u204461\u204483\u204485\u204487\u2044"
+            + "81\u2044IIIIIIIVVVIVI"
+            + "IVIIIIXXXIXIILCD"
+            + "Miiiiiiivvviviiv"
+            + "iiiixxxixiilcdm0"
+            + "\u20443\u2190\u0338\u2192\u0338\u2194\u0338\u21d0\u0338\u21d4\u0338\u21d2\u0338\u2203\u0338"
+            + "\u2208\u0338\u220b\u0338\u2223\u0338\u2225\u0338\u222b\u222b\u222b\u222b\u222b\u222e\u222e\u222e"
+            + "\u222e\u222e\u223c\u0338\u2243\u0338\u2245\u0338\u2248\u0338=\u0338\u2261\u0338\u224d\u0338"
+            + "<\u0338>\u0338\u2264\u0338\u2265\u0338\u2272\u0338\u2273\u0338\u2276\u0338\u2277\u0338"
+            + "\u227a\u0338\u227b\u0338\u2282\u0338\u2283\u0338\u2286\u0338\u2287\u0338\u22a2\u0338\u22a8\u0338"
+            + "\u22a9\u0338\u22ab\u0338\u227c\u0338\u227d\u0338\u2291\u0338\u2292\u0338\u22b2\u0338\u22b3\u0338"
+            + "\u22b4\u0338\u22b5\u0338\u3008\u30091234567891"
+            + "0111213141516171"
+            + "81920(1)(2)(3)(4"
+            + ")(5)(6)(7)(8)(9)"
+            + "(10)(11)(12)(13)"
+            + "(14)(15)(16)(17)"
+            + "(18)(19)(20)1.2."
+            + "3.4.5.6.7.8.9.10"
+            + ".11.12.13.14.15."
+            + "16.17.18.19.20.("
+            + "a)(b)(c)(d)(e)(f"
+            + ")(g)(h)(i)(j)(k)"
+            + "(l)(m)(n)(o)(p)("
+            + "q)(r)(s)(t)(u)(v"
+            + ")(w)(x)(y)(z)ABC"
+            + "DEFGHIJKLMNOPQRS"
+            + "TUVWXYZabcdefghi"
+            + "jklmnopqrstuvwxy"
+            + "z0\u222b\u222b\u222b\u222b::======\u2add\u0338"
+            + "jV\u2d61\u6bcd\u9f9f\u4e00\u4e28\u4e36\u4e3f\u4e59\u4e85\u4e8c\u4ea0\u4eba\u513f\u5165"
+            + "\u516b\u5182\u5196\u51ab\u51e0\u51f5\u5200\u529b\u52f9\u5315\u531a\u5338\u5341\u535c\u5369\u5382"
+            + "\u53b6\u53c8\u53e3\u56d7\u571f\u58eb\u5902\u590a\u5915\u5927\u5973\u5b50\u5b80\u5bf8\u5c0f\u5c22"
+            + "\u5c38\u5c6e\u5c71\u5ddb\u5de5\u5df1\u5dfe\u5e72\u5e7a\u5e7f\u5ef4\u5efe\u5f0b\u5f13\u5f50\u5f61"
+            + "\u5f73\u5fc3\u6208\u6236\u624b\u652f\u6534\u6587\u6597\u65a4\u65b9\u65e0\u65e5\u66f0\u6708\u6728"
+            + "\u6b20\u6b62\u6b79\u6bb3\u6bcb\u6bd4\u6bdb\u6c0f\u6c14\u6c34\u706b\u722a\u7236\u723b\u723f\u7247"
+            + "\u7259\u725b\u72ac\u7384\u7389\u74dc\u74e6\u7518\u751f\u7528\u7530\u758b\u7592\u7676\u767d\u76ae"
+            + "\u76bf\u76ee\u77db\u77e2\u77f3\u793a\u79b8\u79be\u7a74\u7acb\u7af9\u7c73\u7cf8\u7f36\u7f51\u7f8a"
+            + "\u7fbd\u8001\u800c\u8012\u8033\u807f\u8089\u81e3\u81ea\u81f3\u81fc\u820c\u821b\u821f\u826e\u8272"
+            + "\u8278\u864d\u866b\u8840\u884c\u8863\u897e\u898b\u89d2\u8a00\u8c37\u8c46\u8c55\u8c78\u8c9d\u8d64"
+            + "\u8d70\u8db3\u8eab\u8eca\u8f9b\u8fb0\u8fb5\u9091\u9149\u91c6\u91cc\u91d1\u9577\u9580\u961c\u96b6"
+            + "\u96b9\u96e8\u9751\u975e\u9762\u9769\u97cb\u97ed\u97f3\u9801\u98a8\u98db\u98df\u9996\u9999\u99ac"
+            + "\u9aa8\u9ad8\u9adf\u9b25\u9b2f\u9b32\u9b3c\u9b5a\u9ce5\u9e75\u9e7f\u9ea5\u9ebb\u9ec3\u9ecd\u9ed1"
+            + "\u9ef9\u9efd\u9f0e\u9f13\u9f20\u9f3b\u9f4a\u9f52\u9f8d\u9f9c\u9fa0 \u3012\u5341\u5344\u5345"
+            + "\u304b\u3099\u304d\u3099\u304f\u3099\u3051\u3099\u3053\u3099\u3055\u3099\u3057\u3099\u3059\u3099"
+            + "\u305b\u3099\u305d\u3099\u305f\u3099\u3061\u3099\u3064\u3099\u3066\u3099\u3068\u3099\u306f\u3099"
+            + "\u306f\u309a\u3072\u3099\u3072\u309a\u3075\u3099\u3075\u309a\u3078\u3099\u3078\u309a\u307b\u3099"
+            + "\u307b\u309a\u3046\u3099 \u3099 \u309a\u309d\u3099\u3088\u308a\u30ab\u3099\u30ad\u3099"
+            + "\u30af\u3099\u30b1\u3099\u30b3\u3099\u30b5\u3099\u30b7\u3099\u30b9\u3099\u30bb\u3099\u30bd\u3099"
+            + "\u30bf\u3099\u30c1\u3099\u30c4\u3099\u30c6\u3099\u30c8\u3099\u30cf\u3099\u30cf\u309a\u30d2\u3099"
+            + "\u30d2\u309a\u30d5\u3099\u30d5\u309a\u30d8\u3099\u30d8\u309a\u30db\u3099\u30db\u309a\u30a6\u3099"
+            + "\u30ef\u3099\u30f0\u3099\u30f1\u3099\u30f2\u3099\u30fd\u3099\u30b3\u30c8\u1100\u1101\u11aa\u1102"
+            + "\u11ac\u11ad\u1103\u1104\u1105\u11b0\u11b1\u11b2\u11b3\u11b4\u11b5\u111a\u1106\u1107\u1108\u1121"
+            + "\u1109\u110a\u110b\u110c\u110d\u110e\u110f\u1110\u1111\u1112\u1161\u1162\u1163\u1164\u1165\u1166"
+            + "\u1167\u1168\u1169\u116a\u116b\u116c\u116d\u116e\u116f\u1170\u1171\u1172\u1173\u1174\u1175\u1160"
+            + "\u1114\u1115\u11c7\u11c8\u11cc\u11ce\u11d3\u11d7\u11d9\u111c\u11dd\u11df\u111d\u111e\u1120\u1122"
+            + "\u1123\u1127\u1129\u112b\u112c\u112d\u112e\u112f\u1132\u1136\u1140\u1147\u114c\u11f1\u11f2\u1157"
+            + "\u1158\u1159\u1184\u1185\u1188\u1191\u1192\u1194\u119e\u11a1\u4e00\u4e8c\u4e09\u56db\u4e0a\u4e2d"
+            + "\u4e0b\u7532\u4e59\u4e19\u4e01\u5929\u5730\u4eba(\u1100)(\u1102)(\u1103"
+            + ")(\u1105)(\u1106)(\u1107)(\u1109)(\u110b)"
+            + "(\u110c)(\u110e)(\u110f)(\u1110)(\u1111)("
+            + "\u1112)(\u1100\u1161)(\u1102\u1161)(\u1103\u1161)(\u1105"
+            + "\u1161)(\u1106\u1161)(\u1107\u1161)(\u1109\u1161)(\u110b"
+            + "\u1161)(\u110c\u1161)(\u110e\u1161)(\u110f\u1161)(\u1110"
+            + "\u1161)(\u1111\u1161)(\u1112\u1161)(\u110c\u116e)(\u110b"
+            + "\u1169\u110c\u1165\u11ab)(\u110b\u1169\u1112\u116e)(\u4e00)(\u4e8c"
+            + ")(\u4e09)(\u56db)(\u4e94)(\u516d)(\u4e03)"
+            + "(\u516b)(\u4e5d)(\u5341)(\u6708)(\u706b)("
+            + "\u6c34)(\u6728)(\u91d1)(\u571f)(\u65e5)(\u682a"
+            + ")(\u6709)(\u793e)(\u540d)(\u7279)(\u8ca1)"
+            + "(\u795d)(\u52b4)(\u4ee3)(\u547c)(\u5b66)("
+            + "\u76e3)(\u4f01)(\u8cc7)(\u5354)(\u796d)(\u4f11"
+            + ")(\u81ea)(\u81f3)\u554f\u5e7c\u6587\u7b8fPTE21"
+            + "2223242526272829"
+            + "303132333435\u1100\u1102\u1103\u1105"
+            + "\u1106\u1107\u1109\u110b\u110c\u110e\u110f\u1110\u1111\u1112\u1100\u1161\u1102\u1161\u1103\u1161"
+            + "\u1105\u1161\u1106\u1161\u1107\u1161\u1109\u1161\u110b\u1161\u110c\u1161\u110e\u1161\u110f\u1161"
+            + "\u1110\u1161\u1111\u1161\u1112\u1161\u110e\u1161\u11b7\u1100\u1169\u110c\u116e\u110b\u1174\u110b"
+            + "\u116e\u4e00\u4e8c\u4e09\u56db\u4e94\u516d\u4e03\u516b\u4e5d\u5341\u6708\u706b\u6c34\u6728\u91d1"
+            + "\u571f\u65e5\u682a\u6709\u793e\u540d\u7279\u8ca1\u795d\u52b4\u79d8\u7537\u5973\u9069\u512a\u5370"
+            + "\u6ce8\u9805\u4f11\u5199\u6b63\u4e0a\u4e2d\u4e0b\u5de6\u53f3\u533b\u5b97\u5b66\u76e3\u4f01\u8cc7"
+            + "\u5354\u591c36373839404142"
+            + "4344454647484950"
+            + "1\u67082\u67083\u67084\u67085\u67086\u67087\u67088\u6708"
+            + "9\u670810\u670811\u670812\u6708Hgerg"
+            + "eVLTD\u30a2\u30a4\u30a6\u30a8\u30aa\u30ab\u30ad\u30af\u30b1\u30b3\u30b5"
+            + "\u30b7\u30b9\u30bb\u30bd\u30bf\u30c1\u30c4\u30c6\u30c8\u30ca\u30cb\u30cc\u30cd\u30ce\u30cf\u30d2"
+            + "\u30d5\u30d8\u30db\u30de\u30df\u30e0\u30e1\u30e2\u30e4\u30e6\u30e8\u30e9\u30ea\u30eb\u30ec\u30ed"
+            + "\u30ef\u30f0\u30f1\u30f2\u30a2\u30d1\u30fc\u30c8\u30a2\u30eb\u30d5\u30a1\u30a2\u30f3\u30da\u30a2"
+            + "\u30a2\u30fc\u30eb\u30a4\u30cb\u30f3\u30b0\u30a4\u30f3\u30c1\u30a6\u30a9\u30f3\u30a8\u30b9\u30af"
+            + "\u30fc\u30c9\u30a8\u30fc\u30ab\u30fc\u30aa\u30f3\u30b9\u30aa\u30fc\u30e0\u30ab\u30a4\u30ea\u30ab"
+            + "\u30e9\u30c3\u30c8\u30ab\u30ed\u30ea\u30fc\u30ac\u30ed\u30f3\u30ac\u30f3\u30de\u30ae\u30ac\u30ae"
+            + "\u30cb\u30fc\u30ad\u30e5\u30ea\u30fc\u30ae\u30eb\u30c0\u30fc\u30ad\u30ed\u30ad\u30ed\u30b0\u30e9"
+            + "\u30e0\u30ad\u30ed\u30e1\u30fc\u30c8\u30eb\u30ad\u30ed\u30ef\u30c3\u30c8\u30b0\u30e9\u30e0\u30b0"
+            + "\u30e9\u30e0\u30c8\u30f3\u30af\u30eb\u30bc\u30a4\u30ed\u30af\u30ed\u30fc\u30cd\u30b1\u30fc\u30b9"
+            + "\u30b3\u30eb\u30ca\u30b3\u30fc\u30dd\u30b5\u30a4\u30af\u30eb\u30b5\u30f3\u30c1\u30fc\u30e0\u30b7"
+            + "\u30ea\u30f3\u30b0\u30bb\u30f3\u30c1\u30bb\u30f3\u30c8\u30c0\u30fc\u30b9\u30c7\u30b7\u30c9\u30eb"
+            + "\u30c8\u30f3\u30ca\u30ce\u30ce\u30c3\u30c8\u30cf\u30a4\u30c4\u30d1\u30fc\u30bb\u30f3\u30c8\u30d1"
+            + "\u30fc\u30c4\u30d0\u30fc\u30ec\u30eb\u30d4\u30a2\u30b9\u30c8\u30eb\u30d4\u30af\u30eb\u30d4\u30b3"
+            + "\u30d3\u30eb\u30d5\u30a1\u30e9\u30c3\u30c9\u30d5\u30a3\u30fc\u30c8\u30d6\u30c3\u30b7\u30a7\u30eb"
+            + "\u30d5\u30e9\u30f3\u30d8\u30af\u30bf\u30fc\u30eb\u30da\u30bd\u30da\u30cb\u30d2\u30d8\u30eb\u30c4"
+            + "\u30da\u30f3\u30b9\u30da\u30fc\u30b8\u30d9\u30fc\u30bf\u30dd\u30a4\u30f3\u30c8\u30dc\u30eb\u30c8"
+            + "\u30db\u30f3\u30dd\u30f3\u30c9\u30db\u30fc\u30eb\u30db\u30fc\u30f3\u30de\u30a4\u30af\u30ed\u30de"
+            + "\u30a4\u30eb\u30de\u30c3\u30cf\u30de\u30eb\u30af\u30de\u30f3\u30b7\u30e7\u30f3\u30df\u30af\u30ed"
+            + "\u30f3\u30df\u30ea\u30df\u30ea\u30d0\u30fc\u30eb\u30e1\u30ac\u30e1\u30ac\u30c8\u30f3\u30e1\u30fc"
+            + "\u30c8\u30eb\u30e4\u30fc\u30c9\u30e4\u30fc\u30eb\u30e6\u30a2\u30f3\u30ea\u30c3\u30c8\u30eb\u30ea"
+            + "\u30e9\u30eb\u30d4\u30fc\u30eb\u30fc\u30d6\u30eb\u30ec\u30e0\u30ec\u30f3\u30c8\u30b2\u30f3\u30ef"
+            + "\u30c3\u30c80\u70b91\u70b92\u70b93\u70b94\u70b95\u70b96\u70b9"
+            + "7\u70b98\u70b99\u70b910\u70b911\u70b912\u70b91"
+            + "3\u70b914\u70b915\u70b916\u70b917\u70b918"
+            + "\u70b919\u70b920\u70b921\u70b922\u70b923\u70b9"
+            + "24\u70b9hPadaAUbaroVp"
+            + "cdmdm\u00b2dm\u00b3IU\u5e73\u6210\u662d\u548c\u5927"
+            + "\u6b63\u660e\u6cbb\u682a\u5f0f\u4f1a\u793epAnA\u03bcAmAk"
+            + "AKBMBGBcalkcalpF"
+            + "nF\u03bcF\u03bcgmgkgHzkHzM"
+            + "HzGHzTHz\u03bc\u2113m\u2113d\u2113k\u2113"
+            + "fmnm\u03bcmmmcmkmmm\u00b2c"
+            + "m\u00b2m\u00b2km\u00b2mm\u00b3cm\u00b3m\u00b3k"
+            + "m\u00b3m\u2215sm\u2215s\u00b2PakPaMP"
+            + "aGParadrad\u2215srad\u2215"
+            + "s\u00b2psns\u03bcsmspVnV\u03bcV"
+            + "mVkVMVpWnW\u03bcWmWkW"
+            + "MWk\u03a9M\u03a9a.m.Bqcccd"
+            + "C\u2215kgCo.dBGyhaHPi"
+            + "nKKKMktlmlnloglx"
+            + "mbmilmolPHp.m.PP"
+            + "MPRsrSvWbV\u2215mA\u2215m1"
+            + "\u65e52\u65e53\u65e54\u65e55\u65e56\u65e57\u65e58\u65e59"
+            + "\u65e510\u65e511\u65e512\u65e513\u65e514\u65e5"
+            + "15\u65e516\u65e517\u65e518\u65e519\u65e52"
+            + "0\u65e521\u65e522\u65e523\u65e524\u65e525"
+            + "\u65e526\u65e527\u65e528\u65e529\u65e530\u65e5"
+            + "31\u65e5gal\ua76f\u8c48\u66f4\u8eca\u8cc8\u6ed1\u4e32\u53e5\u9f9c\u9f9c"
+            + "\u5951\u91d1\u5587\u5948\u61f6\u7669\u7f85\u863f\u87ba\u88f8\u908f\u6a02\u6d1b\u70d9\u73de\u843d"
+            + "\u916a\u99f1\u4e82\u5375\u6b04\u721b\u862d\u9e1e\u5d50\u6feb\u85cd\u8964\u62c9\u81d8\u881f\u5eca"
+            + "\u6717\u6d6a\u72fc\u90ce\u4f86\u51b7\u52de\u64c4\u6ad3\u7210\u76e7\u8001\u8606\u865c\u8def\u9732"
+            + "\u9b6f\u9dfa\u788c\u797f\u7da0\u83c9\u9304\u9e7f\u8ad6\u58df\u5f04\u7c60\u807e\u7262\u78ca\u8cc2"
+            + "\u96f7\u58d8\u5c62\u6a13\u6dda\u6f0f\u7d2f\u7e37\u964b\u52d2\u808b\u51dc\u51cc\u7a1c\u7dbe\u83f1"
+            + "\u9675\u8b80\u62cf\u6a02\u8afe\u4e39\u5be7\u6012\u7387\u7570\u5317\u78fb\u4fbf\u5fa9\u4e0d\u6ccc"
+            + "\u6578\u7d22\u53c3\u585e\u7701\u8449\u8aaa\u6bba\u8fb0\u6c88\u62fe\u82e5\u63a0\u7565\u4eae\u5169"
+            + "\u51c9\u6881\u7ce7\u826f\u8ad2\u91cf\u52f5\u5442\u5973\u5eec\u65c5\u6ffe\u792a\u95ad\u9a6a\u9e97"
+            + "\u9ece\u529b\u66c6\u6b77\u8f62\u5e74\u6190\u6200\u649a\u6f23\u7149\u7489\u79ca\u7df4\u806f\u8f26"
+            + "\u84ee\u9023\u934a\u5217\u52a3\u54bd\u70c8\u88c2\u8aaa\u5ec9\u5ff5\u637b\u6bae\u7c3e\u7375\u4ee4"
+            + "\u56f9\u5be7\u5dba\u601c\u73b2\u7469\u7f9a\u8046\u9234\u96f6\u9748\u9818\u4f8b\u79ae\u91b4\u96b8"
+            + "\u60e1\u4e86\u50da\u5bee\u5c3f\u6599\u6a02\u71ce\u7642\u84fc\u907c\u9f8d\u6688\u962e\u5289\u677b"
+            + "\u67f3\u6d41\u6e9c\u7409\u7559\u786b\u7d10\u985e\u516d\u622e\u9678\u502b\u5d19\u6dea\u8f2a\u5f8b"
+            + "\u6144\u6817\u7387\u9686\u5229\u540f\u5c65\u6613\u674e\u68a8\u6ce5\u7406\u75e2\u7f79\u88cf\u88e1"
+            + "\u91cc\u96e2\u533f\u6eba\u541d\u71d0\u7498\u85fa\u96a3\u9c57\u9e9f\u6797\u6dcb\u81e8\u7acb\u7b20"
+            + "\u7c92\u72c0\u7099\u8b58\u4ec0\u8336\u523a\u5207\u5ea6\u62d3\u7cd6\u5b85\u6d1e\u66b4\u8f3b\u884c"
+            + "\u964d\u898b\u5ed3\u5140\u55c0\u585a\u6674\u51de\u732a\u76ca\u793c\u795e\u7965\u798f\u9756\u7cbe"
+            + "\u7fbd\u8612\u8af8\u9038\u90fd\u98ef\u98fc\u9928\u9db4\u4fae\u50e7\u514d\u52c9\u52e4\u5351\u559d"
+            + "\u5606\u5668\u5840\u58a8\u5c64\u5c6e\u6094\u6168\u618e\u61f2\u654f\u65e2\u6691\u6885\u6d77\u6e1a"
+            + "\u6f22\u716e\u722b\u7422\u7891\u793e\u7949\u7948\u7950\u7956\u795d\u798d\u798e\u7a40\u7a81\u7bc0"
+            + "\u7df4\u7e09\u7e41\u7f72\u8005\u81ed\u8279\u8279\u8457\u8910\u8996\u8b01\u8b39\u8cd3\u8d08\u8fb6"
+            + "\u9038\u96e3\u97ff\u983b\u6075\u42ee\u8218\u4e26\u51b5\u5168\u4f80\u5145\u5180\u52c7\u52fa\u559d"
+            + "\u5555\u5599\u55e2\u585a\u58b3\u5944\u5954\u5a62\u5b28\u5ed2\u5ed9\u5f69\u5fad\u60d8\u614e\u6108"
+            + "\u618e\u6160\u61f2\u6234\u63c4\u641c\u6452\u6556\u6674\u6717\u671b\u6756\u6b79\u6bba\u6d41\u6edb"
+            + "\u6ecb\u6f22\u701e\u716e\u77a7\u7235\u72af\u732a\u7471\u7506\u753b\u761d\u761f\u76ca\u76db\u76f4"
+            + "\u774a\u7740\u78cc\u7ab1\u7bc0\u7c7b\u7d5b\u7df4\u7f3e\u8005\u8352\u83ef\u8779\u8941\u8986\u8996"
+            + "\u8abf\u8af8\u8acb\u8b01\u8afe\u8aed\u8b39\u8b8a\u8d08\u8f38\u9072\u9199\u9276\u967c\u96e3\u9756"
+            + "\u97db\u97ff\u980b\u983b\u9b12\u9f9c\u284a\u2844\u33d5\u3b9d\u4018\u4039\u5249\u5cd0\u7ed3\u9f43"
+            + "\u9f8efffiflffiffl\u017fts"
+            + "t\u0574\u0576\u0574\u0565\u0574\u056b\u057e\u0576\u0574\u056d\u05d9\u05b4\u05f2\u05b7\u05e2"
+            + "\u05d0\u05d3\u05d4\u05db\u05dc\u05dd\u05e8\u05ea+\u05e9\u05c1\u05e9\u05c2\ufb49\u05c1\ufb49"
+            + "\u05c2\u05d0\u05b7\u05d0\u05b8\u05d0\u05bc\u05d1\u05bc\u05d2\u05bc\u05d3\u05bc\u05d4\u05bc\u05d5"
+            + "\u05bc\u05d6\u05bc\u05d8\u05bc\u05d9\u05bc\u05da\u05bc\u05db\u05bc\u05dc\u05bc\u05de\u05bc\u05e0"
+            + "\u05bc\u05e1\u05bc\u05e3\u05bc\u05e4\u05bc\u05e6\u05bc\u05e7\u05bc\u05e8\u05bc\u05e9\u05bc\u05ea"
+            + "\u05bc\u05d5\u05b9\u05d1\u05bf\u05db\u05bf\u05e4\u05bf\u05d0\u05dc\u0671\u0671\u067b\u067b\u067b"
+            + "\u067b\u067e\u067e\u067e\u067e\u0680\u0680\u0680\u0680\u067a\u067a\u067a\u067a\u067f\u067f\u067f"
+            + "\u067f\u0679\u0679\u0679\u0679\u06a4\u06a4\u06a4\u06a4\u06a6\u06a6\u06a6\u06a6\u0684\u0684\u0684"
+            + "\u0684\u0683\u0683\u0683\u0683\u0686\u0686\u0686\u0686\u0687\u0687\u0687\u0687\u068d\u068d\u068c"
+            + "\u068c\u068e\u068e\u0688\u0688\u0698\u0698\u0691\u0691\u06a9\u06a9\u06a9\u06a9\u06af\u06af\u06af"
+            + "\u06af\u06b3\u06b3\u06b3\u06b3\u06b1\u06b1\u06b1\u06b1\u06ba\u06ba\u06bb\u06bb\u06bb\u06bb\u06c0"
+            + "\u06c0\u06c1\u06c1\u06c1\u06c1\u06be\u06be\u06be\u06be\u06d2\u06d2\u06d3\u06d3\u06ad\u06ad\u06ad"
+            + "\u06ad\u06c7\u06c7\u06c6\u06c6\u06c8\u06c8\u0677\u06cb\u06cb\u06c5\u06c5\u06c9\u06c9\u06d0\u06d0"
+            + "\u06d0\u06d0\u0649\u0649\u0626\u0627\u0626\u0627\u0626\u06d5\u0626\u06d5\u0626\u0648\u0626\u0648"
+            + "\u0626\u06c7\u0626\u06c7\u0626\u06c6\u0626\u06c6\u0626\u06c8\u0626\u06c8\u0626\u06d0\u0626\u06d0"
+            + "\u0626\u06d0\u0626\u0649\u0626\u0649\u0626\u0649\u06cc\u06cc\u06cc\u06cc\u0626\u062c\u0626\u062d"
+            + "\u0626\u0645\u0626\u0649\u0626\u064a\u0628\u062c\u0628\u062d\u0628\u062e\u0628\u0645\u0628\u0649"
+            + "\u0628\u064a\u062a\u062c\u062a\u062d\u062a\u062e\u062a\u0645\u062a\u0649\u062a\u064a\u062b\u062c"
+            + "\u062b\u0645\u062b\u0649\u062b\u064a\u062c\u062d\u062c\u0645\u062d\u062c\u062d\u0645\u062e\u062c"
+            + "\u062e\u062d\u062e\u0645\u0633\u062c\u0633\u062d\u0633\u062e\u0633\u0645\u0635\u062d\u0635\u0645"
+            + "\u0636\u062c\u0636\u062d\u0636\u062e\u0636\u0645\u0637\u062d\u0637\u0645\u0638\u0645\u0639\u062c"
+            + "\u0639\u0645\u063a\u062c\u063a\u0645\u0641\u062c\u0641\u062d\u0641\u062e\u0641\u0645\u0641\u0649"
+            + "\u0641\u064a\u0642\u062d\u0642\u0645\u0642\u0649\u0642\u064a\u0643\u0627\u0643\u062c\u0643\u062d"
+            + "\u0643\u062e\u0643\u0644\u0643\u0645\u0643\u0649\u0643\u064a\u0644\u062c\u0644\u062d\u0644\u062e"
+            + "\u0644\u0645\u0644\u0649\u0644\u064a\u0645\u062c\u0645\u062d\u0645\u062e\u0645\u0645\u0645\u0649"
+            + "\u0645\u064a\u0646\u062c\u0646\u062d\u0646\u062e\u0646\u0645\u0646\u0649\u0646\u064a\u0647\u062c"
+            + "\u0647\u0645\u0647\u0649\u0647\u064a\u064a\u062c\u064a\u062d\u064a\u062e\u064a\u0645\u064a\u0649"
+            + "\u064a\u064a\u0630\u0670\u0631\u0670\u0649\u0670 \u064c\u0651 \u064d\u0651 \u064e"
+            + "\u0651 \u064f\u0651 \u0650\u0651 \u0651\u0670\u0626\u0631\u0626\u0632\u0626\u0645"
+            + "\u0626\u0646\u0626\u0649\u0626\u064a\u0628\u0631\u0628\u0632\u0628\u0645\u0628\u0646\u0628\u0649"
+            + "\u0628\u064a\u062a\u0631\u062a\u0632\u062a\u0645\u062a\u0646\u062a\u0649\u062a\u064a\u062b\u0631"
+            + "\u062b\u0632\u062b\u0645\u062b\u0646\u062b\u0649\u062b\u064a\u0641\u0649\u0641\u064a\u0642\u0649"
+            + "\u0642\u064a\u0643\u0627\u0643\u0644\u0643\u0645\u0643\u0649\u0643\u064a\u0644\u0645\u0644\u0649"
+            + "\u0644\u064a\u0645\u0627\u0645\u0645\u0646\u0631\u0646\u0632\u0646\u0645\u0646\u0646\u0646\u0649"
+            + "\u0646\u064a\u0649\u0670\u064a\u0631\u064a\u0632\u064a\u0645\u064a\u0646\u064a\u0649\u064a\u064a"
+            + "\u0626\u062c\u0626\u062d\u0626\u062e\u0626\u0645\u0626\u0647\u0628\u062c\u0628\u062d\u0628\u062e"
+            + "\u0628\u0645\u0628\u0647\u062a\u062c\u062a\u062d\u062a\u062e\u062a\u0645\u062a\u0647\u062b\u0645"
+            + "\u062c\u062d\u062c\u0645\u062d\u062c\u062d\u0645\u062e\u062c\u062e\u0645\u0633\u062c\u0633\u062d"
+            + "\u0633\u062e\u0633\u0645\u0635\u062d\u0635\u062e\u0635\u0645\u0636\u062c\u0636\u062d\u0636\u062e"
+            + "\u0636\u0645\u0637\u062d\u0638\u0645\u0639\u062c\u0639\u0645\u063a\u062c\u063a\u0645\u0641\u062c"
+            + "\u0641\u062d\u0641\u062e\u0641\u0645\u0642\u062d\u0642\u0645\u0643\u062c\u0643\u062d\u0643\u062e"
+            + "\u0643\u0644\u0643\u0645\u0644\u062c\u0644\u062d\u0644\u062e\u0644\u0645\u0644\u0647\u0645\u062c"
+            + "\u0645\u062d\u0645\u062e\u0645\u0645\u0646\u062c\u0646\u062d\u0646\u062e\u0646\u0645\u0646\u0647"
+            + "\u0647\u062c\u0647\u0645\u0647\u0670\u064a\u062c\u064a\u062d\u064a\u062e\u064a\u0645\u064a\u0647"
+            + "\u0626\u0645\u0626\u0647\u0628\u0645\u0628\u0647\u062a\u0645\u062a\u0647\u062b\u0645\u062b\u0647"
+            + "\u0633\u0645\u0633\u0647\u0634\u0645\u0634\u0647\u0643\u0644\u0643\u0645\u0644\u0645\u0646\u0645"
+            + "\u0646\u0647\u064a\u0645\u064a\u0647\u0640\u064e\u0651\u0640\u064f\u0651\u0640\u0650\u0651\u0637"
+            + "\u0649\u0637\u064a\u0639\u0649\u0639\u064a\u063a\u0649\u063a\u064a\u0633\u0649\u0633\u064a\u0634"
+            + "\u0649\u0634\u064a\u062d\u0649\u062d\u064a\u062c\u0649\u062c\u064a\u062e\u0649\u062e\u064a\u0635"
+            + "\u0649\u0635\u064a\u0636\u0649\u0636\u064a\u0634\u062c\u0634\u062d\u0634\u062e\u0634\u0645\u0634"
+            + "\u0631\u0633\u0631\u0635\u0631\u0636\u0631\u0637\u0649\u0637\u064a\u0639\u0649\u0639\u064a\u063a"
+            + "\u0649\u063a\u064a\u0633\u0649\u0633\u064a\u0634\u0649\u0634\u064a\u062d\u0649\u062d\u064a\u062c"
+            + "\u0649\u062c\u064a\u062e\u0649\u062e\u064a\u0635\u0649\u0635\u064a\u0636\u0649\u0636\u064a\u0634"
+            + "\u062c\u0634\u062d\u0634\u062e\u0634\u0645\u0634\u0631\u0633\u0631\u0635\u0631\u0636\u0631\u0634"
+            + "\u062c\u0634\u062d\u0634\u062e\u0634\u0645\u0633\u0647\u0634\u0647\u0637\u0645\u0633\u062c\u0633"
+            + "\u062d\u0633\u062e\u0634\u062c\u0634\u062d\u0634\u062e\u0637\u0645\u0638\u0645\u0627\u064b\u0627"
+            + "\u064b\u062a\u062c\u0645\u062a\u062d\u062c\u062a\u062d\u062c\u062a\u062d\u0645\u062a\u062e\u0645"
+            + "\u062a\u0645\u062c\u062a\u0645\u062d\u062a\u0645\u062e\u062c\u0645\u062d\u062c\u0645\u062d\u062d"
+            + "\u0645\u064a\u062d\u0645\u0649\u0633\u062d\u062c\u0633\u062c\u062d\u0633\u062c\u0649\u0633\u0645"
+            + "\u062d\u0633\u0645\u062d\u0633\u0645\u062c\u0633\u0645\u0645\u0633\u0645\u0645\u0635\u062d\u062d"
+            + "\u0635\u062d\u062d\u0635\u0645\u0645\u0634\u062d\u0645\u0634\u062d\u0645\u0634\u062c\u064a\u0634"
+            + "\u0645\u062e\u0634\u0645\u062e\u0634\u0645\u0645\u0634\u0645\u0645\u0636\u062d\u0649\u0636\u062e"
+            + "\u0645\u0636\u062e\u0645\u0637\u0645\u062d\u0637\u0645\u062d\u0637\u0645\u0645\u0637\u0645\u064a"
+            + "\u0639\u062c\u0645\u0639\u0645\u0645\u0639\u0645\u0645\u0639\u0645\u0649\u063a\u0645\u0645\u063a"
+            + "\u0645\u064a\u063a\u0645\u0649\u0641\u062e\u0645\u0641\u062e\u0645\u0642\u0645\u062d\u0642\u0645"
+            + "\u0645\u0644\u062d\u0645\u0644\u062d\u064a\u0644\u062d\u0649\u0644\u062c\u062c\u0644\u062c\u062c"
+            + "\u0644\u062e\u0645\u0644\u062e\u0645\u0644\u0645\u062d\u0644\u0645\u062d\u0645\u062d\u062c\u0645"
+            + "\u062d\u0645\u0645\u062d\u064a\u0645\u062c\u062d\u0645\u062c\u0645\u0645\u062e\u062c\u0645\u062e"
+            + "\u0645\u0645\u062c\u062e\u0647\u0645\u062c\u0647\u0645\u0645\u0646\u062d\u0645\u0646\u062d\u0649"
+            + "\u0646\u062c\u0645\u0646\u062c\u0645\u0646\u062c\u0649\u0646\u0645\u064a\u0646\u0645\u0649\u064a"
+            + "\u0645\u0645\u064a\u0645\u0645\u0628\u062e\u064a\u062a\u062c\u064a\u062a\u062c\u0649\u062a\u062e"
+            + "\u064a\u062a\u062e\u0649\u062a\u0645\u064a\u062a\u0645\u0649\u062c\u0645\u064a\u062c\u062d\u0649"
+            + "\u062c\u0645\u0649\u0633\u062e\u0649\u0635\u062d\u064a\u0634\u062d\u064a\u0636\u062d\u064a\u0644"
+            + "\u062c\u064a\u0644\u0645\u064a\u064a\u062d\u064a\u064a\u062c\u064a\u064a\u0645\u064a\u0645\u0645"
+            + "\u064a\u0642\u0645\u064a\u0646\u062d\u064a\u0642\u0645\u062d\u0644\u062d\u0645\u0639\u0645\u064a"
+            + "\u0643\u0645\u064a\u0646\u062c\u062d\u0645\u062e\u064a\u0644\u062c\u0645\u0643\u0645\u0645\u0644"
+            + "\u062c\u0645\u0646\u062c\u062d\u062c\u062d\u064a\u062d\u062c\u064a\u0645\u062c\u064a\u0641\u0645"
+            + "\u064a\u0628\u062d\u064a\u0643\u0645\u0645\u0639\u062c\u0645\u0635\u0645\u0645\u0633\u062e\u064a"
+            + "\u0646\u062c\u064a\u0635\u0644\u06d2\u0642\u0644\u06d2\u0627\u0644\u0644\u0647\u0627\u0643\u0628"
+            + "\u0631\u0645\u062d\u0645\u062f\u0635\u0644\u0639\u0645\u0631\u0633\u0648\u0644\u0639\u0644\u064a"
+            + "\u0647\u0648\u0633\u0644\u0645\u0635\u0644\u0649\u0635\u0644\u0649 \u0627\u0644\u0644\u0647"
+            + " \u0639\u0644\u064a\u0647 \u0648\u0633\u0644\u0645\u062c\u0644 \u062c\u0644\u0627"
+            + "\u0644\u0647\u0631\u06cc\u0627\u0644,\u3001\u3002:;!?\u3016\u3017\u2026"
+            + "\u2025\u2014\u2013__(){}\u3014\u3015\u3010\u3011\u300a\u300b\u3008"
+            + "\u3009\u300c\u300d\u300e\u300f[]\u203e\u203e\u203e\u203e___,\u3001"
+            + ".;:?!\u2014(){}\u3014\u3015#&*+"
+            + "-<>=\\$%@ \u064b\u0640\u064b \u064c \u064d"
+            + " \u064e\u0640\u064e \u064f\u0640\u064f \u0650\u0640\u0650 \u0651\u0640\u0651"
+            + " \u0652\u0640\u0652\u0621\u0622\u0622\u0623\u0623\u0624\u0624\u0625\u0625\u0626\u0626\u0626"
+            + "\u0626\u0627\u0627\u0628\u0628\u0628\u0628\u0629\u0629\u062a\u062a\u062a\u062a\u062b\u062b\u062b"
+            + "\u062b\u062c\u062c\u062c\u062c\u062d\u062d\u062d\u062d\u062e\u062e\u062e\u062e\u062f\u062f\u0630"
+            + "\u0630\u0631\u0631\u0632\u0632\u0633\u0633\u0633\u0633\u0634\u0634\u0634\u0634\u0635\u0635\u0635"
+            + "\u0635\u0636\u0636\u0636\u0636\u0637\u0637\u0637\u0637\u0638\u0638\u0638\u0638\u0639\u0639\u0639"
+            + "\u0639\u063a\u063a\u063a\u063a\u0641\u0641\u0641\u0641\u0642\u0642\u0642\u0642\u0643\u0643\u0643"
+            + "\u0643\u0644\u0644\u0644\u0644\u0645\u0645\u0645\u0645\u0646\u0646\u0646\u0646\u0647\u0647\u0647"
+            + "\u0647\u0648\u0648\u0649\u0649\u064a\u064a\u064a\u064a\u0644\u0622\u0644\u0622\u0644\u0623\u0644"
+            + "\u0623\u0644\u0625\u0644\u0625\u0644\u0627\u0644\u0627!\"#$%&'"
+            + "()*+,-./01234567"
+            + "89:;<=>?@ABCDEFG"
+            + "HIJKLMNOPQRSTUVW"
+            + "XYZ[\\]^_`abcdefg"
+            + "hijklmnopqrstuvw"
+            + "xyz{|}~\u2985\u2986\u3002\u300c\u300d\u3001\u30fb\u30f2\u30a1"
+            + "\u30a3\u30a5\u30a7\u30a9\u30e3\u30e5\u30e7\u30c3\u30fc\u30a2\u30a4\u30a6\u30a8\u30aa\u30ab\u30ad"
+            + "\u30af\u30b1\u30b3\u30b5\u30b7\u30b9\u30bb\u30bd\u30bf\u30c1\u30c4\u30c6\u30c8\u30ca\u30cb\u30cc"
+            + "\u30cd\u30ce\u30cf\u30d2\u30d5\u30d8\u30db\u30de\u30df\u30e0\u30e1\u30e2\u30e4\u30e6\u30e8\u30e9"
+            + "\u30ea\u30eb\u30ec\u30ed\u30ef\u30f3\u3099\u309a\u3164\u3131\u3132\u3133\u3134\u3135\u3136\u3137"
+            + "\u3138\u3139\u313a\u313b\u313c\u313d\u313e\u313f\u3140\u3141\u3142\u3143\u3144\u3145\u3146\u3147"
+            + "\u3148\u3149\u314a\u314b\u314c\u314d\u314e\u314f\u3150\u3151\u3152\u3153\u3154\u3155\u3156\u3157"
+            + "\u3158\u3159\u315a\u315b\u315c\u315d\u315e\u315f\u3160\u3161\u3162\u3163\u00a2\u00a3\u00ac\u00af"
+            + "\u00a6\u00a5\u20a9\u2502\u2190\u2191\u2192\u2193\u25a0\u25cb\u1099\u10ba\u109b\u10ba\u10a5\u10ba"
+            + "\ud157\ud165\ud158\ud165\ud15f\ud16e\ud15f\ud16f\ud15f\ud170\ud15f\ud171\ud15f\ud172\ud1b9\ud165"
+            + "\ud1ba\ud165\ud1bb\ud16e\ud1bc\ud16e\ud1bb\ud16f\ud1bc\ud16fABCDEF"
+            + "GHIJKLMNOPQRSTUV"
+            + "WXYZabcdefghijkl"
+            + "mnopqrstuvwxyzAB"
+            + "CDEFGHIJKLMNOPQR"
+            + "STUVWXYZabcdefgi"
+            + "jklmnopqrstuvwxy"
+            + "zABCDEFGHIJKLMNO"
+            + "PQRSTUVWXYZabcde"
+            + "fghijklmnopqrstu"
+            + "vwxyzACDGJKNOPQS"
+            + "TUVWXYZabcdfhijk"
+            + "lmnpqrstuvwxyzAB"
+            + "CDEFGHIJKLMNOPQR"
+            + "STUVWXYZabcdefgh"
+            + "ijklmnopqrstuvwx"
+            + "yzABDEFGJKLMNOPQ"
+            + "STUVWXYabcdefghi"
+            + "jklmnopqrstuvwxy"
+            + "zABDEFGIJKLMOSTU"
+            + "VWXYabcdefghijkl"
+            + "mnopqrstuvwxyzAB"
+            + "CDEFGHIJKLMNOPQR"
+            + "STUVWXYZabcdefgh"
+            + "ijklmnopqrstuvwx"
+            + "yzABCDEFGHIJKLMN"
+            + "OPQRSTUVWXYZabcd"
+            + "efghijklmnopqrst"
+            + "uvwxyzABCDEFGHIJ"
+            + "KLMNOPQRSTUVWXYZ"
+            + "abcdefghijklmnop"
+            + "qrstuvwxyzABCDEF"
+            + "GHIJKLMNOPQRSTUV"
+            + "WXYZabcdefghijkl"
+            + "mnopqrstuvwxyzAB"
+            + "CDEFGHIJKLMNOPQR"
+            + "STUVWXYZabcdefgh"
+            + "ijklmnopqrstuvwx"
+            + "yzABCDEFGHIJKLMN"
+            + "OPQRSTUVWXYZabcd"
+            + "efghijklmnopqrst"
+            + "uvwxyz\u0131\u0237\u0391\u0392\u0393\u0394\u0395\u0396\u0397\u0398"
+            + "\u0399\u039a\u039b\u039c\u039d\u039e\u039f\u03a0\u03a1\u03f4\u03a3\u03a4\u03a5\u03a6\u03a7\u03a8"
+            + "\u03a9\u2207\u03b1\u03b2\u03b3\u03b4\u03b5\u03b6\u03b7\u03b8\u03b9\u03ba\u03bb\u03bc\u03bd\u03be"
+            + "\u03bf\u03c0\u03c1\u03c2\u03c3\u03c4\u03c5\u03c6\u03c7\u03c8\u03c9\u2202\u03f5\u03d1\u03f0\u03d5"
+            + "\u03f1\u03d6\u0391\u0392\u0393\u0394\u0395\u0396\u0397\u0398\u0399\u039a\u039b\u039c\u039d\u039e"
+            + "\u039f\u03a0\u03a1\u03f4\u03a3\u03a4\u03a5\u03a6\u03a7\u03a8\u03a9\u2207\u03b1\u03b2\u03b3\u03b4"
+            + "\u03b5\u03b6\u03b7\u03b8\u03b9\u03ba\u03bb\u03bc\u03bd\u03be\u03bf\u03c0\u03c1\u03c2\u03c3\u03c4"
+            + "\u03c5\u03c6\u03c7\u03c8\u03c9\u2202\u03f5\u03d1\u03f0\u03d5\u03f1\u03d6\u0391\u0392\u0393\u0394"
+            + "\u0395\u0396\u0397\u0398\u0399\u039a\u039b\u039c\u039d\u039e\u039f\u03a0\u03a1\u03f4\u03a3\u03a4"
+            + "\u03a5\u03a6\u03a7\u03a8\u03a9\u2207\u03b1\u03b2\u03b3\u03b4\u03b5\u03b6\u03b7\u03b8\u03b9\u03ba"
+            + "\u03bb\u03bc\u03bd\u03be\u03bf\u03c0\u03c1\u03c2\u03c3\u03c4\u03c5\u03c6\u03c7\u03c8\u03c9\u2202"
+            + "\u03f5\u03d1\u03f0\u03d5\u03f1\u03d6\u0391\u0392\u0393\u0394\u0395\u0396\u0397\u0398\u0399\u039a"
+            + "\u039b\u039c\u039d\u039e\u039f\u03a0\u03a1\u03f4\u03a3\u03a4\u03a5\u03a6\u03a7\u03a8\u03a9\u2207"
+            + "\u03b1\u03b2\u03b3\u03b4\u03b5\u03b6\u03b7\u03b8\u03b9\u03ba\u03bb\u03bc\u03bd\u03be\u03bf\u03c0"
+            + "\u03c1\u03c2\u03c3\u03c4\u03c5\u03c6\u03c7\u03c8\u03c9\u2202\u03f5\u03d1\u03f0\u03d5\u03f1\u03d6"
+            + "\u0391\u0392\u0393\u0394\u0395\u0396\u0397\u0398\u0399\u039a\u039b\u039c\u039d\u039e\u039f\u03a0"
+            + "\u03a1\u03f4\u03a3\u03a4\u03a5\u03a6\u03a7\u03a8\u03a9\u2207\u03b1\u03b2\u03b3\u03b4\u03b5\u03b6"
+            + "\u03b7\u03b8\u03b9\u03ba\u03bb\u03bc\u03bd\u03be\u03bf\u03c0\u03c1\u03c2\u03c3\u03c4\u03c5\u03c6"
+            + "\u03c7\u03c8\u03c9\u2202\u03f5\u03d1\u03f0\u03d5\u03f1\u03d6\u03dc\u03dd0123"
+            + "4567890123456789"
+            + "0123456789012345"
+            + "678901234567890."
+            + "0,1,2,3,4,5,6,7,"
+            + "8,9,(A)(B)(C)(D)"
+            + "(E)(F)(G)(H)(I)("
+            + "J)(K)(L)(M)(N)(O"
+            + ")(P)(Q)(R)(S)(T)"
+            + "(U)(V)(W)(X)(Y)("
+            + "Z)\u3014S\u3015CRCDWZABCDE"
+            + "FGHIJKLMNOPQRSTU"
+            + "VWXYZHVMVSDSSPPV"
+            + "WCDJ\u307b\u304b\u30b3\u30b3\u30b5\u624b\u5b57\u53cc\u30c7\u4e8c\u591a\u89e3"
+            + "\u5929\u4ea4\u6620\u7121\u6599\u524d\u5f8c\u518d\u65b0\u521d\u7d42\u751f\u8ca9\u58f0\u5439\u6f14"
+            + "\u6295\u6355\u4e00\u4e09\u904a\u5de6\u4e2d\u53f3\u6307\u8d70\u6253\u7981\u7a7a\u5408\u6e80\u6709"
+            + "\u6708\u7533\u5272\u55b6\u3014\u672c\u3015\u3014\u4e09\u3015\u3014\u4e8c\u3015\u3014\u5b89\u3015"
+            + "\u3014\u70b9\u3015\u3014\u6253\u3015\u3014\u76d7\u3015\u3014\u52dd\u3015\u3014\u6557\u3015\u5f97"
+            + "\u53ef\u4e3d\u4e38\u4e41\u0122\u4f60\u4fae\u4fbb\u5002\u507a\u5099\u50e7\u50cf\u349e\u063a\u514d"
+            + "\u5154\u5164\u5177\u051c\u34b9\u5167\u518d\u054b\u5197\u51a4\u4ecc\u51ac\u51b5\u91df\u51f5\u5203"
+            + "\u34df\u523b\u5246\u5272\u5277\u3515\u52c7\u52c9\u52e4\u52fa\u5305\u5306\u5317\u5349\u5351\u535a"
+            + "\u5373\u537d\u537f\u537f\u537f\u0a2c\u7070\u53ca\u53df\u0b63\u53eb\u53f1\u5406\u549e\u5438\u5448"
+            + "\u5468\u54a2\u54f6\u5510\u5553\u5563\u5584\u5584\u5599\u55ab\u55b3\u55c2\u5716\u5606\u5717\u5651"
+            + "\u5674\u5207\u58ee\u57ce\u57f4\u580d\u578b\u5832\u5831\u58ac\u14e4\u58f2\u58f7\u5906\u591a\u5922"
+            + "\u5962\u16a8\u16ea\u59ec\u5a1b\u5a27\u59d8\u5a66\u36ee\u36fc\u5b08\u5b3e\u5b3e\u19c8\u5bc3\u5bd8"
+            + "\u5be7\u5bf3\u1b18\u5bff\u5c06\u5f53\u5c22\u3781\u5c60\u5c6e\u5cc0\u5c8d\u1de4\u5d43\u1de6\u5d6e"
+            + "\u5d6b\u5d7c\u5de1\u5de2\u382f\u5dfd\u5e28\u5e3d\u5e69\u3862\u2183\u387c\u5eb0\u5eb3\u5eb6\u5eca"
+            + "\ua392\u5efe\u2331\u2331\u8201\u5f22\u5f22\u38c7\u32b8\u61da\u5f62\u5f6b\u38e3\u5f9a\u5fcd\u5fd7"
+            + "\u5ff9\u6081\u393a\u391c\u6094\u26d4\u60c7\u6148\u614c\u614e\u614c\u617a\u618e\u61b2\u61a4\u61af"
+            + "\u61de\u61f2\u61f6\u6210\u621b\u625d\u62b1\u62d4\u6350\u2b0c\u633d\u62fc\u6368\u6383\u63e4\u2bf1"
+            + "\u6422\u63c5\u63a9\u3a2e\u6469\u647e\u649d\u6477\u3a6c\u654f\u656c\u300a\u65e3\u66f8\u6649\u3b19"
+            + "\u6691\u3b08\u3ae4\u5192\u5195\u6700\u669c\u80ad\u43d9\u6717\u671b\u6721\u675e\u6753\u33c3\u3b49"
+            + "\u67fa\u6785\u6852\u6885\u346d\u688e\u681f\u6914\u3b9d\u6942\u69a3\u69ea\u6aa8\u36a3\u6adb\u3c18"
+            + "\u6b21\u38a7\u6b54\u3c4e\u6b72\u6b9f\u6bba\u6bbb\u3a8d\u1d0b\u3afa\u6c4e\u3cbc\u6cbf\u6ccd\u6c67"
+            + "\u6d16\u6d3e\u6d77\u6d41\u6d69\u6d78\u6d85\u3d1e\u6d34\u6e2f\u6e6e\u3d33\u6ecb\u6ec7\u3ed1\u6df9"
+            + "\u6f6e\u3f5e\u3f8e\u6fc6\u7039\u701e\u701b\u3d96\u704a\u707d\u7077\u70ad\u0525\u7145\u4263\u719c"
+            + "\u43ab\u7228\u7235\u7250\u4608\u7280\u7295\u4735\u4814\u737a\u738b\u3eac\u73a5\u3eb8\u3eb8\u7447"
+            + "\u745c\u7471\u7485\u74ca\u3f1b\u7524\u4c36\u753e\u4c92\u7570\u219f\u7610\u4fa1\u4fb8\u5044\u3ffc"
+            + "\u4008\u76f4\u50f3\u50f2\u5119\u5133\u771e\u771f\u771f\u774a\u4039\u778b\u4046\u4096\u541d\u784e"
+            + "\u788c\u78cc\u40e3\u5626\u7956\u569a\u56c5\u798f\u79eb\u412f\u7a40\u7a4a\u7a4f\u597c\u5aa7\u5aa7"
+            + "\u7aee\u4202\u5bab\u7bc6\u7bc9\u4227\u5c80\u7cd2\u42a0\u7ce8\u7ce3\u7d00\u5f86\u7d63\u4301\u7dc7"
+            + "\u7e02\u7e45\u4334\u6228\u6247\u4359\u62d9\u7f7a\u633e\u7f95\u7ffa\u8005\u64da\u6523\u8060\u65a8"
+            + "\u8070\u335f\u43d5\u80b2\u8103\u440b\u813e\u5ab5\u67a7\u67b5\u3393\u339c\u8201\u8204\u8f9e\u446b"
+            + "\u8291\u828b\u829d\u52b3\u82b1\u82b3\u82bd\u82e6\u6b3c\u82e5\u831d\u8363\u83ad\u8323\u83bd\u83e7"
+            + "\u8457\u8353\u83ca\u83cc\u83dc\u6c36\u6d6b\u6cd5\u452b\u84f1\u84f3\u8516\u73ca\u8564\u6f2c\u455d"
+            + "\u4561\u6fb1\u70d2\u456b\u8650\u865c\u8667\u8669\u86a9\u8688\u870e\u86e2\u8779\u8728\u876b\u8786"
+            + "\u45d7\u87e1\u8801\u45f9\u8860\u8863\u7667\u88d7\u88de\u4635\u88fa\u34bb\u78ae\u7966\u46be\u46c7"
+            + "\u8aa0\u8aed\u8b8a\u8c55\u7ca8\u8cab\u8cc1\u8d1b\u8d77\u7f2f\u0804\u8dcb\u8dbc\u8df0\u08de\u8ed4"
+            + "\u8f38\u85d2\u85ed\u9094\u90f1\u9111\u872e\u911b\u9238\u92d7\u92d8\u927c\u93f9\u9415\u8bfa\u958b"
+            + "\u4995\u95b7\u8d77\u49e6\u96c3\u5db2\u9723\u9145\u921a\u4a6e\u4a76\u97e0\u940a\u4ab2\u9496\u980b"
+            + "\u980b\u9829\u95b6\u98e2\u4b33\u9929\u99a7\u99c2\u99fe\u4bce\u9b30\u9b12\u9c40\u9cfd\u4cce\u4ced"
+            + "\u9d67\ua0ce\u4cf8\ua105\ua20e\ua291\u9ebb\u4d56\u9ef9\u9efe\u9f05\u9f0f\u9f16\u9f3b\ua600";
+
+}
+
+// This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+// If a copy of the MPL was not distributed with this file, You can obtain one at http://mozilla.org/MPL/2.0/.
+// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
@@ -0,0 +1,177 @@
+package client.net.sf.saxon.ce.functions.codenorm;
+
+import client.net.sf.saxon.ce.expr.z.IntHashMap;
+import client.net.sf.saxon.ce.expr.z.IntToIntHashMap;
+
+/**
+ * This class reads the data compiled into class UnicodeData (which is generated from normalizationData.xml
+ * by tools/unicode/GenerateUnicodeTables.java), and builds the lookup tables
+ * that can be used by the Unicode normalization routines. This operation is performed
+ * once only, the first time normalization is attempted after Saxon is loaded.
+ */
+
+class UnicodeDataParser {
+
+    // This class is never instantiated
+    private UnicodeDataParser(){}
+
+    /**
+     * Called exactly once by Normalizer to build the static data
+     */
+
+    static NormalizerData build() {
+
+        BitSet isExcluded = new BitSet(128000);
+        BitSet isCompatibility = new BitSet(128000);
+
+        byte[][] canonicalClass = new byte[(MAX_CODEPOINT >> 8) + 1][];
+        readCanonicalClassTable(UnicodeData.CANONICAL_CLASSES, canonicalClass);
+
+        IntHashMap<String> decompose = new IntHashMap<String>(18000);
+        IntToIntHashMap compose = new IntToIntHashMap(15000, Integer.MIN_VALUE, NormalizerData.NOT_COMPOSITE);
+
+        readDecompositionTable(UnicodeData.DECOMPOSITION_KEYS, UnicodeData.DECOMPOSITION_VALUES,
+                decompose, compose, isExcluded, isCompatibility);
+
+        return new NormalizerData(canonicalClass, decompose, compose,
+              isCompatibility, isExcluded);
+    }
+
+    /**
+     * Decode a sequence of unsigned integers held in the format used by class UnicodeData
+     */
+
+    private static int[] readIntegers(String s) {
+        int n = 0;
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) >= 'a') {
+                n++;
+            }
+        }
+        int[] result = new int[n];
+        int value = 0;
+        n = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < 'a') {
+                value = (value << 4) | (c - 'A');
+            } else {
+                result[n++] = (value << 4) | (c - 'a');
+                value = 0;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Read canonical class table (mapping from character codes to their canonical class) into
+     * a two-stage table, allocating a block of the table only for characters whose class is non-zero
+     */
+
+    private static void readCanonicalClassTable(String s, byte[][] canonicalClasses) {
+        int[] data = readIntegers(s);
+        int previous = -1;
+        for (int i = 0; i < data.length; i += 3) {
+            int start = previous + data[i] + 1;
+            int end = start + data[i+1];
+            int clss = data[i+2];
+            for (int c = start; c <= end; c++) {
+                byte[] block = canonicalClasses[c >> 8];
+                if (block == null) {
+                    block = canonicalClasses[c >> 8] = new byte[256];
+                }
+                block[c & 0xff] = (byte)clss;
+            }
+            previous = end;
+        }
+    }
+
+    /**
+     * Read decomposition table (mapping from character codes to their decompositions), together
+     * with the list of compatibility decompositions and the list of characters excluded from composition,
+     * and construct the composition table from it
+     */
+
+    private static void readDecompositionTable(
+            String decompositionKeyString, String decompositionValuesString,
+            IntHashMap<String> decompose, IntToIntHashMap compose,
+            BitSet isExcluded, BitSet isCompatibility) {
+        int[] data = readIntegers(decompositionKeyString);
+        int key = 0;
+        int offset = 0;
+        for (int i = 0; i < data.length; i += 2) {
+            key += data[i];
+            int length = data[i+1] >> 2;
+            if ((data[i+1] & 2) != 0) {
+                isCompatibility.set(key);
+            }
+            if ((data[i+1] & 1) != 0) {
+                isExcluded.set(key);
+            }
+            String value = decompositionValuesString.substring(offset, offset + length);
+            offset += length;
+            decompose.put(key, value);
+            // only compositions are canonical pairs
+            // skip if script exclusion
+
+            if (!isCompatibility.get(key) && !isExcluded.get(key)) {
+                char first = '\u0000';
+                char second = value.charAt(0);
+                if (value.length() > 1) {
+                    first = second;
+                    second = value.charAt(1);
+                }
+
+                // store composition pair in single integer
+
+                int pair = (first << 16) | second;
+                compose.put(pair, key);
+            }
+        }
+
+        // Add algorithmic Hangul decompositions
+        // This fragment code is copied from the normalization code published by Unicode consortium.
+        // See module net.sf.saxon.serialize.codenorm.Normalizer for applicable copyright information.
+
+        for (int SIndex = 0; SIndex < SCount; ++SIndex) {
+            int TIndex = SIndex % TCount;
+            char first, second;
+            if (TIndex != 0) { // triple
+                first = (char)(SBase + SIndex - TIndex);
+                second = (char)(TBase + TIndex);
+            } else {
+                first = (char)(LBase + SIndex / NCount);
+                second = (char)(VBase + (SIndex % NCount) / TCount);
+            }
+            int pair = (first << 16) | second;
+            int hangul = SIndex + SBase;
+            decompose.put(hangul, String.valueOf(first) + second);
+            compose.put(pair, hangul);
+        }
+    }
+
+    private static final int MAX_CODEPOINT = 0x10FFFF;
+
+    /**
+     * Hangul composition constants
+     */
+    private static final int
+        SBase = 0xAC00, LBase = 0x1100, VBase = 0x1161, TBase = 0x11A7,
+        LCount = 19, VCount = 21, TCount = 28,
+        NCount = VCount * TCount,   // 588
+        SCount = LCount * NCount;   // 11172
+
+}
+
+// This class has its origins in the normalization software published
+// by the Unicode Consortium.
+
+// Modified by Michael Kay (Saxonca) to change the way in which the data files are stored.
+
+// * Copyright (c) 1991-2005 Unicode, Inc.
+// * For terms of use, see http://www.unicode.org/terms_of_use.html
+// * For documentation, see UAX#15.<br>
+// * The Unicode Consortium makes no expressed or implied warranty of any
+// * kind, and assumes no liability for errors or omissions.
+// * No liability is assumed for incidental and consequential damages
+// * in connection with or arising out of the use of the information here.
\ No newline at end of file
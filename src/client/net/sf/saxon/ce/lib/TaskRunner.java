@@ -0,0 +1,33 @@
+package client.net.sf.saxon.ce.lib;
+
+/**
+ * This interface allows the host environment to run independent pieces of work in parallel.
+ * No implementation is supplied: in the browser there is only one thread, and all work is done
+ * sequentially. When the same code is run on a Java VM, for example in a test harness or on a
+ * server, an implementation based on a thread pool (such as a ForkJoinPool) can be registered
+ * with the Configuration, and is then used to sort large sequences.
+ */
+public interface TaskRunner {
+
+    /**
+     * Get the number of tasks that can usefully be run at the same time
+     * @return the number of threads available; a value of 1 or less means that
+     * there is no point in dividing work into tasks
+     */
+
+    int getParallelism();
+
+    /**
+     * Run a set of tasks, returning when all of them have finished. The tasks are independent of
+     * each other, and may be run in any order, or concurrently.
+     * @param tasks the tasks to be run
+     * @throws RuntimeException if any of the tasks throws an exception
+     */
+
+    void runTasks(Runnable[] tasks);
+
+}
+
+// This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+// If a copy of the MPL was not distributed with this file, You can obtain one at http://mozilla.org/MPL/2.0/.
+// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
@@ -287,6 +287,17 @@ public interface NodeInfo extends Item, Sequence {
 
     public int getDocumentNumber();
 
+    /**
+     * Get the number of this node in a pre-order traversal of its document. The number is
+     * allocated once, when the tree is built, so it is cheap to obtain; it serves both to identify
+     * the node within its document and to establish document order. If two nodes in the same
+     * document both have a number, the one with the lower number comes first in document order.
+     * @return the pre-order number of the node, or -1 if the tree model does not allocate numbers
+     * to nodes of this kind
+     */
+
+    public int getPreorderNumber();
+
     /**
      * Get the index position of this node among its siblings (starting from 0)
      * @return 0 for the first child, 1 for the second child, etc.
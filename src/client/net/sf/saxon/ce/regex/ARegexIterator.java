@@ -96,11 +96,7 @@ public class ARegexIterator implements SequenceIterator {
     }
 
     private StringValue currentStringValue() {
-        if (current instanceof BMPString) {
-            return StringValue.makeStringValue(((BMPString)current).getCharSequence());
-        } else {
-            return StringValue.makeStringValue(current.toString());
-        }
+        return StringValue.makeStringValue(current);
     }
 
     public void close() {
@@ -155,7 +151,7 @@ public class ARegexIterator implements SequenceIterator {
         } else {
             StringValue[] groups = new StringValue[c];
             for (int i=1; i<=groups.length; i++) {
-                groups[i-1] = StringValue.makeStringValue(matcher.getParen(i).toString());
+                groups[i-1] = StringValue.makeStringValue(matcher.getParen(i));
             }
             return new ArrayIterator(groups);
         }
@@ -315,4 +311,4 @@ public class ARegexIterator implements SequenceIterator {
 
 // This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0. 
 // If a copy of the MPL was not distributed with this file, You can obtain one at http://mozilla.org/MPL/2.0/.
-// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
\ No newline at end of file
+// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
\ No newline at end of file
@@ -1,5 +1,6 @@
 package client.net.sf.saxon.ce.regex;
 
+import client.net.sf.saxon.ce.expr.z.IntPredicate;
 import client.net.sf.saxon.ce.om.SequenceIterator;
 import client.net.sf.saxon.ce.trans.XPathException;
 
@@ -16,6 +17,12 @@ public class ARegularExpression implements RegularExpression {
     String rawFlags;
     REProgram regex;
 
+    // Set if the regular expression matches only a fixed string, or a character (or run of characters)
+    // from a class, so that tokenize() can find the separators without using the regex engine
+    private UnicodeString literalSeparator;
+    private IntPredicate separatorClass;
+    private boolean repeatedSeparator;
+
     public static ARegularExpression make(String pattern) {
         try {
             return new ARegularExpression(pattern, "", "XP20", null);
@@ -45,6 +52,33 @@ public class ARegularExpression implements RegularExpression {
         } catch (RESyntaxException err) {
             throw new XPathException(err.getMessage(), "FORX0002");
         }
+        analyzeSeparator();
+    }
+
+    /**
+     * Examine the compiled program to see whether it has one of the simple forms that can be
+     * matched by scanning the input: a fixed string (such as ","), a single character class
+     * (such as "\s" or "[,;]"), or a repeated character class (such as "\s+")
+     */
+
+    private void analyzeSeparator() {
+        Operation[] ops = regex.instructions;
+        if (ops.length == 2 && ops[1] instanceof Operation.OpEndProgram) {
+            if (ops[0] instanceof Operation.OpAtom && !regex.flags.isCaseIndependent()) {
+                UnicodeString atom = ((Operation.OpAtom)ops[0]).atom;
+                if (atom.length() > 0) {
+                    literalSeparator = atom;
+                }
+            } else if (ops[0] instanceof Operation.OpCharClass) {
+                separatorClass = ((Operation.OpCharClass)ops[0]).predicate;
+            }
+        } else if (ops.length == 4 && ops[0] instanceof Operation.OpContinue &&
+                ops[1] instanceof Operation.OpCharClass &&
+                ops[2] instanceof Operation.OpConfidentPlus && ops[2].next == 3 &&
+                ops[3] instanceof Operation.OpEndProgram) {
+            separatorClass = ((Operation.OpCharClass)ops[1]).predicate;
+            repeatedSeparator = true;
+        }
     }
 
     /**
@@ -54,11 +88,25 @@ public class ARegularExpression implements RegularExpression {
      * @return true if the string matches, false otherwise
      */
     public boolean matches(CharSequence input) {
+        if (input.length() == 0) {
+            return regex.isNullable();
+        }
+        return matches(GeneralUnicodeString.makeUnicodeString(input));
+    }
+
+    /**
+     * Determine whether the regular expression matches a given string in its entirety
+     *
+     * @param input the string to match, as a sequence of codepoints
+     * @return true if the string matches, false otherwise
+     */
+    public boolean matches(UnicodeString input) {
         if (input.length() == 0) {
             return regex.isNullable();
         }
         REMatcher matcher = new REMatcher(regex);
-        return matcher.anchoredMatch(GeneralUnicodeString.makeUnicodeString(input));
+        matcher.setGroupsRequired(false);
+        return matcher.anchoredMatch(input);
     }
 
     /**
@@ -68,8 +116,19 @@ public class ARegularExpression implements RegularExpression {
      * @return true if the string matches, false otherwise
      */
     public boolean containsMatch(CharSequence input) {
+        return containsMatch(GeneralUnicodeString.makeUnicodeString(input));
+    }
+
+    /**
+     * Determine whether the regular expression contains a match of a given string
+     *
+     * @param input the string to match, as a sequence of codepoints
+     * @return true if the string matches, false otherwise
+     */
+    public boolean containsMatch(UnicodeString input) {
         REMatcher matcher = new REMatcher(regex);
-        return matcher.match(GeneralUnicodeString.makeUnicodeString(input), 0);
+        matcher.setGroupsRequired(false);
+        return matcher.match(input, 0);
     }
 
     /**
@@ -79,7 +138,24 @@ public class ARegularExpression implements RegularExpression {
      * @return a SequenceIterator containing the resulting tokens, as objects of type StringValue
      */
     public SequenceIterator tokenize(CharSequence input) {
-        return new ATokenIterator(GeneralUnicodeString.makeUnicodeString(input), new REMatcher(regex));
+        return tokenize(GeneralUnicodeString.makeUnicodeString(input));
+    }
+
+    /**
+     * Use this regular expression to tokenize an input string.
+     *
+     * @param input the string to be tokenized, as a sequence of codepoints
+     * @return a SequenceIterator containing the resulting tokens, as objects of type StringValue
+     */
+    public SequenceIterator tokenize(UnicodeString input) {
+        if (literalSeparator != null) {
+            return new SeparatorTokenIterator(input, literalSeparator);
+        } else if (separatorClass != null) {
+            return new SeparatorTokenIterator(input, separatorClass, repeatedSeparator);
+        }
+        REMatcher matcher = new REMatcher(regex);
+        matcher.setGroupsRequired(false);
+        return new ATokenIterator(input, matcher);
     }
 
     /**
@@ -105,18 +181,52 @@ public class ARegularExpression implements RegularExpression {
      * @throws XPathException if the replacement string is invalid
      */
     public CharSequence replace(CharSequence input, CharSequence replacement) throws XPathException {
+        return replace(GeneralUnicodeString.makeUnicodeString(input), replacement);
+    }
+
+    /**
+     * Replace all substrings of a supplied input string that match the regular expression
+     * with a replacement string.
+     *
+     * @param in          the input string on which replacements are to be performed, as a sequence of codepoints
+     * @param replacement the replacement string in the format of the XPath replace() function
+     * @return the result of performing the replacement
+     * @throws XPathException if the replacement string is invalid
+     */
+    public CharSequence replace(UnicodeString in, CharSequence replacement) throws XPathException {
         REMatcher matcher = new REMatcher(regex);
         if (matcher.match("")) {
             throw new XPathException("The regular expression must not be one that matches a zero-length string", "FORX0003");
         }
-        UnicodeString in = GeneralUnicodeString.makeUnicodeString(input);
         UnicodeString rep = GeneralUnicodeString.makeUnicodeString(replacement);
+        matcher.setGroupsRequired(refersToGroups(rep));
         try {
             return matcher.subst(in, rep);
         } catch (RESyntaxException err) {
             throw new XPathException(err.getMessage(), "FORX0004");
         }
     }
+
+    /**
+     * Determine whether a replacement string refers to any captured group other than group 0
+     *
+     * @param replacement the replacement string in the format of the XPath replace() function
+     * @return true if the replacement string contains "$" followed by a digit other than zero
+     */
+    private boolean refersToGroups(UnicodeString replacement) {
+        if (regex.flags.isLiteral()) {
+            return false;
+        }
+        for (int i = 0; i < replacement.length() - 1; i++) {
+            int ch = replacement.charAt(i);
+            if (ch == '\\') {
+                i++;
+            } else if (ch == '$' && replacement.charAt(i + 1) != '0') {
+                return true;
+            }
+        }
+        return false;
+    }
 }
 
 // This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0. 
@@ -46,11 +46,7 @@ public class ATokenIterator implements SequenceIterator {
     }
 
     private Item currentStringValue() {
-        if (current instanceof BMPString) {
-            return StringValue.makeStringValue(((BMPString)current).getCharSequence());
-        } else {
-            return StringValue.makeStringValue(current.toString());
-        }
+        return StringValue.makeStringValue(current);
     }
 
     public Item current() {
@@ -69,4 +65,4 @@ public class ATokenIterator implements SequenceIterator {
 
 // This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0. 
 // If a copy of the MPL was not distributed with this file, You can obtain one at http://mozilla.org/MPL/2.0/.
-// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
\ No newline at end of file
+// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
\ No newline at end of file
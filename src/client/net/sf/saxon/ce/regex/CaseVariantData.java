@@ -0,0 +1,158 @@
+package client.net.sf.saxon.ce.regex;
+
+import client.net.sf.saxon.ce.expr.z.IntHashMap;
+import client.net.sf.saxon.ce.expr.z.IntToIntHashMap;
+
+/**
+ * The case variants of Unicode characters, as used when a regular expression is compiled with the
+ * "i" flag. The data is generated from the file casevariants.xml (see {@link CaseVariants});
+ * compiling it in means that it is no longer necessary to fetch and parse that file from the server
+ * the first time a case-blind regular expression is used.
+ *
+ * <p>The data is held as a string of unsigned integers, each written as a sequence of hexadecimal
+ * digits, using 'A' to 'P' for every digit except the last and 'a' to 'p' for the last. For each
+ * character that has case variants, in ascending order, there is the number of characters between
+ * the previous such character (or -1) and this one, the number of variants minus one, and then the
+ * difference between each variant and the character. Differences are signed, and are written as
+ * 2d for d &gt;= 0 and -2d-1 for d &lt; 0.</p>
+ *
+ * <p>The table in this class is generated, and should not be edited by hand. To regenerate it, run
+ * this command from the root of the source tree:</p>
+ * <pre>
+ * java tools/unicode/GenerateUnicodeTables.java casevariants src/resources/casevariants.xml \
+ *         src/client/net/sf/saxon/ce/regex/CaseVariantData.java
+ * </pre>
+ */
+
+class CaseVariantData {
+
+    private static final String VARIANTS =
+            "EbaEaaaEaaaEaaaEaaaEaaaEaaaEaaaEaacEaBMoBNaaaEaabEaEBLoaaEaaaEaaaEaaaEaaaEaaaEaaaEaabEaCFiaaEaaa"
+            + "EaaaEaaaEaaaEaaaEaaaEagaDpaaDpaaDpaaDpaaDpaaDpaaDpaaDpacDpBIoBJaaaDpabDpEBHoaaDpaaDpaaDpaaDpaaDp"
+            + "aaDpaaDpabDpCBiaaDpaaDpaaDpaaDpaaDpaaDpaaDpDkbFMoGAokaEaaaEaaaEaaaEaaaEaabEaEAMmaaEaaaEaaaEaaaEa"
+            + "aaEaaaEaaaEaaaEaaaEaaaEaaaEaaaEaaaEaaaEaaaEaaaEaaaEabaEaaaEaaaEaaaEaaaEaaaEaaaEabaDpaaDpaaDpaaDp"
+            + "aaDpabDpEAImaaDpaaDpaaDpaaDpaaDpaaDpaaDpaaDpaaDpaaDpaaDpaaDpaaDpaaDpaaDpaaDpaaDpbaDpaaDpaaDpaaDp"
+            + "aaDpaaDpaaDpaaPcaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaa"
+            + "caabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaababBMnBInabBMpBIpaacaabaacaabaaca"
+            + "abbacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabbacaabaacaabaacaabaacaabaacaabaacaabaacaabaaca"
+            + "abaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaaPb"
+            + "aacaabaacaabaacaababCFhCBhaaBIgaaBKeaacaabaacaabaaBJmaacaabaaBJkaaBJkaacaabbaJoaaBJeaaBJgaacaaba"
+            + "aBJkaaBJoaaMcaaBKgaaBKcaacaabaaBEgbaBKgaaBKkaaBAeaaBKmaacaabaacaabaacaabaaBLeaacaabaaBLecacaabaa"
+            + "BLeaacaabaaBLcaaBLcaacaabaacaabaaBLgaacaabcacaabbaHaebceabbcabdbabceabbcabdbabceabbcabdbaacaabaa"
+            + "caabaacaabaacaabaacaabaacaabaacaabaacaabaaJnaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaaca"
+            + "abbbceabbcabdbaacaabaaMbaaGpaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaa"
+            + "caabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaaBAdbacaabaacaabaacaabaacaabaacaabaacaabaac"
+            + "aabaacaabaacaabgaFEFgaacaabaaBEfaaFEFaaaFEHoaaFEHoaacaabaaBIfaaIkaaIoaacaabaacaabaacaabaacaabaac"
+            + "aabaaFEDoaaFEDiaaFEDmaaBKdaaBJlbaBJjaaBJjbaBJdbaBJfeaBJjcaBJnbaBEKFaaaBEKIibaBKbaaBKfbaFDOodaBKf"
+            + "baFDPkaaBKjcaBKlhaFDMocaBLdcaBLdeaBLdaaIjaaBLbaaBLbaaInfaBLfLccKiOiDIPcCkacaabaacaabcacaabdaBAea"
+            + "aBAeaaBAeiaEmbaEkaaEkaaEkbaIabaHoaaHobaEaabEaHmaaEaaaEaabEaMaaaEaaaEaacEaHcLiacKhEaDIEkabEaKmaaE"
+            + "aabFMnEaaaEaaaEaaaEaabEaGmabEaKabbDoEaaaEaaaEaabEaFoaaEaaaEaabEaDKPkaaEaaaEaaaElaaEjaaEjaaEjbaDp"
+            + "abDpDmaaDpaaDpabDpIaaaDpaaDpacDpDcHiacOhDpDIAkabDpGmaaDpabGAnDpaaDpaaDpaaDpabDpCmabDpGaabDncabDp"
+            + "baaDpaaDpabDpBoaaDpaaDpabDpDKLkaaDpaaDpaaHpaaHnaaHnaaBaabHlDlabHbDbdbFnBnabGlClaapaacaabaacaabaa"
+            + "caabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaababKlGlabJpFpaaobbLhHhabLpHpbacaabaanaa"
+            + "caabbaBAdaaBAdaaBAdaaKaaaKaaaKaaaKaaaKaaaKaaaKaaaKaaaKaaaKaaaKaaaKaaaKaaaKaaaKaaaKaaaEaaaEaaaEaa"
+            + "aEaaaEaaaEaaaEaaaEaaaEaaaEaaaEaaaEaaaEaaaEaaaEaaaEaaaEaaaEaaaEaaaEaaaEaaaEaaaEaaaEaaaEaaaEaaaEaa"
+            + "aEaaaEaaaEaaaEaaaEaaaDpaaDpaaDpaaDpaaDpaaDpaaDpaaDpaaDpaaDpaaDpaaDpaaDpaaDpaaDpaaDpaaDpaaDpaaDpa"
+            + "aDpaaDpaaDpaaDpaaDpaaDpaaDpaaDpaaDpaaDpaaDpaaDpaaDpaaJpaaJpaaJpaaJpaaJpaaJpaaJpaaJpaaJpaaJpaaJpa"
+            + "aJpaaJpaaJpaaJpaaJpaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaa"
+            + "baacaabaacaabaacaabaacaabiacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaa"
+            + "baacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaaBoa"
+            + "acaabaacaabaacaabaacaabaacaabaacaabaacaabaaBnaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaac"
+            + "aabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaac"
+            + "aabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaac"
+            + "aabaacaabaacaabaacaabjaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaG"
+            + "aaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGakaFpaaFpaaFpaaFpaaF"
+            + "paaFpaaFpaaFpaaFpaaFpaaFpaaFpaaFpaaFpaaFpaaFpaaFpaaFpaaFpaaFpaaFpaaFpaaFpaaFpaaFpaaFpaaFpaaFpaaF"
+            + "paaFpaaFpaaFpaaFpaaFpaaFpaaFpaaFpaaFpLBjaDIMaaaDIMaaaDIMaaaDIMaaaDIMaaaDIMaaaDIMaaaDIMaaaDIMaaaD"
+            + "IMaaaDIMaaaDIMaaaDIMaaaDIMaaaDIMaaaDIMaaaDIMaaaDIMaaaDIMaaaDIMaaaDIMaaaDIMaaaDIMaaaDIMaaaDIMaaaD"
+            + "IMaaaDIMaaaDIMaaaDIMaaaDIMaaaDIMaaaDIMaaaDIMaaaDIMaaaDIMaaaDIMaaaDIMaaaDIMabaDIMafaDIMaMKlaBBEAi"
+            + "daBNMmIcacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaa"
+            + "baacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaa"
+            + "baacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaa"
+            + "baacaababcHgabbHeaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaaba"
+            + "acaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabfbHfHdeacaabaacaaba"
+            + "acaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaaba"
+            + "acaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaaba"
+            + "acaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaaBaaaBaaaBaa"
+            + "aBaaaBaaaBaaaBaaaBaaapaapaapaapaapaapaapaapaaBaaaBaaaBaaaBaaaBaaaBacapaapaapaapaapaapcaBaaaBaaaB"
+            + "aaaBaaaBaaaBaaaBaaaBaaapaapaapaapaapaapaapaapaaBaaaBaaaBaaaBaaaBaaaBaaaBaaaBaaapaapaapaapaapaapa"
+            + "apaapaaBaaaBaaaBaaaBaaaBaaaBacapaapaapaapaapaapdaBabaBabaBabaBabapbapbapbapaaBaaaBaaaBaaaBaaaBaa"
+            + "aBaaaBaaaBaaapaapaapaapaapaapaapaapaaJeaaJeaaKmaaKmaaKmaaKmaaMiaaMiaaBAaaaBAaaaOaaaOaaaPmaaPmcaB"
+            + "aaaBaaaBaaaBaaaBaaaBaaaBaaaBaaapaapaapaapaapaapaapaapaaBaaaBaaaBaaaBaaaBaaaBaaaBaaaBaaapaapaapaa"
+            + "paapaapaapaapaaBaaaBaaaBaaaBaaaBaaaBaaaBaaaBaaapaapaapaapaapaapaapaapaaBaaaBabaBceapaapaaJdaaJda"
+            + "aBbbcDIPbDIEjDIAjeaBceaKlaaKlaaKlaaKlaaBbdaBaaaBagapaapaaMhaaMheaBaaaBadaocapaapaaNpaaNpaangaBce"
+            + "aPpaaPpaaPlaaPlaaBbBCjbDKPjDKLjdbEBLnEBHnabEAMlEAIlgaDiBlaDhBbaCaaaCaaaCaaaCaaaCaaaCaaaCaaaCaaaC"
+            + "aaaCaaaCaaaCaaaCaaaCaaaCaaaCaaaBpaaBpaaBpaaBpaaBpaaBpaaBpaaBpaaBpaaBpaaBpaaBpaaBpaaBpaaBpaaBpdac"
+            + "aabDDbaDeaaDeaaDeaaDeaaDeaaDeaaDeaaDeaaDeaaDeaaDeaaDeaaDeaaDeaaDeaaDeaaDeaaDeaaDeaaDeaaDeaaDeaaD"
+            + "eaaDeaaDeaaDeaaDdaaDdaaDdaaDdaaDdaaDdaaDdaaDdaaDdaaDdaaDdaaDdaaDdaaDdaaDdaaDdaaDdaaDdaaDdaaDdaaD"
+            + "daaDdaaDdaaDdaaDdaaDdHBgaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaa"
+            + "aGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaaaGaa"
+            + "aGaaaGaaaGaaaGaaaGabaFpaaFpaaFpaaFpaaFpaaFpaaFpaaFpaaFpaaFpaaFpaaFpaaFpaaFpaaFpaaFpaaFpaaFpaaFpa"
+            + "aFpaaFpaaFpaaFpaaFpaaFpaaFpaaFpaaFpaaFpaaFpaaFpaaFpaaFpaaFpaaFpaaFpaaFpaaFpaaFpaaFpaaFpaaFpaaFpa"
+            + "aFpaaFpaaFpaaFpbacaabaaFDOnaaBNMlaaFDMnaaFEFfaaFEEpaacaabaacaabaacaabaaFEDhaaFDPjaaFEDnaaFEDlbac"
+            + "aabbacaabhaFEHnaaFEHnaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaac"
+            + "aabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaac"
+            + "aabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaac"
+            + "aabaacaabaacaabaacaabaacaabaacaabhacaabaacaabdacaabmaDILpaaDILpaaDILpaaDILpaaDILpaaDILpaaDILpaaD"
+            + "ILpaaDILpaaDILpaaDILpaaDILpaaDILpaaDILpaaDILpaaDILpaaDILpaaDILpaaDILpaaDILpaaDILpaaDILpaaDILpaaD"
+            + "ILpaaDILpaaDILpaaDILpaaDILpaaDILpaaDILpaaDILpaaDILpaaDILpaaDILpaaDILpaaDILpaaDILpaaDILpbaDILpfaD"
+            + "ILpHJBcacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaab"
+            + "aacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabBcacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaa"
+            + "baacaabaacaabaacaabaacaabIkacaabaacaabaacaabaacaabaacaabaacaabaacaabcacaabaacaabaacaabaacaabaaca"
+            + "abaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaaca"
+            + "abaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabaacaabjacaabaacaabaaBBEAhaacaabaacaabaac"
+            + "aabaacaabaacaabdacaabaaBEKEpcacaabaacaabmacaabaacaabaacaabaacaabaacaabaaBEKIhFHHgaEaaaEaaaEaaaEa"
+            + "aaEaaaEaaaEaaaEaaaEaaaEaaaEaaaEaaaEaaaEaaaEaaaEaaaEaaaEaaaEaaaEaaaEaaaEaaaEaaaEaaaEaaaEagaDpaaDp"
+            + "aaDpaaDpaaDpaaDpaaDpaaDpaaDpaaDpaaDpaaDpaaDpaaDpaaDpaaDpaaDpaaDpaaDpaaDpaaDpaaDpaaDpaaDpaaDpaaDp"
+            + "EKfaFaaaFaaaFaaaFaaaFaaaFaaaFaaaFaaaFaaaFaaaFaaaFaaaFaaaFaaaFaaaFaaaFaaaFaaaFaaaFaaaFaaaFaaaFaaa"
+            + "FaaaFaaaFaaaFaaaFaaaFaaaFaaaFaaaFaaaFaaaFaaaFaaaFaaaFaaaFaaaFaaaFaaaEpaaEpaaEpaaEpaaEpaaEpaaEpaa"
+            + "EpaaEpaaEpaaEpaaEpaaEpaaEpaaEpaaEpaaEpaaEpaaEpaaEpaaEpaaEpaaEpaaEpaaEpaaEpaaEpaaEpaaEpaaEpaaEpaa"
+            + "EpaaEpaaEpaaEpaaEpaaEpaaEpaaEpaaEp";
+
+    // This class is never instantiated
+    private CaseVariantData() {}
+
+    /**
+     * Decode the case variants
+     * @param monoVariants a map to which the characters having a single case variant are added,
+     * with their variant
+     * @param polyVariants a map to which the characters having more than one case variant are added,
+     * with their variants
+     */
+
+    static void load(IntToIntHashMap monoVariants, IntHashMap<int[]> polyVariants) {
+        int[] values = new int[6];
+        int count = 0;
+        int value = 0;
+        int previous = -1;
+        for (int i = 0; i < VARIANTS.length(); i++) {
+            char c = VARIANTS.charAt(i);
+            if (c < 'a') {
+                value = (value << 4) | (c - 'A');
+                continue;
+            }
+            values[count++] = (value << 4) | (c - 'a');
+            value = 0;
+            if (count >= 2 && count == values[1] + 3) {
+                int code = previous + values[0] + 1;
+                int[] variants = new int[count - 2];
+                for (int v = 0; v < variants.length; v++) {
+                    int diff = values[v + 2];
+                    variants[v] = code + ((diff & 1) == 0 ? diff >> 1 : -((diff + 1) >> 1));
+                }
+                if (variants.length == 1) {
+                    monoVariants.put(code, variants[0]);
+                } else {
+                    polyVariants.put(code, variants);
+                }
+                previous = code;
+                count = 0;
+            }
+        }
+    }
+
+}
+
+// This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+// If a copy of the MPL was not distributed with this file, You can obtain one at http://mozilla.org/MPL/2.0/.
+// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
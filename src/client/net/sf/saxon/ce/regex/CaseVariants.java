@@ -1,63 +1,27 @@
 package client.net.sf.saxon.ce.regex;
 
-import client.net.sf.saxon.ce.Configuration;
-import client.net.sf.saxon.ce.om.Axis;
-import client.net.sf.saxon.ce.om.DocumentInfo;
-import client.net.sf.saxon.ce.om.NodeInfo;
-import client.net.sf.saxon.ce.pattern.NameTest;
-import client.net.sf.saxon.ce.trans.XPathException;
-import client.net.sf.saxon.ce.tree.iter.UnfailingIterator;
-import client.net.sf.saxon.ce.tree.util.Navigator;
-import client.net.sf.saxon.ce.type.Type;
-
-import java.util.HashMap;
+import client.net.sf.saxon.ce.expr.z.IntHashMap;
+import client.net.sf.saxon.ce.expr.z.IntToIntHashMap;
 
 /**
  * This class holds data about the case-variants of Unicode characters. The data is automatically
- * generated from the Unicode database.
+ * generated from the Unicode database, and is compiled in (see {@link CaseVariantData}).
  */
 public class CaseVariants {
 
     // Use one hashmap for characters with a single case variant, another for characters with multiple
     // case variants, to reduce the number of objects that need to be allocated
 
-    private static HashMap<Integer, Integer> monoVariants = null;
-    private static HashMap<Integer, int[]> polyVariants = null;
+    private static IntToIntHashMap monoVariants = null;
+    private static IntHashMap<int[]> polyVariants = null;
 
 
     static void build() {
-
-        monoVariants = new HashMap<Integer, Integer>(2500);
-        polyVariants = new HashMap<Integer, int[]>(100);
-
-        Configuration config = new Configuration();
-        DocumentInfo doc;
-        try {
-            doc = config.buildDocument("casevariants.xml");
-        } catch (XPathException e) {
-            throw new RuntimeException("Failed to build casevariants.xml", e);
-        }
-
-        UnfailingIterator iter = doc.iterateAxis(Axis.DESCENDANT, new NameTest(Type.ELEMENT, "", "c"));
-        while (true) {
-            NodeInfo item = (NodeInfo)iter.next();
-            if (item == null) {
-                break;
-            }
-            String code = Navigator.getAttributeValue(item, "", "n");
-            int icode = Integer.parseInt(code, 16);
-            String variants = Navigator.getAttributeValue(item, "", "v");
-            String[] vhex = variants.split(",");
-            int[] vint = new int[vhex.length];
-            for (int i=0; i<vhex.length; i++) {
-                vint[i] = Integer.parseInt(vhex[i], 16);
-            }
-            if (vhex.length == 1) {
-                monoVariants.put(icode, vint[0]);
-            } else {
-                polyVariants.put(icode, vint);
-            }
-        }
+        IntToIntHashMap mono = new IntToIntHashMap(2500, Integer.MIN_VALUE, -1);
+        IntHashMap<int[]> poly = new IntHashMap<int[]>(100);
+        CaseVariantData.load(mono, poly);
+        polyVariants = poly;
+        monoVariants = mono;
     }
 
     /**
@@ -71,8 +35,8 @@ public class CaseVariants {
         if (monoVariants == null) {
             build();
         }
-        Integer mono = monoVariants.get(code);
-        if (mono != null) {
+        int mono = monoVariants.get(code);
+        if (mono != -1) {
             return new int[]{mono};
         } else {
             int[] result = polyVariants.get(code);
@@ -92,7 +56,7 @@ public class CaseVariants {
 
     /*@NotNull*/ public static int[] ROMAN_VARIANTS = {0x0130, 0x0131, 0x212A, 0x017F};
 
-    // The data file casevariants.xml was formed by applying the following query to the XML
+    // The data in CaseVariantData is generated from the file casevariants.xml, which was formed by applying the following query to the XML
     // version of the Unicode database (for Saxon 9.6, the Unicode 6.2.0 version was used)
 
 //    declare namespace u = "http://www.unicode.org/ns/2003/ucd/1.0";
@@ -112,4 +76,4 @@ public class CaseVariants {
 
 // This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
 // If a copy of the MPL was not distributed with this file, You can obtain one at http://mozilla.org/MPL/2.0/.
-// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
\ No newline at end of file
+// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
\ No newline at end of file
@@ -8,79 +8,22 @@
 package client.net.sf.saxon.ce.regex;
 
 
-import client.net.sf.saxon.ce.Configuration;
 import client.net.sf.saxon.ce.expr.z.*;
-import client.net.sf.saxon.ce.om.Axis;
-import client.net.sf.saxon.ce.om.DocumentInfo;
 import client.net.sf.saxon.ce.om.NameChecker;
-import client.net.sf.saxon.ce.om.NodeInfo;
-import client.net.sf.saxon.ce.pattern.NameTest;
-import client.net.sf.saxon.ce.pattern.NodeKindTest;
-import client.net.sf.saxon.ce.trans.XPathException;
-import client.net.sf.saxon.ce.tree.iter.UnfailingIterator;
-import client.net.sf.saxon.ce.tree.util.Navigator;
-import client.net.sf.saxon.ce.type.Type;
 
 import java.util.HashMap;
-import java.util.Map;
 
 /**
- * Data for Regular expression character categories. The data is in an XML file derived from the Unicode
- * database (In Saxon 9.6, this is based on Unicode 6.2.0). Since Saxon 9.4,
+ * Data for Regular expression character categories. The data is derived from the Unicode
+ * database (In Saxon 9.6, this is based on Unicode 6.2.0), and is held in compiled form in
+ * {@link CategoryData}. Since Saxon 9.4,
  * we no longer make use of Java's support for character categories since there are too many differences
  * from Unicode.
  */
 public class Categories {
 
 
-    private static HashMap<String, IntPredicate> CATEGORIES = null;
-
-    static void build() {
-
-        CATEGORIES = new HashMap<String, IntPredicate>(30);
-
-        Configuration config = new Configuration();
-        DocumentInfo doc;
-        try {
-            doc = config.buildDocument("categories.xml");
-        } catch (XPathException e) {
-            throw new RuntimeException("Failed to build categories.xml", e);
-        }
-
-        UnfailingIterator iter = doc.iterateAxis(Axis.DESCENDANT, new NameTest(Type.ELEMENT, "", "cat"));
-        while (true) {
-            NodeInfo item = (NodeInfo)iter.next();
-            if (item == null) {
-                break;
-            }
-            String cat = Navigator.getAttributeValue(item, "", "name");
-            IntRangeSet irs = new IntRangeSet();
-            UnfailingIterator iter2 = item.iterateAxis(Axis.CHILD, NodeKindTest.ELEMENT);
-            while (true) {
-                NodeInfo r = (NodeInfo)iter2.next();
-                if (r == null) {
-                    break;
-                }
-                String from = Navigator.getAttributeValue(r, "", "f");
-                String to = Navigator.getAttributeValue(r, "", "t");
-                irs.addRange(Integer.parseInt(from, 16), Integer.parseInt(to, 16));
-            }
-
-            CATEGORIES.put(cat, new IntSetPredicate(irs));
-        }
-
-        String c = "CLMNPSZ";
-        for (int i = 0; i < c.length(); i++) {
-            char ch = c.charAt(i);
-            IntPredicate ip = null;
-            for (Map.Entry<String, IntPredicate> entry : CATEGORIES.entrySet()) {
-                if (entry.getKey().charAt(0) == ch) {
-                    ip = (ip == null ? entry.getValue() : new IntUnionPredicate(ip, entry.getValue()));
-                }
-            }
-            CATEGORIES.put(ch + "", ip);
-        }
-    }
+    private static HashMap<String, IntPredicate> CATEGORIES = new HashMap<String, IntPredicate>(40);
 
     public final static IntPredicate ESCAPE_s =
             new IntSetPredicate(IntHashSet.fromArray(new int[]{9, 10, 13, 32}));
@@ -137,16 +80,22 @@ public class Categories {
      */
 
     public static IntPredicate getCategory(String cat) {
-        if (CATEGORIES == null) {
-            build();
+        IntPredicate predicate = CATEGORIES.get(cat);
+        if (predicate == null) {
+            IntRangeSet ranges = CategoryData.getRanges(cat);
+            if (ranges == null) {
+                return null;
+            }
+            predicate = new IntSetPredicate(ranges);
+            CATEGORIES.put(cat, predicate);
         }
-        return CATEGORIES.get(cat);
+        return predicate;
     }
 
 
 }
 
-// The following stylesheet was used to generate the categories.xml file from the Unicode 6.2.0 database:
+// The following stylesheet was used to generate the categories.xml file, from which CategoryData is generated, from the Unicode 6.2.0 database:
 
 //<?xml version="1.0" encoding="UTF-8"?>
 //<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform"
@@ -0,0 +1,281 @@
+package client.net.sf.saxon.ce.regex;
+
+import client.net.sf.saxon.ce.expr.z.IntRangeSet;
+
+/**
+ * The ranges of characters in each Unicode general category, as used by the \p{..} construct in a
+ * regular expression. The data is generated from the file categories.xml, which is derived from the
+ * Unicode 6.2.0 database (see {@link Categories}); compiling it in means that it is no longer necessary
+ * to fetch and parse that file from the server the first time a category is used.
+ *
+ * <p>The ranges for each category are held as a string of unsigned integers, each written as a sequence
+ * of hexadecimal digits, using 'A' to 'P' for every digit except the last and 'a' to 'p' for the last.
+ * Each range is written as two integers: the number of characters between the end of the previous range
+ * (or -1) and the start of this one, and the number of characters in the range minus one. Adjacent ranges
+ * are merged, and the one-letter categories are held as the union of the corresponding two-letter
+ * categories.</p>
+ *
+ * <p>The tables in this class are generated, and should not be edited by hand. To regenerate them, run
+ * this command from the root of the source tree:</p>
+ * <pre>
+ * java tools/unicode/GenerateUnicodeTables.java categories src/resources/categories.xml \
+ *         src/client/net/sf/saxon/ce/regex/CategoryData.java
+ * </pre>
+ */
+
+class CategoryData {
+
+    private static final String[] NAMES = {
+            "Cc", "Cf", "Cn", "Co", "Ll", "Lm", "Lo", "Lt", "Lu", "Mc", "Me", "Mn", "Nd", "Nl",
+            "No", "Pc", "Pd", "Pe", "Pf", "Pi", "Po", "Ps", "Sc", "Sk", "Sm", "So", "Zl", "Zp",
+            "Zs", "C", "L", "M", "N", "P", "S", "Z"
+    };
+
+    private static final String[] RANGES = {
+            // Cc
+            "aBpFpCa",
+            // Cf
+            "KnaFFceNiaDbaBIPleBkeDbeffNOIpaPjcBAMbaMALfhMCOIgaBoFp",
+            // Cn
+            "DHibfehabaBeaBIfiCgbhaChacdbaDhhBlefkfaBgbPaaDmbGfnDleCobpaBmbbEabalDgBlaHiahadaibcbBgahabcebjbc"
+            + "behbdcafbBgedagdcbBgahacacacbbafdcbdcbgeabgBakdajadaBgahacafbkadadbboebmodaibcbBgahacafbjbcbdhcd"
+            + "cafbBcjcagcdaeccabaccccdcmdfcdaebbfbnBffdaiadaBhakafciadaegcacfebkhibcaiadaBhakafbjadaegcgbaebka"
+            + "cocaiadaCjbiadafhbhebBachbcaBccBiajabbhcbdgabaiBbdlDkdBnCecabbcabbbfeahadababbcanadbfabagbkbeBpE"
+            + "iaCedChaCeapanCeMgabebbBHjaebhabaebCjaebCbaebhabaebpaDjaebEdbCacBkfFfkCJncFbonahkBhiBelnadaclFob"
+            + "kfkfpakfFihCleEgjBncmdmdbcCkbfkCmdBkflcDobEbaBnblfkfoFbEmdCncHehDmcpcDdDpihChiOhBeBBkbgbCgbgbiab"
+            + "ababaBpbDfapaobgaBdbdajaGfeibBlancBlBeCboIkfCGelChBilBeCKaaEEmckKfCpaCpaJeeCnabebbDigcnBiihahaha"
+            + "hahahahahaFmEdBkaFjlNgBjmdEaaFgbGheCjcFoaCleCelCpaNpaBKLgjFCAnDcEIncDhiBFmBdFigFjhIpaellEmDedkfD"
+            + "ihEfimfBmdFekBocEoaldcBpDhiobkbCadEdBhBmjgbgbgihahJaCobkfCLKelBhdDbdCCGobGkCfhlfeBkafabacacaHmBa"
+            + "BGnpEabDgChobBkfhiCdaBdaedfaIhbbaLocgbgbgbdchahjfbmaBkaBdacapboCbHleddCncFeemDdCoIbBncDbCoBpaelB"
+            + "lDeBoaCfdoCjJobkDFfgbbaCmaccbbBhajJpBmcBlebDpDifcDpeaceiadaBldddjhjgCaHpDgcBnbBleiHpEjCBgBpBIaEo"
+            + "dBopEcnBjgkfDfaoDlEjgkEKfDihkJDfDGpJaGdmeLIlECpDDNaCDjEMgEfkCppBbEAFpcBPPnPgjChbLfCbEgLjFhiBcInF"
+            + "faEhacbbbcbeamabahaEbaebiahaBmaeafabchaBFebBCebDcBFPpeaBlacabbbakaeababfbdbababadacabbbababababa"
+            + "cabbeahaeaeabakaBbedafaBbDdcBAnCmdGelpbobpapBpleBpaDmdClEkBnmClejgcKnCbogaEgcBelCfafBeBboDpabaLg"
+            + "aecDobelBiJcEgdlCpEgDjHeIIlKGNhCiBADfkNoDPObCBoLAFOcbBnGaHpPaPOApPPPobPPPob",
+            // Co
+            "OAAaBIPpOAHAaPPPncPPPn",
+            // Ll
+            "GbBjDkaCjBhbhbabababababababababababababababababababababababababababbbabababababababbbababababab"
+            + "abababababababababababababababababacababccabacadbeacadccacababacabbbacadabacbccgacacabababababab"
+            + "ababbbababababababababbcabadabababababababababababababababababababababababababababababgcacbbaeab"
+            + "abababEebBkMbabadadcBcaBlCcbbdcbabababababababababababebacacbDdCpbababababababababababababababab"
+            + "abajababababababababababababababababababababababababababacababababababbbabababababababababababab"
+            + "abababababababababababababababababababababababababababababababaDjCgBHHiClDpmbCbGgabababababababa"
+            + "babababababababababababababababababababababababababababababababababababababababababababababababa"
+            + "bababababababababababababababababababibababababababababababababababababababababababababababababa"
+            + "babababababababababababababababababababiifkhihifkhihinchihihiebbgadcbbidcbihkcbbBBcadbdaBlaeaeac"
+            + "bideaDfaKKlCocadbbababaeabbbffababababababababababababababababababababababababababababababababab"
+            + "ababababababababababababababababbhabaeamCfbafaHJBdababababababababababababababababababababababaB"
+            + "dabababababababababababaIlababababababcbabababababababababababababababababababababababababababab"
+            + "abababhbabacababababaeabacabanababababaFaaFDAfgmeECjBjEMnChMPMkBjBkgbBbBkBjBkdbabgbkBkBjBkBjBkBj"
+            + "BkBjBkBjBkBjBkBjBkBjBkBlBmBibfBkBibfBkBibfBkBibfBkBibfba",
+            // Lm
+            "CLaBbeloehabaIfafaBNoaOgaKebBAnbeaBpajadaBEiaENeaHpaCDfaGNkaGlaCGdaBNafKoDonaCcCeCLbanaBamLNpbPb"
+            + "aLpaBNfaClefaGbbFncGPBgaEOcfBAoaHcaJhiFaaBhaGpbBNfaKaaGmaBfbFEHlaCnbGPPdm",
+            // Lo
+            "KkapaBAaaedNaaDDlBkfcCnBpbjCdbbGcbaBibkccaBaabBnBnFilaBiCaBfBfCkBiEhabkFhDfdaBcahjBafbgfhcbcBfbg"
+            + "badddaBaanbbcobBdfebcBfbgbbbbbbBpdbaBdcBaibcbBfbgbbbedaBcapbCdhcbcBfbgbbbedaBobbcpaBbabfdcbddbba"
+            + "bbdbdcdlBgaDehbcbBgbjbedaBkbgbCdhbcbBgbjbedaCaabbpbBchbcbCicaBaaBbbBiffBbdBhbibacgDkCpbbmfDlbbac"
+            + "bbacagdbgbcbabacbbdbbjaceBhdCaaDphbCdBleHdCkBeaBafeddadbhcemmaEbCkcBElbdcgbabdcCibdcCabdcgbabdco"
+            + "bDibdcEcCfpBaFemCGlcBabBjfEkBfmbdoBboBbombcpDdCiaEdCcbDdiCibafEfkBmDdBncelClBfgDiBgjDeLaCoBbgDhB"
+            + "nnbkClBkCdCjckBnHbdbddbEDodLPhDhBiBgjgbgbgbgbgbgbgbgCChaDfaeFfiabFjeafCidFnBbBkDfpCAaBJLfEkFBMmD"
+            + "dBebEHgEdChiBAlepkbEcaDbEfBBfgbcbdbBgBnDdoDbDofdaoBlkBgBjBmhCoEnCiBhcbhBepbfdafCpbadbcecabaBibdk"
+            + "haofcfcfjgbgJbCcBnCLKdmBgeDaCBAeBGncGjEdabjbmbebabbbbbGlCbBGkBcDpcDfCilHeebIgGjjbCmcBodfcfcfccCd"
+            + "lbBjbBcbbbocnCcHkBIfBmdDaCpBoBbBabhDgBncCdehIaEnDGcfcabClbbdacBgKkBfkBjEgDhgbEaapdbcbBkCmBmIdDfk"
+            + "BfkBcInEiDLkDeElCmCaBiBkCdFmCpodELlCkJFfDGoMJbECoDDNbCDiEMhEelaEAKpbDNPodbBkbbbacabjbdbabagaeaba"
+            + "babcbbbacabababababbbacdbgbdbdbabjbBafcbebBaBBEeKGNgCjBADelNnDPOcCBn",
+            // Lt
+            "BMfacacaCgaBNJfhihihmapaCpa",
+            // Lu
+            "EbBjGfBgbgCbabababababababababababababababababababababababababababacabababababababacabababababab"
+            + "abababababababababababababababababbbabadbbabbbccdbbbcdbbbbababbbacabbbcbabbdahacacacabababababab"
+            + "abacababababababababacacabcbababababababababababababababababababababababababababababahbbbcabdbab"
+            + "ababaBCbabadapabcbabbbBabiCdaccdabababababababababababafacabbcDcDaababababababababababababababab"
+            + "abajabababababababababababababababababababababababababababbbabababababacabababababababababababab"
+            + "abababababababababababababababababababababababababababababababakCfLEjCfbafaNDcababababababababab"
+            + "abababababababababababababababababababababababababababababababababababababababababababababababab"
+            + "abababababababababababababababababajabababababababababababababababababababababababababababababab"
+            + "ababababababababababababababababababajhifkhihiflabababaihEidmdmdmeldBAgaeadccccadegabababdcdkbfa"
+            + "DnaKHmCoDbabccabababdbacaicbabababababababababababababababababababababababababababababababababab"
+            + "ababababababababababababababaiabaeaHJEnababababababababababababababababababababababaBdababababab"
+            + "ababababababaIlababababababadababababababababababababababababababababababababababababababakababb"
+            + "babababaeabacabanabababababaFHHgBjEMfChMPNiBjBkBjBkBjBkabbcacbcdbhBkBjBkbbdchbgBlbbdbebadgBlBjBk"
+            + "BjBkBjBkBjBkBjBkBjBoBiCbBiCbBiCbBiCbBiCba",
+            // Mc
+            "JAdaDhaccidbbDcbDkcgbcbkaClaDkcEcaDkciabbDfbDkabagbcbkaGgbbbdcbckaCjcDndDnbDkabecbbbjbClbDkcfcbc"
+            + "kaCkbElcghBcbBEkbDpaKlbeagacbBjbkccgBfbcfcakcHBjahhbbBFkdccebbfHhBahbEpcDjabajabbifJbaDaafabebbD"
+            + "naBoaebcabbDjaccbadbDahibKlaBabBDDkbHHPdbcaFibDcpIobCpaDabebbdGobcbBiaCnaGpacbfaOnbbbbbbaGEBdaba"
+            + "HpaCncebHdaFfaDacjbEOlabbgaFIJkCnGBOgbgf",
+            // Me
+            "EIibBMFddbcIFIlc",
+            // Mn
+            "DAaGpBBdeBAjCmbabbbbbaEikDaBeBaaGfgcfcbbdCdaBoBkFlkDkiCcdbibcbeClcIiBkbcDhabaeheadgkbBnaDkaediaB"
+            + "ebBnbDjaebebccdaBobdalbDjaeebbeaBebBnaDkacabdiaialbBoaDnamaHacfcbdhblbFiacagafbBebFndiaBebGgahcb"
+            + "aFkacgmhGcacfbblfEkbBlababaDhnbebbfkbCdjaGgdbfbbcbBjbecBadnacbgapaCLpcDLccBncBnbBobEabbgiackjaCn"
+            + "cJlaHgcebjagcNlbDnabgbabachgjcaIadDaabebafaCiimbCadcbbaDkabbdabcDkhcbJicbmbgeagaMlCgBfdCNameadlL"
+            + "PocInaGaBpCCkdGlbHFNeaejCbaFabBBaadaeaBjbJnaBlBbDehBjkCocDaacdcaGmfcbcbmaiaGdabccbfbbaCkbiaOoaca"
+            + "eaEPDaaCObpBagDNgaIAdcbbfdCiceaFMbaDgoDjbDbdcbEfcCeebhElbDeiEOmabacfbaFINhdGBNecBbhcgBodJecMCOLl"
+            + "Op",
+            // Nd
+            "DajGCgjIgjMgjBJmjHgjHgjHgjHgjHgjHgjHgjHgjOajHgjEgjBBgjEgjHEgjCgjBCmjIajKgjgjLgjFgjIgjgjIJMgjCKgj"
+            + "CgjMgjHgjBJgjFDBgjFIgjLLmjIajDmjJajEOgjMBAeDb",
+            // Nl
+            "BGOocKGpCccdOHoaBjiocHGKljFKFaDeBMmaiaIgeCACkGc",
+            // No
+            "LcbfaccJDffBHifHicIfgPbfBLejEDfBdEHdjBOaaGJfadfgjMgpCjaCNgDlEoBfCHgBnFGjaEJedIkjBohboCajChoHFHaf"
+            + "FINbCmEbdBbaBJfdFDehLgfBCehDfbNjhBihCOaBoBNdBdMCPkBbBNIok",
+            // Pc
+            "FpaBPNpbBdaNNNobBicOpa",
+            // Pd
+            "CnaFFmaDdaOEbaEAfaIAjfOAbacaBpbBOaaBdaGpaMNJabCfakaKja",
+            // Pe
+            "CjaDdaBpaOLnabaHFoaJKjaDhapaCJlaEDoababababababaFaaCaababababaBJeababababababababababaEaabaCbaEC"
+            + "fabababaBNpababababadabababacbMNBpaNiaBnabababababababadaBbababaKkaDdaBpacaca",
+            // Pf
+            "LlaBPFnadaBmaNMiabaeacapada",
+            // Pi
+            "KlaBPGmacbcaBjaNMiabaeacapada",
+            // Po
+            "CbcbccababbkbdbBlaEeafaobhaCLoaiaBNcfCjaDgacacaCmbBebbbnacbEkdGgaClnOjcDgoBpaBAfbkaBHpaDAdaFkakb"
+            + "KiobaHaaEkeebGpfKlaCGeiDAebHmcEhbJncbcCffbdBDjbNibIagbfKmgJldDleDobEahlaDEcbihiicdccdkbabjMJkdbb"
+            + "HaaIpbeccacibbbacbkebjBMhcDjaLnaHEAcbBAncGdakaHdfBHmdFgbCicDdbCpaGbmBabHmdHobBabPjaFCCegcaBgaBeb"
+            + "cddcbdhcgabbJfcbccababbkbdbBlaCeacbBJkcCJmaDaaEIgaMhaBpaBBaiCgaLjgFAhgGnbbdHodIbdBCKhd",
+            // Ps
+            "CiaDcaBpaOLoabaHFoaJHoadaCgaDhapaCJlaEDoababababababaFaaCaababababaBJeababababababababababaEaaba"
+            + "CbaECfabababaBNpababababadabababacaMNCaaNiaBnabababababababadaBbababaKkaDcaBpadaca",
+            // Sc
+            "CeaHndEOjaHlaDOgbhaPfaBAhaCEfaJJlaIMeBkIHHnaFFMdaGmaJkaNlbdb",
+            // Sk
+            "FoabaEhagaeadaCAjdmnfgbabBaHfaobBMDhabclcncncnbBAJmbHGGdBgjbGhbFEChpDHmabaKca",
+            // Sm
+            "ClaBacDnabaCnaeaCfaBpaCPoaCApcBKDlanaChcncIlaChegaEeefbeacacahaBpbcabaBpBAlidBebFkaBoBiCifBNfaja"
+            + "DghGpaBFaecBokpBAaIcBgDoeBpcBAbDaBecfMPNmaDDiabcKeaBacDnabaIdagdNGNeaBjaBpaBjaBpaBjaBpaBjaBpaBja"
+            + "BHCmb",
+            // So
+            "KgacaeabaDNbaBIlbMoakaBdbPhaCAdaBHfaIcfbaIeaPjaBIhcpabccfBeababaIfhbfbbfdMfbCPajFKgaJnCbBGbjjiFI"
+            + "dbbdbbkabbgfbababaealboabbbaEfecdbbbbbgbBocbbabBoBAmheBdcgcFabBnBjChgBbmCgBjkFbEnBgLgbibDfiGobIp"
+            + "bGgCmClEaPpCAaCpBfbjjBIlfBJfBjbFimNfBklianbmaBfbgbBFabejCaCdBmBolBniapBpkCgpDobPpBJMaDpFGJaDgDGb"
+            + "dkbbaCDncFDIdaBOgadaebnbBDjiDjBaglDeCmMOAdPfkCgcDlfcBgbhBneCpCcEbdaLkFgBMKjCleGdmocncoboDaBobDle"
+            + "CkElBmnCkfihbKoCapfbEfdBdmCebeBfBapDobabLfbddDncdmBhJdEfekDaEfDkHd",
+            // Zl
+            "CACia",
+            // Zp
+            "CACja",
+            // Zs
+            "CaaHpaBFNpaBInaHPbkCeaCpaPKaa",
+            // C
+            "aBpFpCanaCMkbfehabaBeaBIfiCgbhaChacdbaDhhBlefBaBgbLpaDabDlbGfnDleCobpaBmbbEabalDgBlaHiahadaibcbB"
+            + "gahabcebjbcbehbdcafbBgedagdcbBgahacacacbbafdcbdcbgeabgBakdajadaBgahacafbkadadbboebmodaibcbBgahac"
+            + "afbjbcbdhcdcafbBcjcagcdaeccabaccccdcmdfcdaebbfbnBffdaiadaBhakafciadaegcacfebkhibcaiadaBhakafbjad"
+            + "aegcgbaebkacocaiadaCjbiadafhbhebBachbcaBccBiajabbhcbdgabaiBbdlDkdBnCecabbcabbbfeahadababbcanadbf"
+            + "abagbkbeBpEiaCedChaCeapanCeMgabebbBHjaebhabaebCjaebCbaebhabaebpaDjaebEdbCacBkfFfkCJncFbonahkBhiB"
+            + "elnadaclFobkfkfpakfFihCleEgjBncmdmdbcCkbfkCmdBkflcDobEbaBnblfkfoFbEmdCncHehDmcpcDdDpihChiOhBeBBk"
+            + "bgbCgbgbiabababaBpbDfapaobgaBdbdajaleBkeDbpcbBlancBlBeCboIkfCGelChBilBeCKaaEEmckKfCpaCpaJeeCnabe"
+            + "bbDigcnBiihahahahahahahahaFmEdBkaFjlNgBjmdEaaFgbGheCjcFoaCleCelCpaNpaBKLgjFCAnDcEIncDhiBFmBdFigF"
+            + "jhIpaellEmDedkfDihEfimfBmdFekBocEoaldcBpDhiobkbCadEdBhBmjgbgbgihahJaCobkfCLKelBhdDbdIAaBIPpBGobG"
+            + "kCfhlfeBkafabacacaHmBaBGnpEabDgChobBkfhiCdaBdaedfaIhdLocgbgbgbdchahmcbmaBkaBdacapboCbHleddCncFee"
+            + "mDdCoIbBncDbCoBpaelBlDeBoaCfdoCjJobkDFfgbbaCmaccbbBhajJpBmcBlebDpDifcDpeaceiadaBldddjhjgCaHpDgcB"
+            + "nbBleiHpEjCBgBpBIaEodBopDnaenBjgkfDfaoDlEjgkEKfDihkJDfDGpJaGdmeLIlECpDDNaCDjEMgEfkCppBbEAFpcBPPn"
+            + "PgjChbEkhGdCbEgLjFhiBcInFfaEhacbbbcbeamabahaEbaebiahaBmaeafabchaBFebBCebDcBFPpeaBlacabbbakaeabab"
+            + "fbdbababadacabbbababababacabbeahaeaeabakaBbedafaBbDdcBAnCmdGelpbobpapBpleBpaDmdClEkBnmClejgcKnCb"
+            + "ogaEgcBelCfafBeBboDpabaLgaecDobelBiJcEgdlCpEgDjHeIIlKGNhCiBADfkNoDPObCBoLAGObPaCPOAp",
+            // L
+            "EbBjgBjCpakaeafBgbBobBMjeloehabaIbebbcdiabcbabBdbFcbIkiJnjCfcahCgEiBkfcCnCkCdbbGcbapbhbkccaBaabB"
+            + "nBnFilaBiCajbeafBfeajadaBhBiEhabkFhDfdaBcahjpgbgfhcbcBfbgbadddaBaanbbcobBdfebcBfbgbbbbbbBpdbaBdc"
+            + "BaibcbBfbgbbbedaBcapbCdhcbcBfbgbbbedaBobbcpaBbabfdcbddbbabbdbdcdlBgaDehbcbBgbjbedaBkbgbCdhbcbBgb"
+            + "jbedaCaabbpbBchbcbCicaBaaBbbBiffBbdBhbibacgDkCpbbmgDkbbacbbacagdbgbcbabacbbdbbjacebaBfdCaaDphbCd"
+            + "BleHdCkBeaBafeddadbhcemmaBbCfbafacCkbBEmbdcgbabdcCibdcCabdcgbabdcobDibdcEcCfpBaFemCGlcBabBjfEkBf"
+            + "mbdoBboBbombcpDdCdaeaEdFhiCibafEfkBmDdBncelClBfgDiBgjDeFcaFnCoBbgDhBnnbkClBkCdCjckCdGldbddbjLpEa"
+            + "BBfcfcCfcfchbabababBocDebgbadcbgddcfemfcbgHeanaBamGfaeacjbadegabababdbkcdfeeaDebKHlCobCobIegddbm"
+            + "CfbafacDhhaBaBgjgbgbgbgbgbgbgbgFaaBNfbCkefbeFfgcbFjbdfCidFnBbBkDfpCAaBJLfEkFBMmDdEImEdCncBAmdpkb"
+            + "BeCoBaBiiEfDbicGgcdbdmkEnjbcbdbBgBnDdoDbDofdaoBlkBgBjBmhCoBmaDaCiBhcbhBeBgdafCpbadbcecabaBicckhc"
+            + "mfcfcfjgbgJbCcBnCLKdmBgeDaCBAeBGncGjCggmefabjbmbebabbbbbGlCbBGkBcDpcDfCilHeebIgCeBjgBjlFidfcfcfc"
+            + "cCdlbBjbBcbbbocnCcHkBIfBmdDaCpBoBbBabhDgBncCdehDaJnDGcfcabClbbdacBgKkBfkBjEgDhgbEaapdbcbBkCmBmId"
+            + "DfkBfkBcInEiDLkDeElCmCaBiBkCdFmCpodELlCkJFfDGoMJbECoDDNbCDiEMhEelaEcmEAGabCDPoFebEgbbcacbcdblbab"
+            + "gbEabdchbgbBlbdbebadgbBFdcBibBibBobBibBobBibBobBibBobBibhBGDedbBkbbbacabjbdbabagaeabababcbbbacab"
+            + "ababababbbacdbgbdbdbabjbBafcbebBaBBEeKGNgCjBADelNnDPOcCBn",
+            // M
+            "DAaGpBBdgBAhCmbabbbbbaEikDaBeBaaGfgcfcbbdCdaBoBkFlkDkiCcdbibcbeClcIiBkbdDgcbBbbgkbBncDiabgcbccja"
+            + "kbBncDiabeebccdaBobdalcDiabhbcbcBebBncDiabgcbccibkbBoaDledcbdjaCjcDkgbcbdhblbBobDiabgbcbdhblbBob"
+            + "DkgbcbdjakbBobEgaefbabhBcbDnacgmhGcacfbblfEkbBlababaebDbBdbbfkbCdjaGeBdBhdecbccgddnlbakdCLpcDLcc"
+            + "BncBnbBobEaBpjaCncJlaHglelHeBahbEneDjjbBmcaIaeCpBaCgimcBomDinDaBdJicbBeeaecMlCgBfdCNaCaLPocInaGa"
+            + "BpCCkfGjbHFNedbjCbaFabBBaadaeaBheFibDcBaBlBbDehBjmCmdCpnGinmaibCnaDeabccbfbbaCjefbOmhbbEPDaaCObp"
+            + "BagDNgaIAdcbbfdCiceaFMacDfoDjcCnkEfcCenElcDanEOkmFIJjCnBadGBNcedfihcgBodJecMCOLlOp",
+            // N
+            "DajHibfaccFKbjIgjMgjBJmjHgjefGmjHgjHgjcfGomHdjigGhjHgpNkjHgjEgBdBAmjEgjCMpBdDHbcOpjgjBgjBCmjIakK"
+            + "fjgjLgjFgjIgjgjEBgadfgjMgDcceCNgDlEoBfCHgBnFGjaDAjaBjiocBFhdIkjBohboCajChoHDGajLmjBEafJkjCgjMgjH"
+            + "gjBJgjFDBgjBOnCmmDiBbaBJfdBnaiaIgeMkjDKohLgfBCehDfbNjhBihCOaBoBNdBnIajDmjJajEOgjNDgGcKOPnBbEFmDb"
+            + "BJAak",
+            // P
+            "CbcbfbdkbdbBkcbaBlabaCdafadakbdadaCLoaiaBNcfCjbDdabacacaCmbBebbbnacbEkdGgaClnOjcDgoBpaBAfbkaBHpa"
+            + "DAdaFkakbKiobaCfdEhaEkeebGpfKlaCGeiJhaCGmbCmbEocEhbJncbcCfkBDjbNibIagbfKmgJldDleDobEahlaDDmBhiBd"
+            + "bmblBobobCJkbEDnnEpbBpjBJdBfDpdCabCPldbbHaaIpCoblBMfcejclBaamaGcaFkaHEAcbBAncGdakaHdfBHmdFgbCicD"
+            + "dbCpaGbmBabHmdHobBabPjaFBFcbNajBgCcbnbaeabbJfcbfbdkbdbBkcbaBlababgBJkcCJmaDaaEIgaMhaBpaBBaiCgaLj"
+            + "gFAhgGnbbdHodIbdBCKhd",
+            // S
+            "CeagaBacBpabaBlabaCdebbcabdcadaBoaBpaBMkdmnfgbabBaHfaobHaaIlaBAmaHgccacbMoakaBdbPhaBPlbgbPfaHoaI"
+            + "chIeaPjaMfaMbcpabccfBeababaIfhbfbbfdMfbCPajEEbaBGeaJnCbBGbjjiEEaabclcncncnbEfanaChcncBdBkEfbbdbb"
+            + "kabcffbababaealbeefdbaEaBJicMimCgBjkFbEnBgBPpbGgCmDacBokBJcBgDoeBpcBEodjBIlfBJfBjbFimNfBklianbma"
+            + "BfbgbFlbPdbejCaCdBmBolBniapBpkCgpDobPpBJMaDpFGJaDgCDjBgjbGhbJndkdCDncFAKpaIipCDkbGeabccaJkagaBac"
+            + "BpabaBlabaIbgbgnbBDjiDjBaglDeCmMOAdPfkCgcDlfcBgbhBneCpCcEbdaLkFgDGkaBjaBpaBjaBpaBjaBpaBjaBpaBjaB"
+            + "HCmbBAoCleGdmocncoboDaBobDleCkElBmnCkfihbKoCapfbEfdBdmCebeBfBapDobabLfbddDncdmBhJdEfekDaEfDkHd",
+            // Z
+            "CaaHpaBFNpaBInaHPbkBnbfaCpaPKaa"
+    };
+
+    // This class is never instantiated
+    private CategoryData() {}
+
+    /**
+     * Get the characters in a category
+     * @param name a one-character or two-character category name, for example L or Lu
+     * @return the set of characters in the category, or null if the category is unknown
+     */
+
+    static IntRangeSet getRanges(String name) {
+        for (int i = 0; i < NAMES.length; i++) {
+            if (NAMES[i].equals(name)) {
+                return decode(RANGES[i]);
+            }
+        }
+        return null;
+    }
+
+    private static IntRangeSet decode(String data) {
+        int n = 0;
+        for (int i = 0; i < data.length(); i++) {
+            if (data.charAt(i) >= 'a') {
+                n++;
+            }
+        }
+        int[] startPoints = new int[n / 2];
+        int[] endPoints = new int[n / 2];
+        int value = 0;
+        int range = 0;
+        boolean start = true;
+        int previous = -1;
+        for (int i = 0; i < data.length(); i++) {
+            char c = data.charAt(i);
+            if (c < 'a') {
+                value = (value << 4) | (c - 'A');
+            } else {
+                value = (value << 4) | (c - 'a');
+                if (start) {
+                    previous += value + 1;
+                    startPoints[range] = previous;
+                } else {
+                    previous += value;
+                    endPoints[range++] = previous;
+                }
+                start = !start;
+                value = 0;
+            }
+        }
+        return new IntRangeSet(startPoints, endPoints);
+    }
+
+}
+
+// This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+// If a copy of the MPL was not distributed with this file, You can obtain one at http://mozilla.org/MPL/2.0/.
+// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
@@ -28,7 +28,7 @@ public final class GeneralUnicodeString implements UnicodeString {
     public static boolean containsSurrogatePairs(CharSequence value) {
         for (int i = 0; i < value.length(); i++) {
             int c = (int) value.charAt(i);
-            if (c >= 55296 && c < 56319) {
+            if (c >= 55296 && c <= 56319) {
                 return true;
             }
         }
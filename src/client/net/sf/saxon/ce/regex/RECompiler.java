@@ -6,6 +6,7 @@ import client.net.sf.saxon.ce.value.Whitespace;
 import com.google.gwt.logging.client.LogConfiguration;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -1469,6 +1470,7 @@ public class RECompiler {
             ops[i] = op;
         }
         REProgram program = new REProgram(ops, parens, reFlags);
+        computePrefilter(program);
 
         if (reFlags.isDebug()) {
             program.display(System.err);
@@ -1480,6 +1482,198 @@ public class RECompiler {
         return program;
     }
 
+    /**
+     * Analyze the compiled program to find conditions that every match must satisfy: the minimum
+     * number of characters consumed, the set of characters that can start a match, and a literal
+     * substring that must be present. The matcher uses these to skip start positions where the
+     * program cannot succeed, without running it.
+     * @param program the compiled program, whose "next" pointers are absolute offsets
+     */
+
+    private void computePrefilter(REProgram program) {
+        Operation[] ops = program.instructions;
+        int n = ops.length;
+        int[][] successors = new int[n][];
+        int end = -1;
+        for (int i = 0; i < n; i++) {
+            successors[i] = getSuccessors(ops, i);
+            if (ops[i] instanceof Operation.OpEndProgram) {
+                end = i;
+            }
+        }
+        if (end == -1) {
+            return;
+        }
+
+        // Minimum length: shortest path to the end node, where each instruction is weighted
+        // by the number of characters it consumes
+
+        final int infinity = Integer.MAX_VALUE;
+        int[] minLength = new int[n];
+        Arrays.fill(minLength, infinity);
+        minLength[end] = 0;
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int i = n - 1; i >= 0; i--) {
+                int min = infinity;
+                for (int s : successors[i]) {
+                    min = Math.min(min, minLength[s]);
+                }
+                if (min != infinity) {
+                    min += getConsumedLength(ops[i]);
+                    if (min < minLength[i]) {
+                        minLength[i] = min;
+                        changed = true;
+                    }
+                }
+            }
+        }
+        int minimum = (minLength[0] == infinity ? 0 : minLength[0]);
+
+        // Initial characters: the instructions that can consume the first character of a match
+
+        boolean caseBlind = reFlags.isCaseIndependent();
+        IntPredicate initial = null;
+        boolean nullable = false;
+        boolean[] visited = new boolean[n];
+        List<Integer> stack = new ArrayList<Integer>();
+        stack.add(0);
+        while (!stack.isEmpty()) {
+            int i = stack.remove(stack.size() - 1);
+            if (visited[i]) {
+                continue;
+            }
+            visited[i] = true;
+            Operation op = ops[i];
+            IntPredicate first;
+            if (op instanceof Operation.OpAtom) {
+                int ch = ((Operation.OpAtom)op).atom.charAt(0);
+                if (caseBlind) {
+                    IntHashSet set = new IntHashSet(10);
+                    set.add(ch);
+                    for (int v : CaseVariants.getCaseVariants(ch)) {
+                        set.add(v);
+                    }
+                    first = new IntSetPredicate(set);
+                } else {
+                    first = new IntValuePredicate(ch);
+                }
+            } else if (op instanceof Operation.OpCharClass) {
+                first = ((Operation.OpCharClass)op).predicate;
+            } else if (op instanceof Operation.OpEndProgram || op instanceof Operation.OpBackReference) {
+                // the regex can match without consuming any characters
+                nullable = true;
+                break;
+            } else {
+                for (int s : successors[i]) {
+                    stack.add(s);
+                }
+                continue;
+            }
+            initial = (initial == null ? first : new IntUnionPredicate(initial, first));
+        }
+        if (nullable) {
+            initial = null;
+        }
+
+        // Required literal: the longest atom that lies on every path from the start to the end
+
+        UnicodeString literal = null;
+        if (!caseBlind) {
+            for (int i = 0; i < n; i++) {
+                if (ops[i] instanceof Operation.OpAtom) {
+                    UnicodeString atom = ((Operation.OpAtom)ops[i]).atom;
+                    if ((literal == null || atom.length() > literal.length()) && !canReach(successors, 0, end, i)) {
+                        literal = atom;
+                    }
+                }
+            }
+        }
+
+        program.setPrefilter(minimum, initial, literal);
+    }
+
+    /**
+     * Get the instructions that may be executed after a given instruction
+     * @param ops the program
+     * @param i the index of the instruction
+     * @return the indexes of the instructions that may follow it
+     */
+
+    private static int[] getSuccessors(Operation[] ops, int i) {
+        Operation op = ops[i];
+        int next = op.next;
+        if (op instanceof Operation.OpEndProgram) {
+            return new int[0];
+        } else if (op instanceof Operation.OpBranch) {
+            if (next != -1 && ops[next] instanceof Operation.OpBranch) {
+                return new int[]{i + 1, next};
+            } else {
+                return new int[]{i + 1};
+            }
+        } else if (op instanceof Operation.OpStar || op instanceof Operation.OpConfidentStar ||
+                op instanceof Operation.OpMaybe || op instanceof Operation.OpReluctantStar ||
+                op instanceof Operation.OpReluctantMaybe) {
+            return new int[]{i + 1, next};
+        } else if (op instanceof Operation.OpPlus || op instanceof Operation.OpReluctantPlus) {
+            return new int[]{next, ops[next].next};
+        } else if (op instanceof Operation.OpContinue) {
+            return new int[]{i + 1};
+        } else if (next == -1) {
+            return new int[0];
+        } else {
+            return new int[]{next};
+        }
+    }
+
+    /**
+     * Get the number of characters consumed by an instruction, not counting any subexpression
+     * @param op the instruction
+     * @return the number of characters consumed
+     */
+
+    private static int getConsumedLength(Operation op) {
+        if (op instanceof Operation.OpAtom) {
+            return ((Operation.OpAtom)op).atom.length();
+        } else if (op instanceof Operation.OpCharClass) {
+            return 1;
+        } else {
+            return 0;
+        }
+    }
+
+    /**
+     * Determine whether one instruction can be reached from another without passing through
+     * a third
+     * @param successors the successors of each instruction
+     * @param from the starting instruction
+     * @param to the target instruction
+     * @param avoid the instruction to be avoided
+     * @return true if there is a path from <code>from</code> to <code>to</code> that does not
+     * include <code>avoid</code>
+     */
+
+    private static boolean canReach(int[][] successors, int from, int to, int avoid) {
+        boolean[] visited = new boolean[successors.length];
+        visited[avoid] = true;
+        List<Integer> stack = new ArrayList<Integer>();
+        stack.add(from);
+        while (!stack.isEmpty()) {
+            int i = stack.remove(stack.size() - 1);
+            if (i == to) {
+                return true;
+            }
+            if (!visited[i]) {
+                visited[i] = true;
+                for (int s : successors[i]) {
+                    stack.add(s);
+                }
+            }
+        }
+        return false;
+    }
+
     /**
      * Process a "regular expression" with the q flag set. This is simply handled as an atom, where
      * no characters are treated as special (i.e. all are treated as if escaped)
@@ -0,0 +1,262 @@
+package client.net.sf.saxon.ce.regex;
+
+/**
+ * A matcher that runs a compiled regular expression program without backtracking. All the
+ * threads of control that the backtracking {@link REMatcher} would explore one after another
+ * are advanced together, one input character at a time (the technique described by Thompson
+ * and Pike). No thread is duplicated, so the time taken is proportional to the length of the
+ * input multiplied by the size of the program, whatever the pattern. Threads are kept in
+ * priority order, so that the leftmost match found, and its length, are the same as those found
+ * by the backtracking matcher.
+ *
+ * <p>This matcher only determines the extent of the match as a whole; it does not record the
+ * positions of captured groups. It is not used for programs in which the order of backtracking
+ * affects the result in ways that it does not reproduce: programs containing back-references,
+ * reluctant quantifiers, loops whose body can match a zero-length string, or a quantifier that
+ * the backtracking matcher runs without backtracking because it is followed by an anchor
+ * (see {@link REProgram#OPT_NONLINEAR}).</p>
+ */
+
+class RELinearMatcher {
+
+    private Operation[] instructions;
+    private boolean caseBlind;
+    private boolean multiLine;
+    private REMatcher matcher;
+
+    // Each instruction has one state, except that an atom has one state per character
+    private int[] stateBase;        // First state number for each instruction
+    private int[] stateNode;        // Instruction for each state
+    private int[] stateOffset;      // Position within the atom for each state
+
+    // Lists of threads: the state of each thread, and the position where its match started
+    private int[] currentStates;
+    private int[] currentStarts;
+    private int currentSize;
+    private int[] nextStates;
+    private int[] nextStarts;
+    private int nextSize;
+
+    // Generation in which each state was last added to a list, to prevent duplicates
+    private int[] marks;
+    private int generation = 0;
+
+    private UnicodeString search;
+    private int position;
+
+    /**
+     * Create a linear matcher for a program
+     * @param matcher the backtracking matcher on whose behalf this matcher operates; it supplies
+     * the program and receives the result of the match
+     */
+
+    RELinearMatcher(REMatcher matcher) {
+        this.matcher = matcher;
+        REProgram program = matcher.program;
+        instructions = program.instructions;
+        caseBlind = program.flags.isCaseIndependent();
+        multiLine = program.flags.isMultiLine();
+        int n = instructions.length;
+        stateBase = new int[n];
+        int states = 0;
+        for (int i = 0; i < n; i++) {
+            stateBase[i] = states;
+            if (instructions[i] instanceof Operation.OpAtom) {
+                states += ((Operation.OpAtom)instructions[i]).atom.length();
+            } else {
+                states++;
+            }
+        }
+        stateNode = new int[states];
+        stateOffset = new int[states];
+        for (int i = 0; i < n; i++) {
+            int next = (i + 1 < n ? stateBase[i + 1] : states);
+            for (int s = stateBase[i]; s < next; s++) {
+                stateNode[s] = i;
+                stateOffset[s] = s - stateBase[i];
+            }
+        }
+        currentStates = new int[states];
+        currentStarts = new int[states];
+        nextStates = new int[states];
+        nextStarts = new int[states];
+        marks = new int[states];
+    }
+
+    /**
+     * Find the first match of the program in a string, starting at or after a given position.
+     * If a match is found, its start and end are recorded as group 0 in the REMatcher.
+     * @param search the string to be searched
+     * @param from the position at which to start searching
+     * @param anchored true if the match must start at <code>from</code> and extend to the end of the string
+     * @return true if a match was found
+     */
+
+    boolean match(UnicodeString search, int from, boolean anchored) {
+        this.search = search;
+        REProgram program = matcher.program;
+        boolean filtered = program.initialCharacters != null;
+        int matchStart = -1;
+        int matchEnd = -1;
+        currentSize = 0;
+        generation++;
+        for (int pos = from; ; pos++) {
+            position = pos;
+            boolean atEnd = search.isEnd(pos);
+            // Start a new thread at this position, with lower priority than all the existing ones,
+            // unless a match has already been found
+            if (matchStart == -1 && (pos == from || !anchored) &&
+                    !(filtered && (atEnd || !program.isPossibleStart(search.charAt(pos))))) {
+                addThread(true, 0, pos);
+            }
+            if (currentSize == 0) {
+                if (matchStart != -1 || atEnd || anchored) {
+                    break;
+                }
+                generation++;
+                continue;
+            }
+            int ch = (atEnd ? -1 : search.charAt(pos));
+            nextSize = 0;
+            generation++;
+            position = pos + 1;
+            for (int t = 0; t < currentSize; t++) {
+                int state = currentStates[t];
+                int start = currentStarts[t];
+                Operation op = instructions[stateNode[state]];
+                if (op instanceof Operation.OpEndProgram) {
+                    if (!anchored || atEnd) {
+                        // A match: threads of lower priority are abandoned
+                        matchStart = start;
+                        matchEnd = pos;
+                        break;
+                    }
+                } else if (!atEnd) {
+                    if (op instanceof Operation.OpAtom) {
+                        UnicodeString atom = ((Operation.OpAtom)op).atom;
+                        int k = stateOffset[state];
+                        int expected = atom.charAt(k);
+                        if (ch == expected || (caseBlind && matcher.equalCaseBlind(ch, expected))) {
+                            if (k + 1 < atom.length()) {
+                                addState(false, state + 1, start);
+                            } else {
+                                addThread(false, op.next, start);
+                            }
+                        }
+                    } else if (((Operation.OpCharClass)op).predicate.matches(ch)) {
+                        addThread(false, op.next, start);
+                    }
+                }
+            }
+            int[] swap = currentStates;
+            currentStates = nextStates;
+            nextStates = swap;
+            swap = currentStarts;
+            currentStarts = nextStarts;
+            nextStarts = swap;
+            currentSize = nextSize;
+            if (atEnd) {
+                break;
+            }
+        }
+        this.search = null;
+        if (matchStart == -1) {
+            return false;
+        }
+        matcher.setMatch(search, matchStart, matchEnd);
+        return true;
+    }
+
+    /**
+     * Add a state to a thread list, unless it is already present
+     * @param current true to add to the current list, false to add to the next list
+     * @param state the state
+     * @param start the position where the thread's match started
+     */
+
+    private void addState(boolean current, int state, int start) {
+        if (marks[state] == generation) {
+            return;
+        }
+        marks[state] = generation;
+        if (current) {
+            currentStates[currentSize] = state;
+            currentStarts[currentSize++] = start;
+        } else {
+            nextStates[nextSize] = state;
+            nextStarts[nextSize++] = start;
+        }
+    }
+
+    /**
+     * Add a thread to a list, following all the instructions that consume no input, in the
+     * order in which the backtracking matcher would try them
+     * @param current true to add to the current list, false to add to the next list
+     * @param node the instruction at which the thread starts
+     * @param start the position where the thread's match started
+     */
+
+    private void addThread(boolean current, int node, int start) {
+        if (node == -1) {
+            return;
+        }
+        int state = stateBase[node];
+        if (marks[state] == generation) {
+            return;
+        }
+        Operation op = instructions[node];
+        if (op instanceof Operation.OpAtom || op instanceof Operation.OpCharClass ||
+                op instanceof Operation.OpEndProgram) {
+            addState(current, state, start);
+            return;
+        }
+        marks[state] = generation;
+        int next = op.next;
+        if (op instanceof Operation.OpBranch) {
+            addThread(current, node + 1, start);
+            if (next != -1 && instructions[next] instanceof Operation.OpBranch) {
+                addThread(current, next, start);
+            }
+        } else if (op instanceof Operation.OpStar || op instanceof Operation.OpConfidentStar ||
+                op instanceof Operation.OpMaybe) {
+            addThread(current, node + 1, start);
+            addThread(current, next, start);
+        } else if (op instanceof Operation.OpReluctantStar || op instanceof Operation.OpReluctantMaybe) {
+            addThread(current, next, start);
+            addThread(current, node + 1, start);
+        } else if (op instanceof Operation.OpPlus) {
+            addThread(current, next, start);
+            addThread(current, instructions[next].next, start);
+        } else if (op instanceof Operation.OpReluctantPlus) {
+            addThread(current, instructions[next].next, start);
+            addThread(current, next, start);
+        } else if (op instanceof Operation.OpConfidentPlus) {
+            addThread(current, node - 1, start);
+            addThread(current, next, start);
+        } else if (op instanceof Operation.OpContinue) {
+            addThread(current, node + 1, start);
+        } else if (op instanceof Operation.OpBOL) {
+            if (position == 0 || (multiLine && isNewline(position - 1))) {
+                addThread(current, next, start);
+            }
+        } else if (op instanceof Operation.OpEOL) {
+            boolean newline = !search.isEnd(position) && isNewline(position);
+            if (search.isEnd(0) || search.isEnd(position) ||
+                    (newline && (multiLine || search.isEnd(position + 1)))) {
+                addThread(current, next, start);
+            }
+        } else {
+            // groups, clusters, and other instructions that have no effect on the extent of the match
+            addThread(current, next, start);
+        }
+    }
+
+    private boolean isNewline(int i) {
+        return search.charAt(i) == '\n';
+    }
+
+}
+
+// This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+// If a copy of the MPL was not distributed with this file, You can obtain one at http://mozilla.org/MPL/2.0/.
+// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
@@ -175,6 +175,15 @@ public class REMatcher  {
     Operation[] instructions;
     boolean anchoredMatch;
 
+    // Set to false if the caller needs only the extent of the match, and not captured groups
+    boolean groupsRequired = true;
+    RELinearMatcher linearMatcher;      // Used instead of backtracking when groups are not required
+
+    // Result of the last search for the program's required literal
+    UnicodeString literalSearch;        // The string that was searched
+    int literalFrom;                    // The position at which the search started
+    int literalPos;                     // The position where the literal was found, or -1
+
 
     /**
      * Construct a matcher for a pre-compiled regular expression from program
@@ -223,6 +232,49 @@ public class REMatcher  {
         return parenCount;
     }
 
+    /**
+     * Say whether the caller needs the positions of captured groups after a match. If not, and
+     * the program contains no back-references or other constructs that depend on the order of
+     * backtracking (such as reluctant quantifiers), matching is done without backtracking, which
+     * guarantees that the time taken is linear in the length of the input. Only group 0
+     * (the whole match) is then available.
+     *
+     * @param required true if captured groups are needed (the default)
+     */
+    public void setGroupsRequired(boolean required) {
+        this.groupsRequired = required;
+    }
+
+    /**
+     * Decide whether to use the linear matcher rather than the backtracking matcher
+     *
+     * @return true if the linear matcher should be used
+     */
+    private boolean useLinearMatcher() {
+        if (groupsRequired ||
+                (program.optimizationFlags & (REProgram.OPT_HASBACKREFS | REProgram.OPT_NONLINEAR)) != 0) {
+            return false;
+        }
+        if (linearMatcher == null) {
+            linearMatcher = new RELinearMatcher(this);
+        }
+        return true;
+    }
+
+    /**
+     * Record the result of a match found by the linear matcher
+     *
+     * @param search the string that was searched
+     * @param start the start of the match
+     * @param end the end of the match
+     */
+    void setMatch(UnicodeString search, int start, int end) {
+        this.search = search;
+        startn = new int[]{start, -1, -1};
+        endn = new int[]{end, -1, -1};
+        parenCount = 1;
+    }
+
     /**
      * Gets the contents of a parenthesized subexpression after a successful match.
      *
@@ -477,9 +529,37 @@ public class REMatcher  {
 
     public boolean anchoredMatch(UnicodeString search) {
         this.search = search;
+        if (!canMatchAfter(0)) {
+            return false;
+        }
+        if (useLinearMatcher()) {
+            return linearMatcher.match(search, 0, true);
+        }
         return matchAt(0, true);
     }
 
+    /**
+     * Use the prefilter information in the program to decide whether a match starting at or after
+     * a given position is possible at all
+     * @param i the first possible starting position of the match
+     * @return false if the remaining input is too short, or lacks the program's required literal
+     */
+
+    private boolean canMatchAfter(int i) {
+        if (search.isEnd(i + program.minimumLength - 1)) {
+            return false;
+        }
+        if (program.requiredLiteral != null) {
+            if (search != literalSearch || i < literalFrom || (literalPos != -1 && literalPos < i)) {
+                literalSearch = search;
+                literalFrom = i;
+                literalPos = program.indexOfRequiredLiteral(search, i);
+            }
+            return literalPos != -1;
+        }
+        return true;
+    }
+
     /**
      * Matches the current regular expression program against a character array,
      * starting at a given index.
@@ -500,6 +580,15 @@ public class REMatcher  {
         // Save string to search
         this.search = search;
 
+        // Give up now if the prefilter shows that no match is possible
+        if (!canMatchAfter(i)) {
+            return false;
+        }
+        if (useLinearMatcher()) {
+            return linearMatcher.match(search, i, false);
+        }
+        int minLength = program.minimumLength;
+
         // Can we optimize the search by looking for new lines?
         if ((program.optimizationFlags & REProgram.OPT_HASBOL) == REProgram.OPT_HASBOL) {
             // Non multi-line matching with BOL: Must match at '0' index
@@ -532,8 +621,13 @@ public class REMatcher  {
 
         // Can we optimize the search by looking for a prefix string?
         if (program.prefix == null) {
-            // Unprefixed matching must try for a match at each character
-            for (; !search.isEnd(i - 1); i++) {
+            // Unprefixed matching must try for a match at each character, except those
+            // where the prefilter shows that the match cannot start
+            boolean filtered = program.initialCharacters != null;
+            for (; !search.isEnd(i + minLength - 1); i++) {
+                if (filtered && (search.isEnd(i) || !program.isPossibleStart(search.charAt(i)))) {
+                    continue;
+                }
                 // Try a match at index i
                 if (matchAt(i, false)) {
                     return true;
@@ -543,7 +637,7 @@ public class REMatcher  {
         } else {
             // Prefix-anchored matching is possible
             UnicodeString prefix = program.prefix;
-            for (; !search.isEnd(i + prefix.length() - 1); i++) {
+            for (; !search.isEnd(i + Math.max(prefix.length(), minLength) - 1); i++) {
                 int j = i;
                 int k = 0;
 
@@ -3,6 +3,7 @@ package client.net.sf.saxon.ce.regex;
 import client.net.sf.saxon.ce.expr.z.*;
 
 import java.io.PrintStream;
+import java.util.Arrays;
 
 /**
  * A class that holds compiled regular expressions.
@@ -17,6 +18,7 @@ public class REProgram
 {
     static final int OPT_HASBACKREFS = 1;
     static final int OPT_HASBOL      = 2;
+    static final int OPT_NONLINEAR   = 4;   // Has quantifiers whose result depends on the order of backtracking
 
     Operation[] instructions;
     REFlags flags;
@@ -25,6 +27,14 @@ public class REProgram
     int maxParens = -1;
     boolean nullable = false;
 
+    // Prefilter information, computed by the RECompiler: used to avoid running the
+    // program at positions in the input where it cannot possibly match
+    int minimumLength = 0;              // Minimum number of characters consumed by any match
+    IntPredicate initialCharacters;     // Possible first characters of a match, or null if unknown
+    boolean[] initialAscii;             // Value of initialCharacters for ASCII characters
+    UnicodeString requiredLiteral;      // A string that must appear in every match, or null
+    int[] literalShift;                 // Boyer-Moore-Horspool shift table for requiredLiteral
+
     /**
      * Constructs a program object from a character array
      * @param parens Count of parens in the program
@@ -81,11 +91,13 @@ public class REProgram
                 }
             }
 
-            // Check for backreferences
+            // Check for backreferences and reluctant quantifiers
             for (Operation op : instructions) {
                 if (op instanceof Operation.OpBackReference) {
                     optimizationFlags |= OPT_HASBACKREFS;
-                    break;
+                } else if (op instanceof Operation.OpReluctantStar || op instanceof Operation.OpReluctantPlus ||
+                        op instanceof Operation.OpReluctantMaybe) {
+                    optimizationFlags |= OPT_NONLINEAR;
                 }
             }
 
@@ -102,6 +114,9 @@ public class REProgram
                         //System.err.println("Optimizing *");
                         instructions[i] = new Operation.OpConfidentStar();
                         instructions[i].next = op.next;
+                        if (isAnchor(instructions[op.next])) {
+                            optimizationFlags |= OPT_NONLINEAR;
+                        }
                     }
                 } else if (op instanceof Operation.OpPlus &&
                         op.next == i-2 &&
@@ -111,9 +126,23 @@ public class REProgram
                         //System.err.println("Optimizing +");
                         instructions[i] = new Operation.OpConfidentPlus();
                         instructions[i].next = i+1;
+                        if (isAnchor(instructions[i+1])) {
+                            optimizationFlags |= OPT_NONLINEAR;
+                        }
                     }
                 }
             }
+
+            // Check for loops whose body can match a zero-length string: the backtracking matcher
+            // gives up an iteration that consumes nothing, which the linear matcher cannot reproduce
+            for (int i=0; i<instructions.length; i++) {
+                Operation op = instructions[i];
+                if ((op instanceof Operation.OpStar && canReachWithoutInput(i+1, i)) ||
+                        (op instanceof Operation.OpPlus && canReachWithoutInput(op.next + 1, i))) {
+                    optimizationFlags |= OPT_NONLINEAR;
+                    break;
+                }
+            }
         }
     }
 
@@ -136,6 +165,80 @@ public class REProgram
     }
 
 
+    /**
+     * Set the prefilter information for this program
+     * @param minimumLength the minimum number of characters that any match will consume
+     * @param initialCharacters a predicate that is true for every character that can start a match,
+     * or null if this is unknown (or if the regex can match a zero-length string)
+     * @param requiredLiteral a string that must appear (case-sensitively) within every match, or null
+     */
+
+    void setPrefilter(int minimumLength, IntPredicate initialCharacters, UnicodeString requiredLiteral) {
+        this.minimumLength = minimumLength;
+        this.initialCharacters = initialCharacters;
+        if (initialCharacters != null) {
+            initialAscii = new boolean[128];
+            for (int c = 0; c < 128; c++) {
+                initialAscii[c] = initialCharacters.matches(c);
+            }
+        }
+        this.requiredLiteral = requiredLiteral;
+        if (requiredLiteral != null) {
+            int m = requiredLiteral.length();
+            literalShift = new int[256];
+            Arrays.fill(literalShift, m);
+            for (int k = 0; k < m - 1; k++) {
+                literalShift[requiredLiteral.charAt(k) & 0xff] = m - 1 - k;
+            }
+        }
+    }
+
+    /**
+     * Ask whether a match can start with a given character
+     * @param ch the character
+     * @return false if it is known that no match can start with this character
+     */
+
+    boolean isPossibleStart(int ch) {
+        if (initialCharacters == null) {
+            return true;
+        } else if (ch < 128) {
+            return initialAscii[ch];
+        } else {
+            return initialCharacters.matches(ch);
+        }
+    }
+
+    /**
+     * Find the first occurrence of the required literal in a string, using the Boyer-Moore-Horspool
+     * algorithm. The shift table is indexed by the low-order eight bits of each character.
+     * @param s the string to be searched
+     * @param from the position at which to start searching
+     * @return the position of the first occurrence at or after <code>from</code>, or -1 if there is none
+     */
+
+    int indexOfRequiredLiteral(UnicodeString s, int from) {
+        UnicodeString lit = requiredLiteral;
+        int m = lit.length();
+        int last = lit.charAt(m - 1);
+        int n = s.length();
+        int i = from;
+        while (i + m <= n) {
+            int c = s.charAt(i + m - 1);
+            if (c == last) {
+                int j = 0;
+                while (j < m - 1 && s.charAt(i + j) == lit.charAt(j)) {
+                    j++;
+                }
+                if (j == m - 1) {
+                    return i;
+                }
+            }
+            i += literalShift[c & 0xff];
+        }
+        return -1;
+    }
+
     /**
      * Returns a copy of the prefix of current regular expression program
      * in a character array.  If there is no prefix, or there is no program
@@ -206,6 +309,69 @@ public class REProgram
         return isDisjoint(set0, set1);
     }
 
+    /**
+     * Ask whether one instruction can be reached from another without consuming any input, following
+     * the same paths as the linear matcher. Anchors are assumed to succeed.
+     * @param from the instruction at which to start
+     * @param target the instruction to be reached
+     * @return true if there is a path from <code>from</code> to <code>target</code> that consumes no input
+     */
+
+    private boolean canReachWithoutInput(int from, int target) {
+        return canReachWithoutInput(from, target, new boolean[instructions.length]);
+    }
+
+    private boolean canReachWithoutInput(int node, int target, boolean[] visited) {
+        if (node == target) {
+            return true;
+        }
+        if (node < 0 || visited[node]) {
+            return false;
+        }
+        visited[node] = true;
+        Operation op = instructions[node];
+        int next = op.next;
+        if (op instanceof Operation.OpAtom || op instanceof Operation.OpCharClass ||
+                op instanceof Operation.OpEndProgram) {
+            return false;
+        } else if (op instanceof Operation.OpBranch) {
+            return canReachWithoutInput(node + 1, target, visited) ||
+                    (next != -1 && instructions[next] instanceof Operation.OpBranch &&
+                            canReachWithoutInput(next, target, visited));
+        } else if (op instanceof Operation.OpStar || op instanceof Operation.OpConfidentStar ||
+                op instanceof Operation.OpMaybe || op instanceof Operation.OpReluctantStar ||
+                op instanceof Operation.OpReluctantMaybe) {
+            return canReachWithoutInput(node + 1, target, visited) ||
+                    canReachWithoutInput(next, target, visited);
+        } else if (op instanceof Operation.OpPlus || op instanceof Operation.OpReluctantPlus) {
+            return canReachWithoutInput(next, target, visited) ||
+                    canReachWithoutInput(instructions[next].next, target, visited);
+        } else if (op instanceof Operation.OpConfidentPlus) {
+            return canReachWithoutInput(next, target, visited);
+        } else if (op instanceof Operation.OpContinue) {
+            return canReachWithoutInput(node + 1, target, visited);
+        } else {
+            // anchors, groups, back-references, and other instructions that may consume nothing
+            return canReachWithoutInput(next, target, visited);
+        }
+    }
+
+    /**
+     * Ask whether the instruction that follows a quantifier is a start or end anchor. A quantifier
+     * followed by an anchor is treated by {@link #noAmbiguity} as never needing to backtrack, so the
+     * backtracking matcher takes the longest run even where a shorter one would let the anchor match;
+     * the linear matcher would find the shorter one.
+     * @param op the instruction following the quantifier
+     * @return true if the instruction, ignoring the end of a group, is a BOL or EOL
+     */
+
+    private boolean isAnchor(Operation op) {
+        if (op instanceof Operation.OpClose || op instanceof Operation.OpCloseCluster) {
+            op = instructions[op.next];
+        }
+        return op instanceof Operation.OpBOL || op instanceof Operation.OpEOL;
+    }
+
     private IntSet getInitialChars(Operation.OpAtom op, boolean caseBlind) {
         IntSet set;
         int ch = op.atom.charAt(0);
@@ -0,0 +1,100 @@
+package client.net.sf.saxon.ce.regex;
+
+import client.net.sf.saxon.ce.trans.XPathException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A bounded cache of compiled regular expressions, used when the pattern or flags supplied to
+ * matches(), replace(), tokenize() or xsl:analyze-string are not known until run-time. Entries
+ * are discarded on a least-recently-used basis. Patterns that fail to compile are not cached.
+ * <p>
+ * Each Configuration has its own cache, obtained using {@link client.net.sf.saxon.ce.Configuration#getRegexCache()}.
+ * Access to the cache is synchronized, since on a Java VM a Configuration may be used by more than one thread.
+ */
+
+public class RegexCache {
+
+    private static final int MAX_ENTRIES = 50;
+
+    /**
+     * A cached regular expression, together with any warnings produced when it was compiled
+     */
+
+    private static class Entry {
+        final ARegularExpression regex;
+        final List<String> warnings;  // null if there were no warnings
+
+        Entry(ARegularExpression regex, List<String> warnings) {
+            this.regex = regex;
+            this.warnings = warnings;
+        }
+    }
+
+    private LinkedHashMap<String, Entry> cache =
+            new LinkedHashMap<String, Entry>(MAX_ENTRIES, 0.75f, true) {
+                protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                    return size() > MAX_ENTRIES;
+                }
+            };
+
+    private int hits = 0;
+    private int misses = 0;
+
+    /**
+     * Get a compiled regular expression, compiling it only if it is not already in the cache
+     * @param pattern the regular expression as written
+     * @param flags the flags as written
+     * @param hostLanguage the host language, for example "XP20"
+     * @param warnings a list to which any warnings produced by compiling the regular expression are
+     * added, whether or not it was found in the cache; or null if warnings are not required
+     * @return the compiled regular expression
+     * @throws XPathException if the pattern or flags are invalid
+     */
+
+    public synchronized ARegularExpression getRegularExpression(
+            CharSequence pattern, String flags, String hostLanguage, List<String> warnings)
+            throws XPathException {
+        String key = hostLanguage + '\u0000' + flags + '\u0000' + pattern;
+        Entry entry = cache.get(key);
+        if (entry == null) {
+            misses++;
+            List<String> compileWarnings = new ArrayList<String>(4);
+            ARegularExpression re = new ARegularExpression(pattern, flags, hostLanguage, compileWarnings);
+            entry = new Entry(re, compileWarnings.isEmpty() ? null : compileWarnings);
+            cache.put(key, entry);
+        } else {
+            hits++;
+        }
+        if (warnings != null && entry.warnings != null) {
+            warnings.addAll(entry.warnings);
+        }
+        return entry.regex;
+    }
+
+    /**
+     * Get the number of requests that were satisfied from the cache
+     * @return the number of cache hits
+     */
+
+    public synchronized int getHits() {
+        return hits;
+    }
+
+    /**
+     * Get the number of requests that required a regular expression to be compiled
+     * @return the number of cache misses
+     */
+
+    public synchronized int getMisses() {
+        return misses;
+    }
+
+}
+
+// This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+// If a copy of the MPL was not distributed with this file, You can obtain one at http://mozilla.org/MPL/2.0/.
+// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
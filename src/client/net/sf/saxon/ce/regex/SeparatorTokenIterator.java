@@ -0,0 +1,128 @@
+package client.net.sf.saxon.ce.regex;
+
+import client.net.sf.saxon.ce.expr.z.IntPredicate;
+import client.net.sf.saxon.ce.om.Item;
+import client.net.sf.saxon.ce.om.SequenceIterator;
+import client.net.sf.saxon.ce.value.StringValue;
+
+/**
+ * An iterator over the strings that result from tokenizing a string using a regular expression
+ * whose matches are simple enough to be found by scanning the string, without running the regex
+ * engine. This is used in place of an {@link ATokenIterator} when the regular expression matches
+ * either a fixed string, such as "," or ", ", or one character from a class, such as "\s" or "[,;]",
+ * or a run of one or more characters from a class, such as "\s+". The tokens delivered are the
+ * same as those that the general regex engine would deliver.
+ */
+
+public class SeparatorTokenIterator implements SequenceIterator {
+
+    private UnicodeString input;
+    private UnicodeString literal;      // the separator, if it is a fixed string; otherwise null
+    private IntPredicate separatorClass;    // the class of separator characters, if literal is null
+    private boolean repeated;           // true if a run of characters from the class forms one separator
+    /*@Nullable*/ private UnicodeString current;
+    private int prevEnd = 0;
+    private int matchEnd;
+
+    /**
+     * Construct an iterator that splits a string at each occurrence of a fixed string
+     * @param input the string to be tokenized
+     * @param literal the separator. Must not be zero-length.
+     */
+
+    public SeparatorTokenIterator(UnicodeString input, UnicodeString literal) {
+        this.input = input;
+        this.literal = literal;
+    }
+
+    /**
+     * Construct an iterator that splits a string at each character, or each run of characters,
+     * belonging to a given class
+     * @param input the string to be tokenized
+     * @param separatorClass the class of separator characters
+     * @param repeated true if a run of adjacent separator characters forms a single separator
+     */
+
+    public SeparatorTokenIterator(UnicodeString input, IntPredicate separatorClass, boolean repeated) {
+        this.input = input;
+        this.separatorClass = separatorClass;
+        this.repeated = repeated;
+    }
+
+    public Item next() {
+        if (prevEnd < 0) {
+            current = null;
+            return null;
+        }
+        int start = find(prevEnd);
+        if (start >= 0) {
+            current = input.substring(prevEnd, start);
+            prevEnd = matchEnd;
+        } else {
+            current = input.substring(prevEnd, input.length());
+            prevEnd = -1;
+        }
+        return StringValue.makeStringValue(current);
+    }
+
+    /**
+     * Find the next separator
+     * @param from the position at which to start searching
+     * @return the position of the start of the next separator, or -1 if there is none. If a separator
+     * is found, the position of the first character after it is set in <code>matchEnd</code>.
+     */
+
+    private int find(int from) {
+        int len = input.length();
+        if (literal != null) {
+            int first = literal.charAt(0);
+            int litLen = literal.length();
+            for (int i = input.indexOf(first, from); i >= 0 && i + litLen <= len; i = input.indexOf(first, i + 1)) {
+                int j = 1;
+                while (j < litLen && input.charAt(i + j) == literal.charAt(j)) {
+                    j++;
+                }
+                if (j == litLen) {
+                    matchEnd = i + litLen;
+                    return i;
+                }
+            }
+            return -1;
+        } else {
+            for (int i = from; i < len; i++) {
+                if (separatorClass.matches(input.charAt(i))) {
+                    int end = i + 1;
+                    if (repeated) {
+                        while (end < len && separatorClass.matches(input.charAt(end))) {
+                            end++;
+                        }
+                    }
+                    matchEnd = end;
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    public Item current() {
+        return (current==null ? null : StringValue.makeStringValue(current));
+    }
+
+    public void close() {
+    }
+
+    /*@NotNull*/
+    public SeparatorTokenIterator getAnother() {
+        if (literal != null) {
+            return new SeparatorTokenIterator(input, literal);
+        } else {
+            return new SeparatorTokenIterator(input, separatorClass, repeated);
+        }
+    }
+
+}
+
+// This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+// If a copy of the MPL was not distributed with this file, You can obtain one at http://mozilla.org/MPL/2.0/.
+// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
@@ -15,6 +15,8 @@ import client.net.sf.saxon.ce.trans.StripSpaceRules;
 import client.net.sf.saxon.ce.trans.XPathException;
 
 import java.util.*;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * Represents the stylesheet module at the root of the import tree, that is, the module
@@ -23,6 +25,8 @@ import java.util.*;
  */
 public class PrincipalStylesheetModule extends StylesheetModule {
 
+    private static Logger logger = Logger.getLogger("PrincipalStylesheetModule");
+
     private Executable preparedStylesheet;
 
     // library of functions that are in-scope for XPath expressions in this stylesheet
@@ -573,6 +577,23 @@ public class PrincipalStylesheetModule extends StylesheetModule {
                 }
             }
 
+            // Evaluate at compile time any global variables whose value cannot vary between transformations
+
+            int globals = 0;
+            int preEvaluated = 0;
+            for (int i = 0; i < topLevel.size(); i++) {
+                StyleElement node = topLevel.get(i).getSourceElement();
+                if (node instanceof XSLVariable && ((XSLVariable)node).isGlobal()) {
+                    globals++;
+                    if (((XSLVariable)node).preEvaluate()) {
+                        preEvaluated++;
+                    }
+                }
+            }
+            if (globals > 0) {
+                logger.log(Level.FINE, "Global variables evaluated at compile time: " + preEvaluated + " of " + globals);
+            }
+
             // Fix up references to the default default decimal format
 
             if (pss.getDecimalFormatManager() != null) {
@@ -1,16 +1,26 @@
 package client.net.sf.saxon.ce.style;
+import client.net.sf.saxon.ce.expr.EarlyEvaluationContext;
 import client.net.sf.saxon.ce.expr.Expression;
+import client.net.sf.saxon.ce.expr.ExpressionTool;
 import client.net.sf.saxon.ce.expr.Literal;
+import client.net.sf.saxon.ce.expr.RangeExpression;
+import client.net.sf.saxon.ce.expr.RangeIterator;
 import client.net.sf.saxon.ce.expr.StaticProperty;
 import client.net.sf.saxon.ce.expr.instruct.Executable;
 import client.net.sf.saxon.ce.expr.instruct.GeneralVariable;
 import client.net.sf.saxon.ce.expr.instruct.GlobalVariable;
 import client.net.sf.saxon.ce.expr.instruct.LocalVariable;
+import client.net.sf.saxon.ce.om.Item;
+import client.net.sf.saxon.ce.om.SequenceIterator;
 import client.net.sf.saxon.ce.pattern.NodeKindTest;
 import client.net.sf.saxon.ce.trans.XPathException;
 import client.net.sf.saxon.ce.type.TypeHierarchy;
+import client.net.sf.saxon.ce.value.SequenceExtent;
 import client.net.sf.saxon.ce.value.SequenceType;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
 * Handler for xsl:variable elements in stylesheet. <br>
 * The xsl:variable element has mandatory attribute name and optional attribute select
@@ -23,6 +33,10 @@ public class XSLVariable extends XSLVariableDeclaration {
             // 1 = during prepareAttributes()
             // 2 = after prepareAttributes()
 
+    // The largest number of items in the value of a global variable that is evaluated at compile
+    // time: a larger value is left to be computed when it is first used
+    private static final int MAX_PRE_EVALUATED_ITEMS = 100;
+
     public void prepareAttributes() throws XPathException {
         if (state==2) return;
         if (state==1) {
@@ -112,6 +126,55 @@ public class XSLVariable extends XSLVariableDeclaration {
         return null;
     }
 
+    /**
+     * Evaluate a global variable at compile time, if its value cannot vary from one transformation
+     * to another. This is called after all templates and functions have been optimized; if it succeeds,
+     * the select expression of the compiled variable is replaced by a literal holding its value.
+     * Only small values are held in this way: the variable is left until run-time if its value has
+     * more than MAX_PRE_EVALUATED_ITEMS items, or if it is an integer range such as 1 to 1000000,
+     * which is cheap to compute but may be large.
+     * @return true if the variable was evaluated; false if it must be left until run-time
+     */
+
+    public boolean preEvaluate() {
+        if (!global || redundant || compiledVariable == null) {
+            return false;
+        }
+        GlobalVariable gvar = (GlobalVariable)compiledVariable;
+        Expression exp = gvar.getSelectExpression();
+        if (exp == null || exp instanceof Literal || exp instanceof RangeExpression ||
+                !ExpressionTool.isPreEvaluable(exp)) {
+            return false;
+        }
+        try {
+            EarlyEvaluationContext early = new EarlyEvaluationContext(getConfiguration());
+            SequenceIterator iter = gvar.getSelectValue(early.newContext()).iterate();
+            if (iter instanceof RangeIterator) {
+                return false;
+            }
+            List<Item> items = new ArrayList<Item>();
+            while (true) {
+                Item item = iter.next();
+                if (item == null) {
+                    break;
+                }
+                if (items.size() == MAX_PRE_EVALUATED_ITEMS) {
+                    return false;
+                }
+                items.add(item);
+            }
+            Literal lit = Literal.makeLiteral(SequenceExtent.makeSequenceExtent(items));
+            ExpressionTool.copyLocationInfo(exp, lit);
+            select = lit;
+            gvar.setSelectExpression(lit);
+            return true;
+        } catch (XPathException err) {
+            // if early evaluation fails, suppress the error: the value might
+            // not be needed at run-time
+            return false;
+        }
+    }
+
     public Expression compileLocalVariable(Executable exec, Declaration decl) throws XPathException {
 
         if (references.isEmpty()) {
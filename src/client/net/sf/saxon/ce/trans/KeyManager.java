@@ -326,29 +326,24 @@ public class KeyManager {
                     }
                 } else {
                     // otherwise, we need to insert the node at the correct
-                    // position in document order. This code does an insertion sort:
-                    // not ideal for performance, but it's very unusual to have more than
-                    // one key definition for a key.
+                    // position in document order. The position is found by a binary
+                    // search; comparing two nodes is cheap when the tree has allocated
+                    // pre-order numbers to them.
                     LocalOrderComparer comparer = LocalOrderComparer.getInstance();
-                    boolean found = false;
-                    for (int i=0; i<nodes.size(); i++) {
-                        int d = comparer.compare(curr, nodes.get(i));
-                        if (d<=0) {
-                            if (d==0) {
-                                // node already in list; do nothing
-                            } else {
-                                // add the node at this position
-                                nodes.add(i, curr);
-                            }
-                            found = true;
-                            break;
+                    int low = 0;
+                    int high = nodes.size();
+                    while (low < high) {
+                        int mid = (low + high) >>> 1;
+                        if (comparer.compare(curr, nodes.get(mid)) > 0) {
+                            low = mid + 1;
+                        } else {
+                            high = mid;
                         }
-                        // else continue round the loop
                     }
-                    // if we're still here, add the new node at the end
-                    if (!found) {
-                        nodes.add(curr);
+                    if (low == nodes.size() || comparer.compare(curr, nodes.get(low)) != 0) {
+                        nodes.add(low, curr);
                     }
+                    // else the node is already in the list; do nothing
                 }
             }
         }
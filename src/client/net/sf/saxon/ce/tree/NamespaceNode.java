@@ -345,6 +345,16 @@ public class NamespaceNode extends AbstractNode implements NodeInfo {
         return element.getDocumentNumber();
     }
 
+    /**
+     * Get the number of this node in a pre-order traversal of its document. Namespace nodes
+     * are not numbered: they are ordered relative to their parent element.
+     * @return -1
+     */
+
+    public int getPreorderNumber() {
+        return -1;
+    }
+
     /**
      * Copy this node to a given outputter
      *
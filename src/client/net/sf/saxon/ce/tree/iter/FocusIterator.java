@@ -1,11 +1,16 @@
 package client.net.sf.saxon.ce.tree.iter;
 
 import client.net.sf.saxon.ce.expr.LastPositionFinder;
+import client.net.sf.saxon.ce.expr.sort.GroupIterator;
 import client.net.sf.saxon.ce.functions.Count;
 import client.net.sf.saxon.ce.om.Item;
 import client.net.sf.saxon.ce.om.SequenceIterator;
+import client.net.sf.saxon.ce.regex.ARegexIterator;
 import client.net.sf.saxon.ce.trans.XPathException;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * An iterator that maintains the values of position() and current(), as a wrapper
  * over an iterator which does not maintain these values itself.
@@ -13,12 +18,14 @@ import client.net.sf.saxon.ce.trans.XPathException;
 public class FocusIterator implements SequenceIterator {
 
     private SequenceIterator base;
+    private SequenceIterator original;
     private Item curr;
     private int pos = 0;
     private int last = -1;
 
     public FocusIterator(SequenceIterator base) {
         this.base = base;
+        this.original = base;
     }
 
     /**
@@ -27,7 +34,7 @@ public class FocusIterator implements SequenceIterator {
      */
 
     public SequenceIterator getUnderlyingIterator() {
-        return base;
+        return original;
     }
 
     /**
@@ -91,7 +98,11 @@ public class FocusIterator implements SequenceIterator {
     }
 
     /**
-     * Get the position of the last item in the sequence
+     * Get the position of the last item in the sequence. If the underlying iterator cannot supply
+     * this information directly, the remaining items are read into memory and subsequently delivered
+     * from there, so that the sequence is never evaluated a second time. The exception is an iterator over
+     * groups or regex matches: the context reads the current group or the current match from that iterator
+     * itself, so it must not be advanced, and the items are counted using a second iterator instead.
      * @return the position of the last item
      * @throws XPathException if a failure occurs reading the sequence
      */
@@ -102,7 +113,20 @@ public class FocusIterator implements SequenceIterator {
                 last = ((LastPositionFinder)base).getLastPosition();
             }
             if (last == -1) {
-                last = Count.count(base.getAnother());
+                if (pos < 0 || base instanceof GroupIterator || base instanceof ARegexIterator) {
+                    last = Count.count(original.getAnother());
+                } else {
+                    List<Item> rest = new ArrayList<Item>();
+                    while (true) {
+                        Item item = base.next();
+                        if (item == null) {
+                            break;
+                        }
+                        rest.add(item);
+                    }
+                    last = pos + rest.size();
+                    base = new ListIterator(rest);
+                }
             }
         }
         return last;
@@ -125,7 +149,7 @@ public class FocusIterator implements SequenceIterator {
      * @since 8.4
      */
     public SequenceIterator getAnother() throws XPathException {
-        return new FocusIterator((base.getAnother()));
+        return new FocusIterator((original.getAnother()));
     }
 }
 
@@ -87,6 +87,17 @@ final class AttributeImpl extends NodeImpl {
         // note the 0x8000 is to leave room for namespace nodes
     }
 
+    /**
+     * Get the number of this node in a pre-order traversal of its document. The tree builder
+     * reserves the numbers immediately after the parent element's number for its attributes.
+     * @return the pre-order number of the attribute, or -1 if the parent element has no sequence number
+     */
+
+    public int getPreorderNumber() {
+        int parentSeq = getRawParent().getRawSequenceNumber();
+        return (parentSeq < 0 ? -1 : parentSeq + 1 + getSiblingPosition());
+    }
+
     /**
     * Return the type of node.
     * @return Node.ATTRIBUTE
@@ -65,7 +65,7 @@ public class LinkedTreeBuilder extends Builder
     }
 
     /**
-     * Set whether the builder should allocate sequence numbers to elements as they are added to the
+     * Set whether the builder should allocate sequence numbers to nodes as they are added to the
      * tree. This is normally done, because it provides a quick way of comparing document order. But
      * nodes added using XQuery update are not sequence-numbered.
      * @param allocate true if sequence numbers are to be allocated
@@ -208,6 +208,10 @@ public class LinkedTreeBuilder extends Builder
                 attributes, nslist, namespacesUsed,
                 pipe,
                 getSystemId(), (allocateSequenceNumbers ? nextNodeNumber++ : -1));
+        if (allocateSequenceNumbers) {
+            // the following numbers are reserved for the attributes of the element
+            nextNodeNumber += attributes.getLength();
+        }
 
         namespacesUsed = 0;
         attributes = null;
@@ -267,6 +271,7 @@ public class LinkedTreeBuilder extends Builder
                 ((TextImpl)prev).appendStringValue(chars.toString());
             } else {
 			    TextImpl n = new TextImpl(chars.toString());
+                allocateSequenceNumber(n);
                 currentNode.addChild(n, size[depth]++);
             }
         }
@@ -281,6 +286,7 @@ public class LinkedTreeBuilder extends Builder
             throw new IllegalStateException("missing call on startContent()");
         }
         ProcInstImpl pi = new ProcInstImpl(name, remainder.toString());
+        allocateSequenceNumber(pi);
         currentNode.addChild(pi, size[depth]++);
     }
 
@@ -293,9 +299,16 @@ public class LinkedTreeBuilder extends Builder
             throw new IllegalStateException("missing call on startContent()");
         }
         CommentImpl comment = new CommentImpl(chars.toString());
+        allocateSequenceNumber(comment);
         currentNode.addChild(comment, size[depth]++);
     }
 
+    private void allocateSequenceNumber(NodeImpl node) {
+        if (allocateSequenceNumbers) {
+            node.setRawSequenceNumber(nextNodeNumber++);
+        }
+    }
+
     /**
      * Get the current document or element node
      * @return the most recently started document or element node (to which children are currently being added)
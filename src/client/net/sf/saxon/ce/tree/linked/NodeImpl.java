@@ -27,6 +27,8 @@ public abstract class NodeImpl extends AbstractNode implements NodeInfo {
 
     private ParentNodeImpl parent;
     private int index;
+    private int sequence = -1;          // sequence number allocated during original tree creation.
+                                        // -1 for nodes built without sequence numbers
     /**
      * Chararacteristic letters to identify each type of node, indexed using the node type
      * values. These are used as the initial letter of the result of generate-id()
@@ -44,6 +46,24 @@ public abstract class NodeImpl extends AbstractNode implements NodeInfo {
         return getPhysicalRoot().getDocumentNumber();
     }
 
+    /**
+     * Get the number of this node in a pre-order traversal of its document. This is the
+     * sequence number allocated when the tree was built.
+     * @return the pre-order number of the node, or -1 if the tree was built without sequence numbers
+     */
+
+    public int getPreorderNumber() {
+        return sequence;
+    }
+
+    protected final int getRawSequenceNumber() {
+        return sequence;
+    }
+
+    protected final void setRawSequenceNumber(int seq) {
+        sequence = seq;
+    }
+
 
     /**
      * Get the index position of this node among its siblings (starting from 0)
@@ -127,9 +147,15 @@ public abstract class NodeImpl extends AbstractNode implements NodeInfo {
      */
 
     public void generateId(FastStringBuffer buffer) {
-        parent.generateId(buffer);
-        buffer.append(NODE_LETTER[getNodeKind()]);
-        buffer.append(Integer.toString(index));
+        if (sequence >= 0) {
+            getPhysicalRoot().generateId(buffer);
+            buffer.append(NODE_LETTER[getNodeKind()]);
+            buffer.append(Integer.toString(sequence));
+        } else {
+            parent.generateId(buffer);
+            buffer.append(NODE_LETTER[getNodeKind()]);
+            buffer.append(Integer.toString(index));
+        }
     }
 
     /**
@@ -153,12 +179,16 @@ public abstract class NodeImpl extends AbstractNode implements NodeInfo {
      * consecutive. In the current implementation, parent nodes (elements and roots) have a zero
      * least-significant word, while namespaces, attributes, text nodes, comments, and PIs have
      * the top word the same as their owner and the bottom half reflecting their relative position.
-     * This is the default implementation for child nodes.
+     * This is the default implementation for child nodes. A child node that was allocated its own
+     * sequence number when the tree was built is ordered by that number alone.
      * For nodes added by XQuery Update, the sequence number is -1L
      * @return the sequence number if there is one as an array containing two integers
      */
 
     protected int[] getSequenceNumber() {
+        if (sequence >= 0) {
+            return new int[]{sequence, 0};
+        }
         NodeImpl prev = this;
         for (int i = 0; ; i++) {
             if (prev instanceof ParentNodeImpl) {
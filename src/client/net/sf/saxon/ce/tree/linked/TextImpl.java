@@ -1,6 +1,7 @@
 package client.net.sf.saxon.ce.tree.linked;
 import client.net.sf.saxon.ce.event.Receiver;
 import client.net.sf.saxon.ce.trans.XPathException;
+import client.net.sf.saxon.ce.tree.util.Rope;
 import client.net.sf.saxon.ce.type.Type;
 
 /**
@@ -10,7 +11,7 @@ import client.net.sf.saxon.ce.type.Type;
 
 final class TextImpl extends NodeImpl {
 
-    private String content;
+    private CharSequence content;    // a String, or a Rope if text has been appended
 
     public TextImpl(String content) {
     	this.content = content;
@@ -22,7 +23,7 @@ final class TextImpl extends NodeImpl {
      */
 
     public void appendStringValue(String content) {
-        this.content = this.content + content;
+        this.content = Rope.concat(this.content, content);
     }
 
     /**
@@ -31,7 +32,10 @@ final class TextImpl extends NodeImpl {
     */
 
     public String getStringValue() {
-		return content;
+        if (!(content instanceof String)) {
+            content = content.toString();
+        }
+		return (String)content;
     }
 
     /**
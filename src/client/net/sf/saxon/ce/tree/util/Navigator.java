@@ -255,8 +255,25 @@ public final class Navigator {
 
         // we've found the ancestor to count from
 
+        return getSiblingNumber(target, count, null, 0, context);
+    }
+
+    /**
+     * Get one plus the number of preceding siblings of a node that match a pattern
+     * @param node the node, which is known to match the pattern
+     * @param count the pattern
+     * @param known a preceding sibling of the node whose number is already known, or null.
+     * The count of preceding siblings stops when this node is reached.
+     * @param knownNumber the number of the node <code>known</code>
+     * @param context the dynamic context, used when matching the pattern
+     * @return the sibling number of the node
+     * @throws XPathException if an error occurs matching the pattern
+     */
+
+    private static int getSiblingNumber(NodeInfo node, Pattern count, NodeInfo known, int knownNumber,
+                                        XPathContext context) throws XPathException {
         SequenceIterator preceding =
-                target.iterateAxis(Axis.PRECEDING_SIBLING, count.getNodeTest());
+                node.iterateAxis(Axis.PRECEDING_SIBLING, count.getNodeTest());
         // pass the filter condition down to the axis enumeration where possible
         boolean alreadyChecked = (count instanceof NodeTestPattern);
         int i = 1;
@@ -266,6 +283,9 @@ public final class Navigator {
                 return i;
             }
             if (alreadyChecked || count.matches(p, context)) {
+                if (known != null && p.isSameNodeInfo(known)) {
+                    return i + knownNumber;
+                }
                 i++;
             }
         }
@@ -289,7 +309,7 @@ public final class Navigator {
      * @param context                The dynamic context for the transformation
      * @param hasVariablesInPatterns if the count or from patterns
      *                               contain variables, then it's not safe to get the answer by adding
-     *                               one to the number of the most recent node that matches
+     *                               to the number of a node that was numbered earlier
      * @return one plus the number of nodes that precede the current node,
      *         that match the count pattern, and that follow the first node that
      *         matches the from pattern if specified.
@@ -300,15 +320,17 @@ public final class Navigator {
     public static int getNumberAny(Expression inst, NodeInfo node, Pattern count,
                                    Pattern from, XPathContext context, boolean hasVariablesInPatterns) throws XPathException {
 
+        // The number of the node most recently numbered by this instruction is remembered. When nodes are
+        // numbered in document order, the search backwards from the next node stops when that node is reached,
+        // so numbering all the nodes in a document takes linear rather than quadratic time
         NodeInfo memoNode = null;
         int memoNumber = 0;
-        Controller controller = context.getController();
-        boolean memoise = (!hasVariablesInPatterns) && from==null;
-        if (memoise) {
-            Object[] memo = (Object[])controller.getUserData(inst, "xsl:number");
-            if (memo != null) {
-                memoNode = (NodeInfo)memo[0];
-                memoNumber = (Integer) memo[1];
+        NumberMemo memo = null;
+        if (!hasVariablesInPatterns && inst != null) {
+            memo = context.getController().getNumberMemo(inst);
+            if (memo.size() != 0) {
+                memoNode = memo.getNode(0);
+                memoNumber = memo.getNumber(0);
             }
         }
 
@@ -337,39 +359,39 @@ public final class Navigator {
             filter = AnyNodeTest.getInstance();
         }
 
-        if (from != null && from.matches(node, context)) {
-            return num;
-        }
-
-        UnfailingIterator preceding = new PrecedingEnumeration(node, true);
-        if (filter != AnyNodeTest.getInstance()) {
-            preceding = newAxisFilter(preceding, filter);
-        }
+        boolean counted = (num == 1);
 
-        while (true) {
-            NodeInfo prev = (NodeInfo)preceding.next();
-            if (prev == null) {
-                break;
+        if (from == null || !from.matches(node, context)) {
+            UnfailingIterator preceding = new PrecedingEnumeration(node, true);
+            if (filter != AnyNodeTest.getInstance()) {
+                preceding = newAxisFilter(preceding, filter);
             }
 
-            if (count.matches(prev, context)) {
-                if (num == 1 && memoNode != null && prev.isSameNodeInfo(memoNode)) {
-                    num = memoNumber + 1;
+            while (true) {
+                NodeInfo prev = (NodeInfo)preceding.next();
+                if (prev == null) {
                     break;
                 }
-                num++;
-            }
 
-            if (from != null && from.matches(prev, context)) {
-                break;
+                if (count.matches(prev, context)) {
+                    if (memoNode != null && prev.isSameNodeInfo(memoNode)) {
+                        // the remembered number already accounts for this node and everything before it
+                        num += memoNumber;
+                        break;
+                    }
+                    num++;
+                }
+
+                if (from != null && from.matches(prev, context)) {
+                    break;
+                }
             }
         }
 
-        if (memoise) {
-            Object[] memo = new Object[2];
-            memo[0] = node;
-            memo[1] = num;
-            controller.setUserData(inst, "xsl:number", memo);
+        if (memo != null && counted) {
+            // only a node that matches the count pattern can be recognized during a later search
+            memo.clear();
+            memo.add(node, num);
         }
         return num;
     }
@@ -396,9 +418,49 @@ public final class Navigator {
 
     public static List<Integer> getNumberMulti(NodeInfo node, Pattern count,
                                       Pattern from, XPathContext context) throws XPathException {
+        return getNumberMulti(null, node, count, from, context, true);
+    }
+
+    /**
+     * Get node number (level="multiple"), remembering the sibling numbers allocated so that
+     * a later call for the same instruction can reuse them.
+     *
+     * @param inst                   Identifies the xsl:number instruction, whose previous results are
+     *                               remembered. May be null, in which case nothing is remembered.
+     * @param node                   The node to be numbered
+     * @param count                  Pattern that identifies which nodes (ancestors and
+     *                               their previous siblings) should be counted. Default (null) is the
+     *                               element name if the current node is an element, or "node()"
+     *                               otherwise.
+     * @param from                   Pattern that specifies where counting starts from.
+     *                               Default (null) is the root node. Only nodes below the first (most
+     *                               recent) node that matches the 'from' pattern are counted.
+     * @param context                The dynamic context for the transformation
+     * @param hasVariablesInPatterns if the count or from patterns contain variables, then it's not
+     *                               safe to reuse the numbers of nodes that were numbered earlier
+     * @return a list containing for each ancestor-or-self that matches the
+     *         count pattern and that is below the nearest node that matches the
+     *         from pattern, an Integer which is one greater than the number of
+     *         previous siblings that match the count pattern.
+     * @throws XPathException if an error occurs matching the pattern
+     */
+
+    public static List<Integer> getNumberMulti(Expression inst, NodeInfo node, Pattern count,
+                                      Pattern from, XPathContext context,
+                                      boolean hasVariablesInPatterns) throws XPathException {
 
         ArrayList<Integer> v = new ArrayList<Integer>(5);
 
+        // The sibling numbers of the counted ancestors of the last node numbered are remembered. When
+        // nodes are numbered in document order, each count of preceding siblings stops at a remembered
+        // sibling, so numbering all the nodes takes linear rather than quadratic time
+        NumberMemo memo = null;
+        NumberMemo newMemo = null;
+        if (!hasVariablesInPatterns && inst != null) {
+            memo = context.getController().getNumberMemo(inst);
+            newMemo = new NumberMemo();
+        }
+
         if (count == null) {
             if (node.getNodeName() == null) {    // unnamed node
                 count = new NodeTestPattern(NodeKindTest.makeNodeKindTest(node.getNodeKind()));
@@ -411,7 +473,13 @@ public final class Navigator {
 
         while (true) {
             if (count.matches(curr, context)) {
-                int num = getNumberSingle(curr, count, null, context);
+                int num;
+                if (memo == null) {
+                    num = getSiblingNumber(curr, count, null, 0, context);
+                } else {
+                    num = getRememberedSiblingNumber(curr, count, memo, context);
+                    newMemo.add(curr, num);
+                }
                 v.add(0, num);
             }
             curr = curr.getParent();
@@ -423,9 +491,43 @@ public final class Navigator {
             }
         }
 
+        if (memo != null) {
+            memo.clear();
+            for (int i = 0; i < newMemo.size(); i++) {
+                memo.add(newMemo.getNode(i), newMemo.getNumber(i));
+            }
+        }
         return v;
     }
 
+    /**
+     * Get the sibling number of a node that matches the count pattern, making use of the
+     * remembered sibling numbers of nodes numbered earlier
+     * @param node the node, which is known to match the count pattern
+     * @param count the count pattern
+     * @param memo the remembered sibling numbers. Every node held here matched the count pattern
+     * when it was numbered
+     * @param context the dynamic context
+     * @return the sibling number of the node
+     * @throws XPathException if an error occurs matching the pattern
+     */
+
+    private static int getRememberedSiblingNumber(NodeInfo node, Pattern count, NumberMemo memo,
+                                                  XPathContext context) throws XPathException {
+        NodeInfo parent = node.getParent();
+        for (int i = 0; i < memo.size(); i++) {
+            NodeInfo m = memo.getNode(i);
+            if (m.isSameNodeInfo(node)) {
+                return memo.getNumber(i);
+            }
+            NodeInfo mp = m.getParent();
+            if (parent != null && mp != null && mp.isSameNodeInfo(parent)) {
+                return getSiblingNumber(node, count, m, memo.getNumber(i), context);
+            }
+        }
+        return getSiblingNumber(node, count, null, 0, context);
+    }
+
     /**
      * Generic (model-independent) implementation of deep copy algorithm for nodes.
      * This is available for use by any node implementations that choose to use it.
@@ -0,0 +1,85 @@
+package client.net.sf.saxon.ce.tree.util;
+
+import client.net.sf.saxon.ce.om.NodeInfo;
+
+/**
+ * The numbers most recently allocated by one xsl:number instruction. For level="any" this
+ * holds the last node numbered and its number; for level="multiple" it holds each counted
+ * ancestor-or-self of the last node numbered, together with its sibling number.
+ *
+ * <p>When nodes are numbered in document order, which is the usual case, the number of the next
+ * node can be found by counting only the nodes between it and one of the remembered nodes.
+ * A remembered node is only ever used if it matches the count pattern of the instruction, so
+ * numbers remembered under the default count pattern for one node name are never applied to
+ * nodes with a different name.</p>
+ */
+
+public class NumberMemo {
+
+    private NodeInfo[] nodes = new NodeInfo[4];
+    private int[] numbers = new int[4];
+    private int size = 0;
+
+    /**
+     * Forget all the remembered numbers
+     */
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            nodes[i] = null;
+        }
+        size = 0;
+    }
+
+    /**
+     * Remember the number of a node
+     * @param node the node
+     * @param number the number allocated to the node
+     */
+
+    public void add(NodeInfo node, int number) {
+        if (size == nodes.length) {
+            NodeInfo[] n2 = new NodeInfo[size * 2];
+            int[] i2 = new int[size * 2];
+            System.arraycopy(nodes, 0, n2, 0, size);
+            System.arraycopy(numbers, 0, i2, 0, size);
+            nodes = n2;
+            numbers = i2;
+        }
+        nodes[size] = node;
+        numbers[size++] = number;
+    }
+
+    /**
+     * Get the number of remembered nodes
+     * @return the number of nodes held
+     */
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get a remembered node
+     * @param i the index of the entry, in the order in which the entries were added
+     * @return the node at that index
+     */
+
+    public NodeInfo getNode(int i) {
+        return nodes[i];
+    }
+
+    /**
+     * Get a remembered number
+     * @param i the index of the entry, in the order in which the entries were added
+     * @return the number of the node at that index
+     */
+
+    public int getNumber(int i) {
+        return numbers[i];
+    }
+}
+
+// This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+// If a copy of the MPL was not distributed with this file, You can obtain one at http://mozilla.org/MPL/2.0/.
+// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
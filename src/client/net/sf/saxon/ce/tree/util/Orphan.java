@@ -328,6 +328,16 @@ public class Orphan extends AbstractNode implements NodeInfo {
         // lose the top bits because we need to subtract these values for comparison
     }
 
+    /**
+     * Get the number of this node in a pre-order traversal of its document. Not available for
+     * an orphan node.
+     * @return -1
+     */
+
+    public int getPreorderNumber() {
+        return -1;
+    }
+
     /**
     * Copy this node to a given outputter (deep copy)
     */
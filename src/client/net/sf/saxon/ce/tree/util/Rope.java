@@ -0,0 +1,147 @@
+package client.net.sf.saxon.ce.tree.util;
+
+import java.util.ArrayList;
+
+/**
+ * A CharSequence formed by concatenating two other CharSequences, without copying them. This is used
+ * to build long strings incrementally, for example when a recursive template or function repeatedly
+ * evaluates concat($acc, ...): each concatenation takes constant time, and the characters are copied
+ * only once, when the string is first examined character by character or converted to a String.
+ * The result of that conversion is retained, and the two components are then released.
+ *
+ * <p>Like a String, a Rope is immutable. The components must not be modified after the Rope is
+ * constructed.</p>
+ */
+
+public final class Rope implements CharSequence {
+
+    /**
+     * Concatenations that would produce a string shorter than this are performed by copying the characters
+     */
+    public static final int MIN_LENGTH = 256;
+
+    private CharSequence left;      // null once the rope has been flattened
+    private CharSequence right;     // null once the rope has been flattened
+    private String flat;            // null until the rope has been flattened
+    private int length;
+
+    private Rope(CharSequence left, CharSequence right) {
+        this.left = compact(left);
+        this.right = compact(right);
+        this.length = left.length() + right.length();
+    }
+
+    /**
+     * Concatenate two strings. If the result is short, the characters are copied; otherwise a Rope
+     * is returned that refers to the two strings.
+     * @param a the first string. This must not be modified subsequently.
+     * @param b the second string. This must not be modified subsequently.
+     * @return a CharSequence representing the concatenation of the two strings
+     */
+
+    public static CharSequence concat(CharSequence a, CharSequence b) {
+        if (a.length() == 0) {
+            return b;
+        } else if (b.length() == 0) {
+            return a;
+        } else if (a.length() + b.length() < MIN_LENGTH) {
+            return a.toString() + b.toString();
+        } else if (a instanceof Rope && ((Rope)a).flat == null && b.length() < MIN_LENGTH &&
+                ((Rope)a).right.length() + b.length() < MIN_LENGTH) {
+            // Appending a short string to a rope that ends with a short string: merge the two short
+            // strings, so that the leaves of the tree do not become too small
+            Rope r = (Rope)a;
+            return new Rope(r.left, r.right.toString() + b.toString());
+        } else {
+            return new Rope(a, b);
+        }
+    }
+
+    /**
+     * If a component is a Rope that has already been flattened, use the flattened string
+     * in its place, so that the tree beneath it can be released
+     */
+
+    private static CharSequence compact(CharSequence s) {
+        if (s instanceof Rope && ((Rope)s).flat != null) {
+            return ((Rope)s).flat;
+        }
+        return s;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public char charAt(int index) {
+        return toString().charAt(index);
+    }
+
+    public CharSequence subSequence(int start, int end) {
+        return toString().substring(start, end);
+    }
+
+    /**
+     * Convert the Rope to a String. The characters are copied on the first call only; the Rope
+     * then holds the String in place of its components.
+     * @return the contents of the Rope as a String
+     */
+
+    public String toString() {
+        if (flat == null) {
+            flatten();
+        }
+        return flat;
+    }
+
+    /**
+     * Copy the characters of all the components into a single String. The tree is traversed using an
+     * explicit stack, because a Rope built by repeated concatenation may be very deep.
+     */
+
+    private void flatten() {
+        char[] chars = new char[length];
+        int used = 0;
+        ArrayList<CharSequence> stack = new ArrayList<CharSequence>();
+        stack.add(right);
+        stack.add(left);
+        while (!stack.isEmpty()) {
+            CharSequence s = stack.remove(stack.size() - 1);
+            if (s instanceof Rope && ((Rope)s).flat == null) {
+                stack.add(((Rope)s).right);
+                stack.add(((Rope)s).left);
+            } else {
+                int len = s.length();
+                if (s instanceof FastStringBuffer) {
+                    ((FastStringBuffer)s).getChars(0, len, chars, used);
+                } else {
+                    s.toString().getChars(0, len, chars, used);
+                }
+                used += len;
+            }
+        }
+        flat = new String(chars);
+        left = null;
+        right = null;
+    }
+
+    /**
+     * Compare equality
+     */
+
+    public boolean equals(Object other) {
+        return other instanceof CharSequence && toString().equals(other.toString());
+    }
+
+    /**
+     * Generate a hash code, using the same algorithm as String#hashCode()
+     */
+
+    public int hashCode() {
+        return toString().hashCode();
+    }
+}
+
+// This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+// If a copy of the MPL was not distributed with this file, You can obtain one at http://mozilla.org/MPL/2.0/.
+// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.
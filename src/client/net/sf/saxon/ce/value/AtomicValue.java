@@ -156,6 +156,17 @@ public abstract class AtomicValue implements Item, ConversionResult {
         return getPrimitiveStringValue().toString();
     }
 
+    /**
+     * Get the value of the item as a CharSequence. This is in some cases more efficient than
+     * the version of the method that returns a String, because the value does not need to be
+     * converted to a String: for example, it may be a {@link client.net.sf.saxon.ce.tree.util.Rope}.
+     * @return the string value of the item
+     */
+
+    public CharSequence getStringValueCS() {
+        return getPrimitiveStringValue();
+    }
+
     /**
      * Convert the value to a string, using the serialization rules for the primitive type.
      * @return the value converted to a string according to the rules for the primitive type
@@ -30,6 +30,37 @@ public final class DoubleValue extends NumericValue {
         this.value = value;
     }
 
+    private static final int CACHE_MIN = -128;
+    private static final int CACHE_MAX = 1023;
+    private static final DoubleValue[] SMALL_VALUES = new DoubleValue[CACHE_MAX - CACHE_MIN + 1];
+
+    /**
+     * Factory method to get a DoubleValue. Unlike the constructor, this returns a shared instance
+     * for zero, NaN, and small whole numbers, which are by far the most common results of arithmetic.
+     *
+     * @param value the value of the NumericValue
+     * @return a DoubleValue with the given value
+     */
+
+    public static DoubleValue makeDoubleValue(double value) {
+        if (value >= CACHE_MIN && value <= CACHE_MAX) {
+            int i = (int)value;
+            if (i == value) {
+                if (i == 0) {
+                    return (1.0 / value < 0 ? NEGATIVE_ZERO : ZERO);
+                }
+                DoubleValue d = SMALL_VALUES[i - CACHE_MIN];
+                if (d == null) {
+                    d = SMALL_VALUES[i - CACHE_MIN] = new DoubleValue(value);
+                }
+                return d;
+            }
+        } else if (value != value) {
+            return NaN;
+        }
+        return new DoubleValue(value);
+    }
+
     /**
      * Determine the primitive type of the value. This delivers the same answer as
      * getItemType().getPrimitiveItemType(). The primitive types are
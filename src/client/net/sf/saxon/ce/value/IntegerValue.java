@@ -41,6 +41,29 @@ public class IntegerValue extends DecimalValue {
         super(value);
     }
 
+    private static final int CACHE_MIN = -128;
+    private static final int CACHE_MAX = 1023;
+    private static final IntegerValue[] SMALL_VALUES = new IntegerValue[CACHE_MAX - CACHE_MIN + 1];
+
+    /**
+     * Factory method to get an IntegerValue. Unlike the constructor, this returns a shared instance
+     * for small values (such as positions and counts), avoiding construction of a new BigDecimal.
+     * Entries in the cache are created on first use.
+     * @param value the value of the integer
+     * @return an IntegerValue with the given value
+     */
+
+    public static IntegerValue makeIntegerValue(int value) {
+        if (value < CACHE_MIN || value > CACHE_MAX) {
+            return new IntegerValue(value);
+        }
+        IntegerValue v = SMALL_VALUES[value - CACHE_MIN];
+        if (v == null) {
+            v = SMALL_VALUES[value - CACHE_MIN] = new IntegerValue(value);
+        }
+        return v;
+    }
+
     public IntegerValue(BigDecimal value) {
         super(value);
         if (value.scale()!=0 && value.compareTo(value.setScale(0, BigDecimal.ROUND_DOWN)) != 0) {
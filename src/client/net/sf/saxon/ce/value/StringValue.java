@@ -1,6 +1,9 @@
 package client.net.sf.saxon.ce.value;
 
 import client.net.sf.saxon.ce.lib.StringCollator;
+import client.net.sf.saxon.ce.regex.BMPString;
+import client.net.sf.saxon.ce.regex.GeneralUnicodeString;
+import client.net.sf.saxon.ce.regex.UnicodeString;
 import client.net.sf.saxon.ce.trans.Err;
 import client.net.sf.saxon.ce.trans.XPathException;
 import client.net.sf.saxon.ce.tree.util.FastStringBuffer;
@@ -28,6 +31,7 @@ public class StringValue extends AtomicValue {
 
     protected CharSequence value;     // may be zero-length, will never be null
     protected boolean noSurrogates = false;
+    private UnicodeString codepoints = null;    // created when first needed
 
     /**
      * Protected constructor for use by subtypes
@@ -84,6 +88,29 @@ public class StringValue extends AtomicValue {
         }
     }
 
+    /**
+     * Factory method to make a StringValue from a UnicodeString. If the UnicodeString is known
+     * to contain no surrogate pairs, the resulting StringValue is marked accordingly.
+     *
+     * @param value the UnicodeString. Null is taken as equivalent to "".
+     * @return the corresponding StringValue
+     */
+
+    public static StringValue makeStringValue(UnicodeString value) {
+        if (value == null || value.length() == 0) {
+            return StringValue.EMPTY_STRING;
+        } else if (value instanceof BMPString) {
+            StringValue sv = new StringValue(((BMPString)value).getCharSequence());
+            sv.noSurrogates = true;
+            sv.codepoints = value;
+            return sv;
+        } else {
+            StringValue sv = new StringValue(value.toString());
+            sv.codepoints = value;
+            return sv;
+        }
+    }
+
     /**
      * Get the string value as a String
      */
@@ -92,6 +119,14 @@ public class StringValue extends AtomicValue {
         return (String) (value = value.toString());
     }
 
+    /**
+     * Get the string value as a CharSequence, without converting it to a String
+     */
+
+    public CharSequence getStringValueCS() {
+        return value;
+    }
+
     /**
      * Convert a value to another primitive data type, with control over how validation is
      * handled.
@@ -199,6 +234,8 @@ public class StringValue extends AtomicValue {
     public int getStringLength() {
         if (noSurrogates) {
             return value.length();
+        } else if (codepoints != null) {
+            return codepoints.length();
         } else {
             int len = getStringLength(value);
             if (len == value.length()) {
@@ -258,6 +295,30 @@ public class StringValue extends AtomicValue {
         return noSurrogates;
     }
 
+    /**
+     * Get the string as a sequence of Unicode codepoints. This is computed the first time it is
+     * needed and then retained, so that the regular expression functions, substring(), translate()
+     * and string-to-codepoints() can be applied repeatedly to the same value without copying it.
+     * If the string contains no surrogate pairs, the result is a view of the underlying
+     * CharSequence; otherwise the string is expanded once into an array of codepoints.
+     *
+     * @return the codepoints of the string
+     */
+
+    public UnicodeString getUnicodeString() {
+        if (codepoints == null) {
+            if (noSurrogates) {
+                codepoints = new BMPString(value);
+            } else {
+                codepoints = GeneralUnicodeString.makeUnicodeString(value);
+                if (codepoints instanceof BMPString) {
+                    noSurrogates = true;
+                }
+            }
+        }
+        return codepoints;
+    }
+
     /**
      * Expand a string containing surrogate pairs into an array of 32-bit characters
      *
@@ -63,6 +63,15 @@ public final class TextFragmentValue extends Orphan implements DocumentInfo {
 	    return documentNumber;
 	}
 
+    /**
+     * Get the number of this node in a pre-order traversal of its document
+     * @return 0, since this is the document node
+     */
+
+    public int getPreorderNumber() {
+        return 0;
+    }
+
     /**
     * Determine whether this is the same node as another node
     * @return true if this Node object and the supplied Node object represent the
@@ -234,6 +243,16 @@ public final class TextFragmentValue extends Orphan implements DocumentInfo {
             return getDocumentRoot().getDocumentNumber();
         }
 
+        /**
+         * Get the number of this node in a pre-order traversal of its document. The text node
+         * is the only child of the document node.
+         * @return 1
+         */
+
+        public int getPreorderNumber() {
+            return 1;
+        }
+
         /**
         * Return an enumeration over the nodes reached by the given axis from this node
         * @param axisNumber the axis to be iterated over
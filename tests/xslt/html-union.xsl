@@ -0,0 +1,45 @@
+<?xml version="1.0" encoding="UTF-8"?>
+<!--
+  Checks that a union of attribute nodes in the HTML page counts each attribute once, although a
+  new node object is created each time an attribute of the page is accessed.
+  Run the named template "main" in a page containing at least one div element that has both an id
+  and a class attribute: every line of the result should start with "pass".
+-->
+<xsl:stylesheet version="2.0" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"
+        xmlns:ixsl="http://saxonica.com/ns/interactiveXSLT" exclude-result-prefixes="ixsl">
+
+    <xsl:variable name="page" select="ixsl:page()"/>
+
+    <xsl:template name="main">
+        <xsl:call-template name="check">
+            <xsl:with-param name="test" select="'host page'"/>
+            <xsl:with-param name="actual" select="string(exists($page//div[@id]/@class))"/>
+            <xsl:with-param name="expected" select="'true'"/>
+        </xsl:call-template>
+        <xsl:call-template name="check">
+            <xsl:with-param name="test" select="'count'"/>
+            <xsl:with-param name="actual" select="string(count($page//div/@class | $page//div[@id]/@class))"/>
+            <xsl:with-param name="expected" select="string(count($page//div/@class))"/>
+        </xsl:call-template>
+        <xsl:call-template name="check">
+            <xsl:with-param name="test" select="'same operand twice'"/>
+            <xsl:with-param name="actual" select="string(count($page//@id | $page//@id))"/>
+            <xsl:with-param name="expected" select="string(count($page//@id))"/>
+        </xsl:call-template>
+        <xsl:call-template name="check">
+            <xsl:with-param name="test" select="'distinct identities'"/>
+            <xsl:with-param name="actual" select="string(count(distinct-values(($page//div/@class | $page//div[@id]/@class)/generate-id())))"/>
+            <xsl:with-param name="expected" select="string(count($page//div/@class | $page//div[@id]/@class))"/>
+        </xsl:call-template>
+    </xsl:template>
+
+    <xsl:template name="check">
+        <xsl:param name="test"/>
+        <xsl:param name="actual"/>
+        <xsl:param name="expected"/>
+        <xsl:value-of select="if (string($actual) eq $expected) then 'pass' else 'FAIL', $test,
+                if (string($actual) eq $expected) then () else concat('got [', $actual, '] expected [', $expected, ']')"/>
+        <xsl:text>&#10;</xsl:text>
+    </xsl:template>
+
+</xsl:stylesheet>
@@ -0,0 +1,80 @@
+<?xml version="1.0" encoding="UTF-8"?>
+<!--
+  Checks that last() can be used inside xsl:analyze-string and xsl:for-each-group without disturbing
+  the current match, regex-group(), current-group() or current-grouping-key().
+  Run the named template "main": every line of the result should start with "pass".
+-->
+<xsl:stylesheet version="2.0" xmlns:xsl="http://www.w3.org/1999/XSL/Transform">
+
+    <xsl:variable name="words" as="element()*">
+        <w k="1">x</w><w k="1">y</w><w k="2">z</w><w k="3">w</w>
+    </xsl:variable>
+
+    <xsl:template name="main">
+        <xsl:call-template name="check">
+            <xsl:with-param name="test" select="'analyze-string'"/>
+            <xsl:with-param name="actual">
+                <xsl:analyze-string select="'a1b2c3'" regex="[0-9]">
+                    <xsl:matching-substring>[M<xsl:value-of select="., position(), last()" separator="/"/>]</xsl:matching-substring>
+                    <xsl:non-matching-substring>(N<xsl:value-of select="., position(), last()" separator="/"/>)</xsl:non-matching-substring>
+                </xsl:analyze-string>
+            </xsl:with-param>
+            <xsl:with-param name="expected" select="'(Na/1/6)[M1/2/6](Nb/3/6)[M2/4/6](Nc/5/6)[M3/6/6]'"/>
+        </xsl:call-template>
+        <xsl:call-template name="check">
+            <xsl:with-param name="test" select="'regex-group'"/>
+            <xsl:with-param name="actual">
+                <xsl:analyze-string select="'ab12cd34'" regex="([a-z]+)([0-9]+)">
+                    <xsl:matching-substring>[<xsl:value-of select="last(), regex-group(2)" separator=":"/>]</xsl:matching-substring>
+                </xsl:analyze-string>
+            </xsl:with-param>
+            <xsl:with-param name="expected" select="'[2:12][2:34]'"/>
+        </xsl:call-template>
+        <xsl:call-template name="check">
+            <xsl:with-param name="test" select="'group-adjacent'"/>
+            <xsl:with-param name="actual">
+                <xsl:for-each-group select="$words" group-adjacent="@k">
+                    <xsl:value-of select="concat('[', last(), ':', current-grouping-key(), ':', string-join(current-group(), ' '), ']')"/>
+                </xsl:for-each-group>
+            </xsl:with-param>
+            <xsl:with-param name="expected" select="'[3:1:x y][3:2:z][3:3:w]'"/>
+        </xsl:call-template>
+        <xsl:call-template name="check">
+            <xsl:with-param name="test" select="'group-starting-with'"/>
+            <xsl:with-param name="actual">
+                <xsl:for-each-group select="$words" group-starting-with="*[@k != '1']">
+                    <xsl:value-of select="concat('[', last(), ':', string-join(current-group(), ' '), ']')"/>
+                </xsl:for-each-group>
+            </xsl:with-param>
+            <xsl:with-param name="expected" select="'[3:x y][3:z][3:w]'"/>
+        </xsl:call-template>
+        <xsl:call-template name="check">
+            <xsl:with-param name="test" select="'group-ending-with'"/>
+            <xsl:with-param name="actual">
+                <xsl:for-each-group select="$words" group-ending-with="*[@k = '1']">
+                    <xsl:value-of select="concat('[', last(), ':', string-join(current-group(), ' '), ']')"/>
+                </xsl:for-each-group>
+            </xsl:with-param>
+            <xsl:with-param name="expected" select="'[3:x][3:y][3:z w]'"/>
+        </xsl:call-template>
+        <xsl:call-template name="check">
+            <xsl:with-param name="test" select="'group-by'"/>
+            <xsl:with-param name="actual">
+                <xsl:for-each-group select="$words" group-by="@k">
+                    <xsl:value-of select="concat('[', last(), ':', current-grouping-key(), ':', string-join(current-group(), ' '), ']')"/>
+                </xsl:for-each-group>
+            </xsl:with-param>
+            <xsl:with-param name="expected" select="'[3:1:x y][3:2:z][3:3:w]'"/>
+        </xsl:call-template>
+    </xsl:template>
+
+    <xsl:template name="check">
+        <xsl:param name="test"/>
+        <xsl:param name="actual"/>
+        <xsl:param name="expected"/>
+        <xsl:value-of select="if (string($actual) eq $expected) then 'pass' else 'FAIL', $test,
+                if (string($actual) eq $expected) then () else concat('got [', $actual, '] expected [', $expected, ']')"/>
+        <xsl:text>&#10;</xsl:text>
+    </xsl:template>
+
+</xsl:stylesheet>
@@ -0,0 +1,72 @@
+<?xml version="1.0" encoding="UTF-8"?>
+<!--
+  Checks that replace() finds the same matches whether or not the replacement string refers to captured
+  groups. When it does not, a matcher that does not backtrack may be used; xsl:analyze-string always uses
+  the backtracking matcher, so the two results are compared for each pattern.
+  Run the named template "main": every line of the result should start with "pass".
+-->
+<xsl:stylesheet version="2.0" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"
+        xmlns:f="http://saxonica.com/ns/test-functions" exclude-result-prefixes="f">
+
+    <xsl:variable name="cases" as="element()*">
+        <case regex="a([^a]??){{1,3}}" input="a1B"/>
+        <case regex="(a*?)*[a-c]" input="ab"/>
+        <case regex="([^a]{{0,2}}|a)*b" input="aBB1b"/>
+        <case regex="(^|[^a])*1" input="BB1"/>
+        <case regex="[^a]*^x" input="bbx"/>
+        <case regex="(|b){{1,3}}a" input="aaabba"/>
+        <case regex="a+?b" input="aaab"/>
+        <case regex="(a|ab)(c|bcd)(d*)" input="abcd"/>
+        <case regex="x(a|b)*y" input="xababy xy xaby"/>
+        <case regex="[0-9]{{3}}-[0-9]{{4}}" input="123-4567 and 999-0000"/>
+        <case regex="(a+)+b" input="aaaaaaaaaaaaaaaaaaaac"/>
+        <case regex="\s+" input="  two  words "/>
+    </xsl:variable>
+
+    <xsl:template name="main">
+        <xsl:for-each select="$cases">
+            <xsl:call-template name="check">
+                <xsl:with-param name="test" select="concat('/', @regex, '/ on ', @input)"/>
+                <xsl:with-param name="actual" select="replace(@input, @regex, '[$0]')"/>
+                <xsl:with-param name="expected" select="f:analyzed(@input, @regex)"/>
+            </xsl:call-template>
+        </xsl:for-each>
+        <xsl:call-template name="check">
+            <xsl:with-param name="test" select="'reluctant repeat'"/>
+            <xsl:with-param name="actual" select="replace('a1B', 'a([^a]??){1,3}', '[$0]')"/>
+            <xsl:with-param name="expected" select="'[a]1B'"/>
+        </xsl:call-template>
+        <xsl:call-template name="check">
+            <xsl:with-param name="test" select="'reluctant repeat with group'"/>
+            <xsl:with-param name="actual" select="replace('a1B', 'a([^a]??){1,3}', '[$0]{$1}')"/>
+            <xsl:with-param name="expected" select="'[a]{}1B'"/>
+        </xsl:call-template>
+        <xsl:call-template name="check">
+            <xsl:with-param name="test" select="'empty iteration'"/>
+            <xsl:with-param name="actual" select="replace('ab', '(a*?)*[a-c]', '[$0]')"/>
+            <xsl:with-param name="expected" select="'[a][b]'"/>
+        </xsl:call-template>
+    </xsl:template>
+
+    <xsl:function name="f:analyzed" as="xs:string" xmlns:xs="http://www.w3.org/2001/XMLSchema">
+        <xsl:param name="input" as="xs:string"/>
+        <xsl:param name="regex" as="xs:string"/>
+        <xsl:variable name="parts" as="xs:string*">
+            <xsl:analyze-string select="$input" regex="{$regex}">
+                <xsl:matching-substring><xsl:sequence select="concat('[', ., ']')"/></xsl:matching-substring>
+                <xsl:non-matching-substring><xsl:sequence select="."/></xsl:non-matching-substring>
+            </xsl:analyze-string>
+        </xsl:variable>
+        <xsl:sequence select="string-join($parts, '')"/>
+    </xsl:function>
+
+    <xsl:template name="check">
+        <xsl:param name="test"/>
+        <xsl:param name="actual"/>
+        <xsl:param name="expected"/>
+        <xsl:value-of select="if (string($actual) eq $expected) then 'pass' else 'FAIL', $test,
+                if (string($actual) eq $expected) then () else concat('got [', $actual, '] expected [', $expected, ']')"/>
+        <xsl:text>&#10;</xsl:text>
+    </xsl:template>
+
+</xsl:stylesheet>
@@ -0,0 +1,63 @@
+<?xml version="1.0" encoding="UTF-8"?>
+<!--
+  Checks that a sort remains stable when only the first few items of the sorted sequence are used,
+  so that items with equal sort keys are delivered in their original order.
+  Run the named template "main": every line of the result should start with "pass".
+-->
+<xsl:stylesheet version="2.0" xmlns:xsl="http://www.w3.org/1999/XSL/Transform"
+        xmlns:f="http://saxonica.com/ns/test-functions" exclude-result-prefixes="f">
+
+    <xsl:variable name="items" as="element()*">
+        <i k="5">A</i><i k="5">B</i><i k="1">C</i><i k="1">D</i><i k="3">E</i><i k="1">F</i>
+    </xsl:variable>
+
+    <xsl:function name="f:sorted" as="element()*">
+        <xsl:param name="in" as="element()*"/>
+        <xsl:perform-sort select="$in">
+            <xsl:sort select="number(@k)"/>
+        </xsl:perform-sort>
+    </xsl:function>
+
+    <xsl:template name="main">
+        <xsl:call-template name="check">
+            <xsl:with-param name="test" select="'subsequence'"/>
+            <xsl:with-param name="actual" select="string-join(subsequence(f:sorted($items[position() le 4]), 1, 2), ' ')"/>
+            <xsl:with-param name="expected" select="'C D'"/>
+        </xsl:call-template>
+        <xsl:call-template name="check">
+            <xsl:with-param name="test" select="'subsequence, three equal keys'"/>
+            <xsl:with-param name="actual" select="string-join(subsequence(f:sorted($items), 1, 3), ' ')"/>
+            <xsl:with-param name="expected" select="'C D F'"/>
+        </xsl:call-template>
+        <xsl:call-template name="check">
+            <xsl:with-param name="test" select="'position filter'"/>
+            <xsl:with-param name="actual" select="string-join(f:sorted($items)[position() lt 3], ' ')"/>
+            <xsl:with-param name="expected" select="'C D'"/>
+        </xsl:call-template>
+        <xsl:call-template name="check">
+            <xsl:with-param name="test" select="'first item'"/>
+            <xsl:with-param name="actual" select="string(f:sorted($items)[1])"/>
+            <xsl:with-param name="expected" select="'C'"/>
+        </xsl:call-template>
+        <xsl:call-template name="check">
+            <xsl:with-param name="test" select="'sorted groups'"/>
+            <xsl:with-param name="actual">
+                <xsl:for-each-group select="$items" group-by="@k">
+                    <xsl:sort select="number(@k) mod 2"/>
+                    <xsl:if test="position() le 2"><xsl:value-of select="current-grouping-key()"/></xsl:if>
+                </xsl:for-each-group>
+            </xsl:with-param>
+            <xsl:with-param name="expected" select="'51'"/>
+        </xsl:call-template>
+    </xsl:template>
+
+    <xsl:template name="check">
+        <xsl:param name="test"/>
+        <xsl:param name="actual"/>
+        <xsl:param name="expected"/>
+        <xsl:value-of select="if (string($actual) eq $expected) then 'pass' else 'FAIL', $test,
+                if (string($actual) eq $expected) then () else concat('got [', $actual, '] expected [', $expected, ']')"/>
+        <xsl:text>&#10;</xsl:text>
+    </xsl:template>
+
+</xsl:stylesheet>
@@ -0,0 +1,142 @@
+<?xml version="1.0" encoding="UTF-8"?>
+<!--
+  Checks group-adjacent and group-starting-with when the body reads current-group() once, so that
+  the members of each group are read as they are needed, and when the body may read it more than once.
+  Run the named template "main": every line of the result should start with "pass".
+-->
+<xsl:stylesheet version="2.0" xmlns:xsl="http://www.w3.org/1999/XSL/Transform">
+
+    <xsl:variable name="words" as="element()*">
+        <w k="1">a</w><w k="1">b</w><w k="2">c</w><w k="3">d</w><w k="3">e</w><w k="3">f</w>
+    </xsl:variable>
+
+    <xsl:template name="main">
+        <xsl:call-template name="check">
+            <xsl:with-param name="test" select="'group-adjacent, single read'"/>
+            <xsl:with-param name="actual">
+                <xsl:for-each-group select="$words" group-adjacent="@k">
+                    <xsl:value-of select="concat('[', current-grouping-key(), ':', string-join(current-group(), ' '), ']')"/>
+                </xsl:for-each-group>
+            </xsl:with-param>
+            <xsl:with-param name="expected" select="'[1:a b][2:c][3:d e f]'"/>
+        </xsl:call-template>
+        <xsl:call-template name="check">
+            <xsl:with-param name="test" select="'group-adjacent, partial read'"/>
+            <xsl:with-param name="actual">
+                <xsl:for-each-group select="$words" group-adjacent="@k">
+                    <xsl:value-of select="concat('[', position(), ':', current-group()[1], ']')"/>
+                </xsl:for-each-group>
+            </xsl:with-param>
+            <xsl:with-param name="expected" select="'[1:a][2:c][3:d]'"/>
+        </xsl:call-template>
+        <xsl:call-template name="check">
+            <xsl:with-param name="test" select="'group-adjacent, no read'"/>
+            <xsl:with-param name="actual">
+                <xsl:for-each-group select="$words" group-adjacent="@k">
+                    <xsl:value-of select="concat('[', current-grouping-key(), ']')"/>
+                </xsl:for-each-group>
+            </xsl:with-param>
+            <xsl:with-param name="expected" select="'[1][2][3]'"/>
+        </xsl:call-template>
+        <xsl:call-template name="check">
+            <xsl:with-param name="test" select="'group-adjacent, two references'"/>
+            <xsl:with-param name="actual">
+                <xsl:for-each-group select="$words" group-adjacent="@k">
+                    <xsl:value-of select="concat('[', count(current-group()), ':', string-join(current-group(), ' '), ']')"/>
+                </xsl:for-each-group>
+            </xsl:with-param>
+            <xsl:with-param name="expected" select="'[2:a b][1:c][3:d e f]'"/>
+        </xsl:call-template>
+        <xsl:call-template name="check">
+            <xsl:with-param name="test" select="'group-adjacent, variable'"/>
+            <xsl:with-param name="actual">
+                <xsl:for-each-group select="$words" group-adjacent="@k">
+                    <xsl:variable name="g" select="current-group()"/>
+                    <xsl:value-of select="concat('[', $g[last()], ':', string-join($g, ' '), ']')"/>
+                </xsl:for-each-group>
+            </xsl:with-param>
+            <xsl:with-param name="expected" select="'[b:a b][c:c][f:d e f]'"/>
+        </xsl:call-template>
+        <xsl:call-template name="check">
+            <xsl:with-param name="test" select="'group-adjacent, last item'"/>
+            <xsl:with-param name="actual">
+                <xsl:for-each-group select="$words" group-adjacent="@k">
+                    <xsl:value-of select="current-group()[position() = last()]"/>
+                </xsl:for-each-group>
+            </xsl:with-param>
+            <xsl:with-param name="expected" select="'bcf'"/>
+        </xsl:call-template>
+        <xsl:call-template name="check">
+            <xsl:with-param name="test" select="'group-adjacent, loop'"/>
+            <xsl:with-param name="actual">
+                <xsl:for-each-group select="$words" group-adjacent="@k">
+                    <xsl:for-each select="1 to 2">
+                        <xsl:value-of select="string-join(current-group(), '')"/>
+                    </xsl:for-each>
+                    <xsl:text>;</xsl:text>
+                </xsl:for-each-group>
+            </xsl:with-param>
+            <xsl:with-param name="expected" select="'abab;cc;defdef;'"/>
+        </xsl:call-template>
+        <xsl:call-template name="check">
+            <xsl:with-param name="test" select="'group-starting-with, single read'"/>
+            <xsl:with-param name="actual">
+                <xsl:for-each-group select="$words" group-starting-with="*[. = ('a', 'c', 'e')]">
+                    <xsl:value-of select="concat('[', string-join(current-group(), ' '), ']')"/>
+                </xsl:for-each-group>
+            </xsl:with-param>
+            <xsl:with-param name="expected" select="'[a b][c d][e f]'"/>
+        </xsl:call-template>
+        <xsl:call-template name="check">
+            <xsl:with-param name="test" select="'group-starting-with, partial read'"/>
+            <xsl:with-param name="actual">
+                <xsl:for-each-group select="$words" group-starting-with="*[. = ('a', 'c', 'e')]">
+                    <xsl:value-of select="concat('[', position(), ':', current-group()[1], ']')"/>
+                </xsl:for-each-group>
+            </xsl:with-param>
+            <xsl:with-param name="expected" select="'[1:a][2:c][3:e]'"/>
+        </xsl:call-template>
+        <xsl:call-template name="check">
+            <xsl:with-param name="test" select="'group-starting-with, two references'"/>
+            <xsl:with-param name="actual">
+                <xsl:for-each-group select="$words" group-starting-with="*[. = ('a', 'c', 'e')]">
+                    <xsl:value-of select="concat('[', count(current-group()), ':', string-join(current-group(), ' '), ']')"/>
+                </xsl:for-each-group>
+            </xsl:with-param>
+            <xsl:with-param name="expected" select="'[2:a b][2:c d][2:e f]'"/>
+        </xsl:call-template>
+        <xsl:call-template name="check">
+            <xsl:with-param name="test" select="'group-starting-with, variable'"/>
+            <xsl:with-param name="actual">
+                <xsl:for-each-group select="$words" group-starting-with="*[. = ('a', 'c', 'e')]">
+                    <xsl:variable name="g" select="current-group()"/>
+                    <xsl:value-of select="concat('[', count($g), ':', string-join($g, ' '), ']')"/>
+                </xsl:for-each-group>
+            </xsl:with-param>
+            <xsl:with-param name="expected" select="'[2:a b][2:c d][2:e f]'"/>
+        </xsl:call-template>
+        <xsl:call-template name="check">
+            <xsl:with-param name="test" select="'group-starting-with, nested'"/>
+            <xsl:with-param name="actual">
+                <xsl:for-each-group select="$words" group-starting-with="*[. = ('a', 'd')]">
+                    <xsl:text>[</xsl:text>
+                    <xsl:for-each-group select="current-group()" group-adjacent="@k">
+                        <xsl:value-of select="concat('(', string-join(current-group(), ' '), ')')"/>
+                    </xsl:for-each-group>
+                    <xsl:text>]</xsl:text>
+                </xsl:for-each-group>
+            </xsl:with-param>
+            <xsl:with-param name="expected" select="'[(a b)(c)][(d e f)]'"/>
+        </xsl:call-template>
+    </xsl:template>
+
+    <xsl:template name="check">
+        <xsl:param name="test"/>
+        <xsl:param name="actual"/>
+        <xsl:param name="expected"/>
+        <xsl:value-of select="if (string($actual) eq $expected) then 'pass' else 'FAIL', $test,
+                if (string($actual) eq $expected) then () else concat('got [', $actual, '] expected [', $expected, ']')"/>
+        <xsl:text>&#10;</xsl:text>
+    </xsl:template>
+
+</xsl:stylesheet>
@@ -0,0 +1,63 @@
+<?xml version="1.0" encoding="UTF-8"?>
+<!--
+  Checks that a union delivers its nodes in document order, whatever the order of its operands,
+  and that count() of a union counts each node once.
+  Run the named template "main": every line of the result should start with "pass".
+-->
+<xsl:stylesheet version="2.0" xmlns:xsl="http://www.w3.org/1999/XSL/Transform">
+
+    <xsl:variable name="d">
+        <r><a>c1</a><a>c2</a><a>c3</a><a>c4</a><a>c5</a></r>
+    </xsl:variable>
+
+    <xsl:variable name="odd" select="$d/r/a[position() mod 2 = 1]"/>
+    <xsl:variable name="high" select="$d/r/a[position() gt 2]"/>
+
+    <xsl:template name="main">
+        <xsl:call-template name="check">
+            <xsl:with-param name="test" select="'value-of'"/>
+            <xsl:with-param name="actual"><xsl:value-of select="$d/r/a[3] | $d/r/a[1]"/></xsl:with-param>
+            <xsl:with-param name="expected" select="'c1 c3'"/>
+        </xsl:call-template>
+        <xsl:call-template name="check">
+            <xsl:with-param name="test" select="'first item'"/>
+            <xsl:with-param name="actual" select="string(($d/r/a[3] | $d/r/a[1] | $d/r/a[5])[1])"/>
+            <xsl:with-param name="expected" select="'c1'"/>
+        </xsl:call-template>
+        <xsl:call-template name="check">
+            <xsl:with-param name="test" select="'for'"/>
+            <xsl:with-param name="actual" select="string-join(for $x in ($d/r/a[3] | $d/r/a[1]) return string($x), ' ')"/>
+            <xsl:with-param name="expected" select="'c1 c3'"/>
+        </xsl:call-template>
+        <xsl:call-template name="check">
+            <xsl:with-param name="test" select="'path step'"/>
+            <xsl:with-param name="actual" select="string-join(($d/r/a[3] | $d/r/a[1])/string(), ',')"/>
+            <xsl:with-param name="expected" select="'c1,c3'"/>
+        </xsl:call-template>
+        <xsl:call-template name="check">
+            <xsl:with-param name="test" select="'data'"/>
+            <xsl:with-param name="actual" select="string-join(data($d/r/a[3] | $d/r/a[1]), ' ')"/>
+            <xsl:with-param name="expected" select="'c1 c3'"/>
+        </xsl:call-template>
+        <xsl:call-template name="check">
+            <xsl:with-param name="test" select="'variables'"/>
+            <xsl:with-param name="actual"><xsl:value-of select="$high | $odd"/></xsl:with-param>
+            <xsl:with-param name="expected" select="'c1 c3 c4 c5'"/>
+        </xsl:call-template>
+        <xsl:call-template name="check">
+            <xsl:with-param name="test" select="'count'"/>
+            <xsl:with-param name="actual" select="string(count($high | $odd | $d/r/a[3]))"/>
+            <xsl:with-param name="expected" select="'4'"/>
+        </xsl:call-template>
+    </xsl:template>
+
+    <xsl:template name="check">
+        <xsl:param name="test"/>
+        <xsl:param name="actual"/>
+        <xsl:param name="expected"/>
+        <xsl:value-of select="if (string($actual) eq $expected) then 'pass' else 'FAIL', $test,
+                if (string($actual) eq $expected) then () else concat('got [', $actual, '] expected [', $expected, ']')"/>
+        <xsl:text>&#10;</xsl:text>
+    </xsl:template>
+
+</xsl:stylesheet>
@@ -0,0 +1,371 @@
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Generates the Unicode data tables that are compiled into Saxon-CE from the XML files in src/resources.
+ * This tool is not part of Saxon-CE itself: it is run by hand when the data files change, for example
+ * on moving to a new version of Unicode. Usage, from the root of the source tree:
+ *
+ * <pre>
+ * java tools/unicode/GenerateUnicodeTables.java categories src/resources/categories.xml \
+ *         src/client/net/sf/saxon/ce/regex/CategoryData.java
+ * java tools/unicode/GenerateUnicodeTables.java normalization src/resources/normalizationData.xml \
+ *         src/client/net/sf/saxon/ce/functions/codenorm/UnicodeData.java
+ * java tools/unicode/GenerateUnicodeTables.java casevariants src/resources/casevariants.xml \
+ *         src/client/net/sf/saxon/ce/regex/CaseVariantData.java
+ * </pre>
+ *
+ * (Running a source file directly requires JDK 11 or later; with an earlier JDK, compile the class with
+ * javac and run it with the same arguments.)
+ *
+ * <p>The target Java file must already exist. The tool replaces the initializers of the constants that
+ * hold the data, and leaves the rest of the class, including the code that decodes the data, unchanged.
+ * Integers are written as sequences of hexadecimal digits, using 'A' to 'P' for every digit except the
+ * last and 'a' to 'p' for the last, in the format described in each generated class.</p>
+ */
+
+public class GenerateUnicodeTables {
+
+    private static final int LINE_LENGTH = 96;      // characters of integer data in each line of a string literal
+    private static final int CHARS_PER_LINE = 16;   // characters of text in each line of a string literal
+    private static final int NAMES_PER_LINE = 14;
+    private static final String INDENT = "            ";
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 3) {
+            System.err.println("Usage: GenerateUnicodeTables (categories|normalization|casevariants) data.xml Target.java");
+            System.exit(2);
+        }
+        Element data = parse(new File(args[1]));
+        File target = new File(args[2]);
+        String source = read(target);
+        String newline = (source.indexOf("\r\n") >= 0 ? "\r\n" : "\n");
+        source = source.replace("\r\n", "\n");
+        if (args[0].equals("categories")) {
+            source = generateCategories(data, source);
+        } else if (args[0].equals("normalization")) {
+            source = generateNormalization(data, source);
+        } else if (args[0].equals("casevariants")) {
+            source = generateCaseVariants(data, source);
+        } else {
+            throw new IllegalArgumentException("Unknown table " + args[0]);
+        }
+        write(target, source.replace("\n", newline));
+    }
+
+    /**
+     * Generate CategoryData from categories.xml. Each category is held as a list of ranges; the one-letter
+     * categories are the union of the two-letter categories with the same initial.
+     */
+
+    private static String generateCategories(Element data, String source) {
+        Map<String, TreeMap<Integer, Integer>> categories = new LinkedHashMap<String, TreeMap<Integer, Integer>>();
+        Map<String, TreeMap<Integer, Integer>> majorCategories = new LinkedHashMap<String, TreeMap<Integer, Integer>>();
+        NodeList cats = data.getElementsByTagName("cat");
+        for (int i = 0; i < cats.getLength(); i++) {
+            Element cat = (Element)cats.item(i);
+            String name = cat.getAttribute("name");
+            String major = name.substring(0, 1);
+            TreeMap<Integer, Integer> ranges = new TreeMap<Integer, Integer>();
+            if (!majorCategories.containsKey(major)) {
+                majorCategories.put(major, new TreeMap<Integer, Integer>());
+            }
+            NodeList children = cat.getElementsByTagName("range");
+            for (int j = 0; j < children.getLength(); j++) {
+                Element range = (Element)children.item(j);
+                int from = Integer.parseInt(range.getAttribute("f"), 16);
+                int to = Integer.parseInt(range.getAttribute("t"), 16);
+                addRange(ranges, from, to);
+                addRange(majorCategories.get(major), from, to);
+            }
+            categories.put(name, ranges);
+        }
+        categories.putAll(majorCategories);
+
+        StringBuilder names = new StringBuilder();
+        StringBuilder ranges = new StringBuilder();
+        int n = 0;
+        for (Map.Entry<String, TreeMap<Integer, Integer>> entry : categories.entrySet()) {
+            if (n > 0) {
+                names.append(n % NAMES_PER_LINE == 0 ? ",\n" + INDENT : ", ");
+                ranges.append(",");
+            }
+            names.append('"').append(entry.getKey()).append('"');
+            StringBuilder encoded = new StringBuilder();
+            int previous = -1;
+            for (Map.Entry<Integer, Integer> range : mergeRanges(entry.getValue()).entrySet()) {
+                encode(range.getKey() - previous - 1, encoded);
+                encode(range.getValue() - range.getKey(), encoded);
+                previous = range.getValue();
+            }
+            ranges.append("\n").append(INDENT).append("// ").append(entry.getKey()).append("\n");
+            ranges.append(stringLiteral(encoded.toString(), LINE_LENGTH));
+            n++;
+        }
+        source = replace(source, "NAMES = {", "\n    };", "\n" + INDENT + names);
+        return replace(source, "RANGES = {", "\n    };", ranges.toString());
+    }
+
+    private static void addRange(TreeMap<Integer, Integer> ranges, int from, int to) {
+        Integer existing = ranges.get(from);
+        if (existing == null || existing < to) {
+            ranges.put(from, to);
+        }
+    }
+
+    private static TreeMap<Integer, Integer> mergeRanges(TreeMap<Integer, Integer> ranges) {
+        TreeMap<Integer, Integer> merged = new TreeMap<Integer, Integer>();
+        int start = -1;
+        int end = -2;
+        for (Map.Entry<Integer, Integer> range : ranges.entrySet()) {
+            if (range.getKey() <= end + 1) {
+                end = Math.max(end, range.getValue());
+            } else {
+                if (start >= 0) {
+                    merged.put(start, end);
+                }
+                start = range.getKey();
+                end = range.getValue();
+            }
+        }
+        if (start >= 0) {
+            merged.put(start, end);
+        }
+        return merged;
+    }
+
+    /**
+     * Generate UnicodeData from normalizationData.xml
+     */
+
+    private static String generateNormalization(Element data, String source) {
+        List<String> classKeys = tokens(data, "CanonicalClassKeys");
+        TreeMap<Integer, Integer> classes = new TreeMap<Integer, Integer>();
+        int k = 0;
+        for (String token : tokens(data, "CanonicalClassValues")) {
+            int repeat = 1;
+            int star = token.indexOf('*');
+            if (star >= 0) {
+                repeat = Integer.parseInt(token.substring(0, star));
+                token = token.substring(star + 1);
+            }
+            int clss = Integer.parseInt(token, 32);
+            for (int i = 0; i < repeat; i++) {
+                int key = Integer.parseInt(classKeys.get(k++), 32);
+                if (clss != 0) {
+                    classes.put(key, clss);
+                }
+            }
+        }
+        StringBuilder canonicalClasses = new StringBuilder();
+        int previous = -1;
+        int start = -1;
+        int end = -1;
+        int currentClass = -1;
+        for (Map.Entry<Integer, Integer> entry : classes.entrySet()) {
+            if (entry.getKey() == end + 1 && entry.getValue() == currentClass) {
+                end++;
+            } else {
+                if (start >= 0) {
+                    previous = encodeClassRun(previous, start, end, currentClass, canonicalClasses);
+                }
+                start = end = entry.getKey();
+                currentClass = entry.getValue();
+            }
+        }
+        if (start >= 0) {
+            encodeClassRun(previous, start, end, currentClass, canonicalClasses);
+        }
+
+        BitSet excluded = new BitSet();
+        for (String token : tokens(data, "ExclusionList")) {
+            excluded.set(Integer.parseInt(token, 32));
+        }
+        BitSet compatibility = new BitSet();
+        for (String token : tokens(data, "CompatibilityList")) {
+            compatibility.set(Integer.parseInt(token, 32));
+        }
+        List<String> decompositionKeys = tokens(data, "DecompositionKeys");
+        List<String> decompositionValues = tokens(data, "DecompositionValues");
+        TreeMap<Integer, String> decompositions = new TreeMap<Integer, String>();
+        for (int i = 0; i < decompositionKeys.size(); i++) {
+            String hex = decompositionValues.get(i);
+            StringBuilder value = new StringBuilder();
+            for (int c = 0; c < hex.length(); c += 4) {
+                value.append((char)Integer.parseInt(hex.substring(c, c + 4), 16));
+            }
+            decompositions.put(Integer.parseInt(decompositionKeys.get(i), 32), value.toString());
+        }
+        StringBuilder keys = new StringBuilder();
+        StringBuilder values = new StringBuilder();
+        previous = 0;
+        for (Map.Entry<Integer, String> entry : decompositions.entrySet()) {
+            int key = entry.getKey();
+            encode(key - previous, keys);
+            encode(entry.getValue().length() * 4 + (compatibility.get(key) ? 2 : 0) + (excluded.get(key) ? 1 : 0), keys);
+            values.append(entry.getValue());
+            previous = key;
+        }
+
+        source = replace(source, "CANONICAL_CLASSES =", ";\n", "\n" + stringLiteral(canonicalClasses.toString(), LINE_LENGTH));
+        source = replace(source, "DECOMPOSITION_KEYS =", ";\n", "\n" + stringLiteral(keys.toString(), LINE_LENGTH));
+        return replace(source, "DECOMPOSITION_VALUES =", ";\n", "\n" + stringLiteral(values.toString(), CHARS_PER_LINE));
+    }
+
+    private static int encodeClassRun(int previous, int start, int end, int clss, StringBuilder out) {
+        encode(start - previous - 1, out);
+        encode(end - start, out);
+        encode(clss, out);
+        return end;
+    }
+
+    /**
+     * Generate CaseVariantData from casevariants.xml
+     */
+
+    private static String generateCaseVariants(Element data, String source) {
+        TreeMap<Integer, int[]> variants = new TreeMap<Integer, int[]>();
+        NodeList chars = data.getElementsByTagName("c");
+        for (int i = 0; i < chars.getLength(); i++) {
+            Element c = (Element)chars.item(i);
+            String[] hex = c.getAttribute("v").split(",");
+            int[] codes = new int[hex.length];
+            for (int v = 0; v < hex.length; v++) {
+                codes[v] = Integer.parseInt(hex[v], 16);
+            }
+            variants.put(Integer.parseInt(c.getAttribute("n"), 16), codes);
+        }
+        StringBuilder encoded = new StringBuilder();
+        int previous = -1;
+        for (Map.Entry<Integer, int[]> entry : variants.entrySet()) {
+            int code = entry.getKey();
+            encode(code - previous - 1, encoded);
+            encode(entry.getValue().length - 1, encoded);
+            for (int variant : entry.getValue()) {
+                int diff = variant - code;
+                encode(diff >= 0 ? 2 * diff : -2 * diff - 1, encoded);
+            }
+            previous = code;
+        }
+        return replace(source, "VARIANTS =", ";\n", "\n" + stringLiteral(encoded.toString(), LINE_LENGTH));
+    }
+
+    /**
+     * Append an unsigned integer, in the encoding used by the generated classes
+     */
+
+    private static void encode(int value, StringBuilder out) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Negative value " + value);
+        }
+        String hex = Integer.toHexString(value);
+        for (int i = 0; i < hex.length(); i++) {
+            int digit = Character.digit(hex.charAt(i), 16);
+            out.append((char)((i == hex.length() - 1 ? 'a' : 'A') + digit));
+        }
+    }
+
+    /**
+     * Write a string as a Java string literal, split into lines of a given number of characters, and
+     * concatenated using "+". The result is not terminated by a newline.
+     */
+
+    private static String stringLiteral(String value, int lineLength) {
+        StringBuilder out = new StringBuilder();
+        for (int i = 0; i < value.length() || i == 0; i += lineLength) {
+            out.append(i == 0 ? INDENT + "\"" : "\"\n" + INDENT + "+ \"");
+            String line = value.substring(i, Math.min(value.length(), i + lineLength));
+            for (int j = 0; j < line.length(); j++) {
+                char c = line.charAt(j);
+                if (c == '"' || c == '\\') {
+                    out.append('\\').append(c);
+                } else if (c >= 0x20 && c < 0x7f) {
+                    out.append(c);
+                } else {
+                    out.append(String.format("\\u%04x", (int)c));
+                }
+            }
+        }
+        return out.append('"').toString();
+    }
+
+    /**
+     * Replace the text between the end of a start marker and the start of an end marker
+     */
+
+    private static String replace(String source, String startMarker, String endMarker, String content) {
+        int start = source.indexOf(startMarker);
+        if (start < 0) {
+            throw new IllegalStateException("Cannot find " + startMarker + " in the target file");
+        }
+        start += startMarker.length();
+        int end = source.indexOf(endMarker, start);
+        if (end < 0) {
+            throw new IllegalStateException("Cannot find the end of " + startMarker + " in the target file");
+        }
+        return source.substring(0, start) + content + source.substring(end);
+    }
+
+    private static List<String> tokens(Element data, String elementName) {
+        String text = data.getElementsByTagName(elementName).item(0).getTextContent();
+        List<String> tokens = new ArrayList<String>();
+        for (String token : text.trim().split("\\s+")) {
+            if (token.length() > 0) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static Element parse(File file) throws Exception {
+        Document doc = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(file);
+        return doc.getDocumentElement();
+    }
+
+    private static String read(File file) throws IOException {
+        InputStream in = new FileInputStream(file);
+        try {
+            byte[] bytes = new byte[(int)file.length()];
+            int n = 0;
+            while (n < bytes.length) {
+                int r = in.read(bytes, n, bytes.length - n);
+                if (r < 0) {
+                    break;
+                }
+                n += r;
+            }
+            return new String(bytes, 0, n, "UTF-8");
+        } finally {
+            in.close();
+        }
+    }
+
+    private static void write(File file, String source) throws IOException {
+        OutputStream out = new FileOutputStream(file);
+        try {
+            out.write(source.getBytes("UTF-8"));
+        } finally {
+            out.close();
+        }
+    }
+
+}
+
+// This Source Code Form is subject to the terms of the Mozilla Public License, v. 2.0.
+// If a copy of the MPL was not distributed with this file, You can obtain one at http://mozilla.org/MPL/2.0/.
+// This Source Code Form is “Incompatible With Secondary Licenses”, as defined by the Mozilla Public License, v. 2.0.